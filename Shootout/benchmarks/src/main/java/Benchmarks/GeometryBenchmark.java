@@ -0,0 +1,146 @@
+package Benchmarks;
+
+import Model.GameConfig;
+import Model.GameSession;
+import Model.GoalieCrease;
+import Model.MovementManagers.MovementManagerPuck;
+import Model.Net;
+import Model.Position;
+import Model.Rink;
+import Model.Zone;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of the per-tick geometry queries: zone membership, board contact, net contact and
+ * the goalie crease. Every invocation runs the query once for each of SAMPLES positions drawn from
+ * one region of the ice, so the reported score is queries per microsecond. Run with -prof gc to
+ * confirm that none of the queries allocate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GeometryBenchmark {
+
+  static final int SAMPLES = 1024;
+
+  @Param({"CENTER_ICE", "ALONG_BOARDS", "CORNERS", "CREASE"})
+  public PositionDistribution distribution;
+
+  private Rink rink;
+  private Net[] nets;
+  private GoalieCrease[] creases;
+  private Zone[] owningZones;
+  private Position[] positions;
+  private MovementManagerPuck[] pucks;
+
+  /**
+   * Builds a session and samples the positions. Each position also gets a puck manager placed on
+   * it so that the board and net checks see their mobile points exactly as they would in a tick.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    GameSession session = new GameSession();
+    rink = session.getSessionRink();
+    nets = session.getSessionNets();
+    creases = new GoalieCrease[nets.length];
+    for (int i = 0; i < nets.length; i++) {
+      creases[i] = nets[i].getCrease();
+    }
+
+    double[] xs = new double[SAMPLES];
+    double[] ys = new double[SAMPLES];
+    distribution.fill(xs, ys, creases, 42L);
+
+    Zone[] zones = buildZones();
+    owningZones = new Zone[SAMPLES];
+    positions = new Position[SAMPLES];
+    pucks = new MovementManagerPuck[SAMPLES];
+    for (int i = 0; i < SAMPLES; i++) {
+      owningZones[i] = owningZone(zones, xs[i]);
+      positions[i] = new Position(xs[i], ys[i]);
+      pucks[i] = new MovementManagerPuck();
+      pucks[i].setSessionContext(session);
+      pucks[i].setPosition(xs[i], ys[i]);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLES)
+  public void zoneIsInsideZone(Blackhole blackhole) {
+    for (int i = 0; i < SAMPLES; i++) {
+      blackhole.consume(owningZones[i].isInsideZone(positions[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLES)
+  public void rinkIsMobileObjectTouchingBoards(Blackhole blackhole) {
+    for (int i = 0; i < SAMPLES; i++) {
+      blackhole.consume(rink.isMobileObjectTouchingBoards(pucks[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLES)
+  public void netIsTheMobileObjectTouchingNet(Blackhole blackhole) {
+    for (int i = 0; i < SAMPLES; i++) {
+      Net net = nets[i & 1];
+      blackhole.consume(net.isTheMobileObjectTouchingNet(pucks[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLES)
+  public void goalieCreaseIsInsideCrease(Blackhole blackhole) {
+    for (int i = 0; i < SAMPLES; i++) {
+      GoalieCrease crease = creases[i & 1];
+      blackhole.consume(crease.isInsideCrease(positions[i]));
+    }
+  }
+
+  /**
+   * The zones are private to Rink, so they are rebuilt here with the same split of the rink
+   * length: 5.5% behind each net, 32% for each end zone and 25% for neutral ice.
+   */
+  private static Zone[] buildZones() {
+    double length = GameConfig.RINK_LENGTH;
+    double height = GameConfig.RINK_HEIGHT;
+    double corner = GameConfig.RINK_CORNER_RADIUS;
+    double end1 = 0.055 * length;
+    double end2 = end1 + 0.32 * length;
+    double end3 = end2 + 0.25 * length;
+    double end4 = end3 + 0.32 * length;
+    return new Zone[] {
+        new Zone(Zone.ZoneType.LEFT_BEHIND_NET, 0, 0, end1, height, corner),
+        new Zone(Zone.ZoneType.LEFT_ZONE, end1, end2, 0, height),
+        new Zone(Zone.ZoneType.NEUTRAL_ZONE, end2, end3, 0, height),
+        new Zone(Zone.ZoneType.RIGHT_ZONE, end3, end4, 0, height),
+        new Zone(Zone.ZoneType.RIGHT_BEHIND_NET, end4, 0, length, height, corner)};
+  }
+
+  private static Zone owningZone(Zone[] zones, double x) {
+    for (Zone zone : zones) {
+      if (x < zone.getEndX()) {
+        return zone;
+      }
+    }
+    return zones[zones.length - 1];
+  }
+}
@@ -0,0 +1,118 @@
+package Benchmarks;
+
+import Model.GameConfig;
+import Model.GameSession;
+import Model.Goalie;
+import Model.MovementManagers.GoalieTable;
+import Model.MovementManagers.MovementManagerGoalie;
+import Model.MovementManagers.MovementManagerPuck;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of AI goalies positioned from a GoalieTable, the cost that decides how many bot
+ * goalies a server can run. A call ticks GOALIES goalies, half guarding each net, and every
+ * goalie sees the puck in a state of its own, sampled over the whole rink, as it would with one
+ * goalie per session. The table size is a parameter: the lookup is a direct index, so the cost
+ * per goalie should barely change between a table that fits in cache and one that does not. The
+ * reported score is goalie ticks per microsecond; run with -prof gc to confirm that a tick does
+ * not allocate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GoalieTableBenchmark {
+
+  static final int GOALIES = 1024;
+
+  /**
+   * Cells along each of the four axes of the table: 8 gives a 48 KiB table, 32 a 12 MiB one.
+   */
+  @Param({"8", "32"})
+  public int cellsPerAxis;
+
+  private double deltaTime;
+  private double[] xs;
+  private double[] ys;
+  private double[] xVelocities;
+  private double[] yVelocities;
+  private MovementManagerPuck puck;
+  private MovementManagerGoalie[] goalies;
+  private int offset;
+
+  /**
+   * Fills a table with targets in front of the net, samples the puck states and places the
+   * goalies in both creases. The targets only need to keep the goalies in their creases, since
+   * the cost of a lookup does not depend on what the table holds.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    GoalieTable table = GoalieTable.create(cellsPerAxis, cellsPerAxis, cellsPerAxis,
+        cellsPerAxis);
+    double middleY = GameConfig.RINK_HEIGHT / 2;
+    double lateral = GameConfig.GOALIE_CREASE_RADIUS / 2;
+    for (int cell = 0; cell < table.getCellCount(); cell++) {
+      double offsetY = (table.getCellY(cell) - middleY) / middleY * lateral;
+      table.setCell(cell, GameConfig.GOALIE_CREASE_RADIUS / 4, middleY + offsetY, 0.5);
+    }
+
+    GameSession session = new GameSession();
+    deltaTime = session.getFixedDeltaTime();
+    puck = session.getSessionPuck().getMovementManagerPuck();
+    Goalie[] spots = {session.getSessionLeftGoalie(), session.getSessionRightGoalie()};
+    goalies = new MovementManagerGoalie[GOALIES];
+    for (int i = 0; i < GOALIES; i++) {
+      goalies[i] = new MovementManagerGoalie();
+      goalies[i].setSessionContext(session);
+      Goalie spot = spots[i % spots.length];
+      goalies[i].setPosition(spot.getPosition().getXCoord(), spot.getPosition().getYCoord());
+      goalies[i].setGoalieTable(table);
+    }
+
+    xs = new double[GOALIES];
+    ys = new double[GOALIES];
+    xVelocities = new double[GOALIES];
+    yVelocities = new double[GOALIES];
+    Random random = new Random(42L);
+    for (int i = 0; i < GOALIES; i++) {
+      double angle = random.nextDouble() * Math.PI * 2;
+      double speed = random.nextDouble() * GameConfig.PUCK_MAX_VELOCITY;
+      xs[i] = random.nextDouble() * GameConfig.RINK_LENGTH;
+      ys[i] = random.nextDouble() * GameConfig.RINK_HEIGHT;
+      xVelocities[i] = Math.cos(angle) * speed;
+      yVelocities[i] = Math.sin(angle) * speed;
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(GOALIES)
+  public void tableGoalieUpdateMovement(Blackhole blackhole) {
+    //Shift the puck states by one every call, so each goalie keeps seeing new ones.
+    offset = (offset + 1) % GOALIES;
+    for (int i = 0; i < GOALIES; i++) {
+      int sample = (i + offset) % GOALIES;
+      puck.setPosition(xs[sample], ys[sample]);
+      puck.setXVelocity(xVelocities[sample]);
+      puck.setYVelocity(yVelocities[sample]);
+      goalies[i].updateMovement(deltaTime);
+      blackhole.consume(goalies[i].getXVelocity());
+    }
+  }
+}
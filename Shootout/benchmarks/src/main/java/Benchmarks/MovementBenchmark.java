@@ -0,0 +1,116 @@
+package Benchmarks;
+
+import Model.GameConfig;
+import Model.GameSession;
+import Model.GoalieCrease;
+import Model.MovementManagers.MovementManagerPuck;
+import Model.MovementManagers.MovementManagerSkater;
+import Model.Net;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of a full movement tick for the skater and the puck. A tick moves the object, so
+ * each call first restores one of the sampled starting states (position and velocity) and then
+ * runs updateMovement once. Without the restore every object would slide to a stop within a few
+ * thousand ticks and the benchmark would only measure objects at rest. The reported score is
+ * ticks per microsecond; run with -prof gc to confirm that a tick does not allocate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MovementBenchmark {
+
+  static final int SAMPLES = 1024;
+
+  @Param({"CENTER_ICE", "ALONG_BOARDS", "CORNERS", "CREASE"})
+  public PositionDistribution distribution;
+
+  private double deltaTime;
+  private double[] xs;
+  private double[] ys;
+  private double[] xVelocities;
+  private double[] yVelocities;
+  private MovementManagerSkater skater;
+  private MovementManagerPuck puck;
+
+  /**
+   * Samples the starting states. Velocities point in a random direction at up to the maximum
+   * speed of each object, so states near the boards and nets exercise the collision response.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    GameSession session = new GameSession();
+    Net[] nets = session.getSessionNets();
+    GoalieCrease[] creases = new GoalieCrease[nets.length];
+    for (int i = 0; i < nets.length; i++) {
+      creases[i] = nets[i].getCrease();
+    }
+    deltaTime = session.getFixedDeltaTime();
+
+    xs = new double[SAMPLES];
+    ys = new double[SAMPLES];
+    distribution.fill(xs, ys, creases, 42L);
+    xVelocities = new double[SAMPLES];
+    yVelocities = new double[SAMPLES];
+    Random random = new Random(7L);
+    for (int i = 0; i < SAMPLES; i++) {
+      double angle = random.nextDouble() * Math.PI * 2;
+      double speed = random.nextDouble();
+      xVelocities[i] = Math.cos(angle) * speed;
+      yVelocities[i] = Math.sin(angle) * speed;
+    }
+
+    skater = new MovementManagerSkater();
+    skater.setSessionContext(session);
+    skater.setRadius(GameConfig.SKATER_RADIUS);
+    skater.setKeyPressed(GameConfig.DIRECTION.RIGHT, true);
+    skater.setKeyPressed(GameConfig.DIRECTION.UP, true);
+
+    puck = new MovementManagerPuck();
+    puck.setSessionContext(session);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLES)
+  public void skaterUpdateMovement(Blackhole blackhole) {
+    double maxVelocity = GameConfig.SKATER_MAX_VELOCITY;
+    for (int i = 0; i < SAMPLES; i++) {
+      skater.setPosition(xs[i], ys[i]);
+      skater.setXVelocity(xVelocities[i] * maxVelocity);
+      skater.setYVelocity(yVelocities[i] * maxVelocity);
+      skater.updateMovement(deltaTime);
+      blackhole.consume(skater.getXVelocity());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SAMPLES)
+  public void puckUpdateMovement(Blackhole blackhole) {
+    double maxVelocity = GameConfig.PUCK_MAX_VELOCITY;
+    for (int i = 0; i < SAMPLES; i++) {
+      puck.setPosition(xs[i], ys[i]);
+      puck.setXVelocity(xVelocities[i] * maxVelocity);
+      puck.setYVelocity(yVelocities[i] * maxVelocity);
+      puck.updateMovement(deltaTime);
+      blackhole.consume(puck.getXVelocity());
+    }
+  }
+}
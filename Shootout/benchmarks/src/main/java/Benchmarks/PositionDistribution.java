@@ -0,0 +1,72 @@
+package Benchmarks;
+
+import Model.GameConfig;
+import Model.GoalieCrease;
+import java.util.Random;
+
+/**
+ * The regions of the ice that the geometry benchmarks sample positions from. Each region takes a
+ * different path through the zone, board and net checks, so measuring them separately keeps a
+ * cheap case (open ice) from hiding an expensive one (the rounded corners).
+ */
+public enum PositionDistribution {
+
+  /** Open ice around the centre of the rink, far from the boards and both nets. */
+  CENTER_ICE,
+
+  /** A band hugging the top and bottom boards between the two rounded corners. */
+  ALONG_BOARDS,
+
+  /** The four square corner regions, where the boards curve. */
+  CORNERS,
+
+  /** Inside and just around the two goalie creases, next to the nets. */
+  CREASE;
+
+  private static final double BOARD_BAND = GameConfig.SKATER_RADIUS;
+
+  /**
+   * Method to fill the given coordinate arrays with positions drawn from this region. The same
+   * seed always produces the same positions so that runs can be compared.
+   *
+   * @param xs      the array to fill with x-coordinates.
+   * @param ys      the array to fill with y-coordinates, the same length as xs.
+   * @param creases the goalie creases of the rink being measured, used by CREASE.
+   * @param seed    the seed for the random source.
+   */
+  public void fill(double[] xs, double[] ys, GoalieCrease[] creases, long seed) {
+    Random random = new Random(seed);
+    double length = GameConfig.RINK_LENGTH;
+    double height = GameConfig.RINK_HEIGHT;
+    double corner = GameConfig.RINK_CORNER_RADIUS;
+
+    for (int i = 0; i < xs.length; i++) {
+      switch (this) {
+        case CENTER_ICE:
+          xs[i] = length / 2 + (random.nextDouble() - 0.5) * length * 0.3;
+          ys[i] = height / 2 + (random.nextDouble() - 0.5) * height * 0.6;
+          break;
+        case ALONG_BOARDS:
+          xs[i] = corner + random.nextDouble() * (length - corner * 2);
+          double offset = random.nextDouble() * BOARD_BAND;
+          ys[i] = random.nextBoolean() ? offset : height - offset;
+          break;
+        case CORNERS:
+          double cornerX = random.nextDouble() * corner;
+          double cornerY = random.nextDouble() * corner;
+          xs[i] = random.nextBoolean() ? cornerX : length - cornerX;
+          ys[i] = random.nextBoolean() ? cornerY : height - cornerY;
+          break;
+        case CREASE:
+          GoalieCrease crease = creases[random.nextInt(creases.length)];
+          double angle = random.nextDouble() * Math.PI * 2;
+          double distance = random.nextDouble() * crease.getRadius() * 1.5;
+          xs[i] = crease.getCenterX() + Math.cos(angle) * distance;
+          ys[i] = crease.getCenterY() + Math.sin(angle) * distance;
+          break;
+        default:
+          throw new IllegalStateException("Unknown Distribution: " + this);
+      }
+    }
+  }
+}
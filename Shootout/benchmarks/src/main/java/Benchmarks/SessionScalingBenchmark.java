@@ -0,0 +1,73 @@
+package Benchmarks;
+
+import Engine.SessionScheduler;
+import Model.GameSession;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of SessionScheduler.tickAll as more worker threads tick the same set of independent
+ * sessions. The score is session-ticks per millisecond; dividing each score by the one for a
+ * single worker gives the speedup, and near-linear scaling shows up as a speedup close to the
+ * worker count, up to the number of cores. Every call first shoots each session's puck again and
+ * then ticks all sessions for a second of game time, so that no session has come to rest and
+ * gone to sleep while it is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SessionScalingBenchmark {
+
+  static final int SESSIONS = 512;
+  static final int TICKS = 60;
+
+  @Param({"1", "2", "4", "8"})
+  public int workers;
+
+  private GameSession[] sessions;
+  private SessionScheduler scheduler;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    scheduler = new SessionScheduler(workers);
+    sessions = new GameSession[SESSIONS];
+    for (int i = 0; i < SESSIONS; i++) {
+      sessions[i] = new GameSession();
+      scheduler.addSession(sessions[i]);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    scheduler.shutdown();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SESSIONS * TICKS)
+  public int tickAll() {
+    for (int i = 0; i < SESSIONS; i++) {
+      sessions[i].getSessionPuck().getMovementManagerPuck().handleShot(i * 0.37, 1 + (i % 4));
+    }
+    int failed = 0;
+    for (int tick = 0; tick < TICKS; tick++) {
+      failed += scheduler.tickAll();
+    }
+    return failed;
+  }
+}
@@ -0,0 +1,51 @@
+package Model;
+
+/**
+ * This class holds the result of a circle-versus-boards query on the Rink: how far a circle has
+ * pushed past the boards, and the outward normal of the boards at the point of contact. The same
+ * holder is used for a circle overlapping the posts of a Net, where the normal points from the
+ * circle into the post. It is mutable so that every MovementManager can keep one and reuse it on
+ * every tick.
+ */
+public class BoardContact {
+  private double penetration;
+  private double normalX;
+  private double normalY;
+
+  /**
+   * Overwrite the result held by this contact.
+   * @param penetration how far the circle extends past the boards. Positive when touching.
+   * @param normalX     x-component of the unit outward normal of the boards.
+   * @param normalY     y-component of the unit outward normal of the boards.
+   */
+  void set(double penetration, double normalX, double normalY) {
+    this.penetration = penetration;
+    this.normalX = normalX;
+    this.normalY = normalY;
+  }
+
+  /**
+   * Get how far the circle extends past the boards. Moving the circle back by this distance
+   * against the normal puts it exactly against the boards.
+   * @return penetration depth. Zero or negative means no contact.
+   */
+  public double getPenetration() {
+    return penetration;
+  }
+
+  /**
+   * Get the x-component of the unit normal pointing out of the rink, through the boards.
+   * @return x-component of the outward normal.
+   */
+  public double getNormalX() {
+    return normalX;
+  }
+
+  /**
+   * Get the y-component of the unit normal pointing out of the rink, through the boards.
+   * @return y-component of the outward normal.
+   */
+  public double getNormalY() {
+    return normalY;
+  }
+}
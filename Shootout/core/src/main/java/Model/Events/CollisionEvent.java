@@ -0,0 +1,69 @@
+package Model.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a mobile object being resolved against the boards or a net.
+ */
+@Name("shootout.Collision")
+@Label("Collision Resolution")
+@Category({"Shootout", "Simulation"})
+@Description("A mobile object was pushed out of, or bounced off, the boards or a net")
+@StackTrace(false)
+public final class CollisionEvent extends Event {
+  /**
+   * Surface name for contacts with the boards.
+   */
+  public static final String BOARDS = "Boards";
+
+  /**
+   * Surface name for contacts with a net.
+   */
+  public static final String NET = "Net";
+
+  private static final EventType TYPE = EventType.getEventType(CollisionEvent.class);
+
+  @Label("Object Type")
+  @Description("Movement manager of the object that collided")
+  private Class<?> objectType;
+
+  @Label("Surface")
+  private String surface;
+
+  @Label("Contact Mask")
+  @Description("Bitmask of the mobile points in contact, bit 0 being the top-most point. For the "
+      + "puck, the points facing the spot where it touches the surface")
+  private int contactMask;
+
+  /**
+   * Check whether any recording has this event enabled. Callers only need this when working out
+   * the event's fields costs something on its own.
+   * @return is the event enabled?
+   */
+  public static boolean isRecording() {
+    return TYPE.isEnabled();
+  }
+
+  /**
+   * Commit a collision event if any recording has it enabled; otherwise do nothing.
+   * @param objectType  class of the movement manager that collided.
+   * @param surface     BOARDS or NET.
+   * @param contactMask bitmask of the mobile points in contact.
+   */
+  public static void commitIfEnabled(Class<?> objectType, String surface, int contactMask) {
+    if (!TYPE.isEnabled()) {
+      return;
+    }
+    CollisionEvent event = new CollisionEvent();
+    event.objectType = objectType;
+    event.surface = surface;
+    event.contactMask = contactMask;
+    event.commit();
+  }
+}
@@ -0,0 +1,47 @@
+package Model.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a goal being detected in a net.
+ */
+@Name("shootout.Goal")
+@Label("Goal")
+@Category({"Shootout", "Simulation"})
+@Description("The puck crossed into a net")
+@StackTrace(false)
+public final class GoalEvent extends Event {
+  private static final EventType TYPE = EventType.getEventType(GoalEvent.class);
+
+  @Label("Net Side")
+  private String netSide;
+
+  @Label("Puck X")
+  private double puckX;
+
+  @Label("Puck Y")
+  private double puckY;
+
+  /**
+   * Commit a goal event if any recording has it enabled; otherwise do nothing.
+   * @param netSide name of the side of the rink the net is on.
+   * @param puckX   x-coordinate of the puck when the goal was detected.
+   * @param puckY   y-coordinate of the puck when the goal was detected.
+   */
+  public static void commitIfEnabled(String netSide, double puckX, double puckY) {
+    if (!TYPE.isEnabled()) {
+      return;
+    }
+    GoalEvent event = new GoalEvent();
+    event.netSide = netSide;
+    event.puckX = puckX;
+    event.puckY = puckY;
+    event.commit();
+  }
+}
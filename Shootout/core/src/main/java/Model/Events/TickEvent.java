@@ -0,0 +1,65 @@
+package Model.Events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one fixed simulation step of a GameSession. Its duration is the time
+ * the tick took, so tick-time outliers can be lined up against GC pauses and JIT activity in the
+ * same recording.
+ */
+@Name("shootout.Tick")
+@Label("Simulation Tick")
+@Category({"Shootout", "Simulation"})
+@Description("One fixed simulation step of a game session")
+@StackTrace(false)
+public final class TickEvent extends Event {
+  private static final EventType TYPE = EventType.getEventType(TickEvent.class);
+
+  @Label("Session Id")
+  private long sessionId;
+
+  @Label("Tick")
+  private long tick;
+
+  @Label("Object Count")
+  private int objectCount;
+
+  @Label("Sub-steps")
+  @Description("Number of steps the tick was split into while something moved fast")
+  private int subSteps;
+
+  /**
+   * Start timing a tick, if any recording has this event enabled. When none does, nothing is
+   * allocated and the caller has nothing to commit.
+   * @return a started event, or null when the event is disabled.
+   */
+  public static TickEvent beginIfEnabled() {
+    if (!TYPE.isEnabled()) {
+      return null;
+    }
+    TickEvent event = new TickEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Fill in the tick that just finished and commit this event.
+   * @param sessionId   id of the session that ticked.
+   * @param tick        number of the tick that finished.
+   * @param objectCount number of mobile objects updated during the tick.
+   * @param subSteps    number of steps the tick was split into.
+   */
+  public void commit(long sessionId, long tick, int objectCount, int subSteps) {
+    this.sessionId = sessionId;
+    this.tick = tick;
+    this.objectCount = objectCount;
+    this.subSteps = subSteps;
+    commit();
+  }
+}
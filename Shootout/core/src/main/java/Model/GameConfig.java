@@ -11,6 +11,7 @@ public class GameConfig {
   //Rink Dimensions
   public static final double RINK_LENGTH = 200.0;
   public static final double RINK_HEIGHT = 85.0;
+  public static final double RINK_CORNER_RADIUS = RINK_LENGTH * 0.055;
 
   //Zone Start X-Value
   public static final double LEFT_GOAL_LINE_X = RINK_LENGTH * 0.055;
@@ -37,6 +38,12 @@ public class GameConfig {
       //Generic Movement Constants
   public static final double FRICTION = 0.5;
   public static final double DAMPING = 0.98;
+  public static final double BOARD_RESTITUTION = 1.0;
+
+      //Sleeping: objects slower than SLEEP_SPEED with no input for SLEEP_DELAY seconds
+      //stop updating
+  public static final double SLEEP_SPEED = 0.5;
+  public static final double SLEEP_DELAY = 0.5;
 
 
   //Skater Size
@@ -55,4 +62,13 @@ public class GameConfig {
 
   //Position of Spawns
   public static final Position PUCK_START_POS = new Position(RINK_LENGTH/2, RINK_HEIGHT/2);
+  public static final Position SKATER_START_POS = new Position(RINK_LENGTH/2, RINK_HEIGHT/4);
+
+  //Simulation Timing
+  public static final double TICK_RATE = 60.0;
+  public static final int MAX_CATCH_UP_TICKS = 5;
+
+  //Sub-stepping
+  public static final double SUBSTEP_FEATURE_FRACTION = 0.25;
+  public static final int MAX_SUBSTEPS = 8;
 }
@@ -0,0 +1,583 @@
+package Model;
+
+import Model.Events.TickEvent;
+import Model.Player.TEAM;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class GameSession implements SessionContext {
+  /**
+   * Marks the start of a snapshot, so that restoring from the wrong bytes fails loudly.
+   */
+  private static final int SNAPSHOT_MAGIC = 0x53484753; //"SHGS": SHootout Game Snapshot
+
+  /**
+   * Snapshot bytes used by the session itself: magic, layout size, tick and dropped tick counts,
+   * accumulator, interpolation alpha and the index of the puck's possessor.
+   */
+  private static final int SESSION_STATE_BYTES =
+      Integer.BYTES * 2 + Long.BYTES * 2 + Double.BYTES * 2 + Integer.BYTES;
+
+  private static final AtomicLong NEXT_SESSION_ID = new AtomicLong();
+
+  /**
+   * The furthest any object may move in one step: a share of the smallest feature it could pass
+   * through, the puck or the thickness of a net.
+   */
+  private static final double MAX_STEP_DISPLACEMENT =
+      Math.min(GameConfig.PUCK_RADIUS, GameConfig.NET_THICKNESS)
+          * GameConfig.SUBSTEP_FEATURE_FRACTION;
+
+  private final long sessionId;
+  private Player skater;
+  private Goalie goalie1;
+  private Goalie goalie2;
+  private Puck puck;
+  private Net[] nets;
+  private Rink rink;
+  private MobileObject[] mobileObjects;
+  private final SpatialHash broadPhase;
+  private int snapshotSize;
+  private InputSource inputSource;
+  private TickListener tickListener;
+
+  //Fixed timestep state
+  private final double tickRate;
+  private final double fixedDeltaTime;
+  private final int maxCatchUpTicks;
+  private double accumulator;
+  private double interpolationAlpha;
+  private long tickCount;
+  private long droppedTicks;
+  private int lastSubSteps;
+  private long totalSubSteps;
+  //How far behind the present the tick being run is, while advance is catching up.
+  private double tickLag;
+
+  /**
+   * Constrctor for a GameSession. This is what dictates, manages and creates each game scene.
+   * This constructor takes in only a Player, and resembles a 1v1 vs a goalie in a shootout, where
+   * the player is the Skater.
+   * Goalie1 is the left goalie.
+   * Goalie2 is the right goalie.
+   * Net[] is an array of 2 nets. Index 0 is the left net, index 1 is the right net.
+   */
+  public GameSession(Player player1) {
+    this(player1, GameConfig.TICK_RATE, GameConfig.MAX_CATCH_UP_TICKS);
+  }
+
+  /**
+   * Constrctor for a GameSession with a configurable simulation rate. The session is advanced in
+   * fixed steps of 1 / tickRate seconds, no matter how irregular the frames calling advance are.
+   * @param player1         the Skater controlled in this session.
+   * @param tickRate        number of simulation ticks per second.
+   * @param maxCatchUpTicks the most ticks a single call to advance may run before dropping the
+   *                        remaining backlog.
+   * @throws IllegalArgumentException if the tick rate or catch-up budget are not positive.
+   */
+  public GameSession(Player player1, double tickRate, int maxCatchUpTicks)
+      throws IllegalArgumentException {
+    if (tickRate <= 0 || maxCatchUpTicks <= 0) {
+      throw new IllegalArgumentException("Tick rate and catch-up budget must be positive!");
+    }
+    sessionId = NEXT_SESSION_ID.incrementAndGet();
+    rink = new Rink(GameConfig.RINK_LENGTH, GameConfig.RINK_HEIGHT);
+    nets = rink.getNets();
+    skater = player1;
+    goalie1 = new Goalie();
+    goalie2 = new Goalie();
+    puck = new Puck();
+    mobileObjects = new MobileObject[] {skater, goalie1, goalie2, puck};
+    for (MobileObject obj : mobileObjects) {
+      obj.attachToSession(this);
+    }
+
+    broadPhase = new SpatialHash();
+    this.tickRate = tickRate;
+    fixedDeltaTime = 1.0 / tickRate;
+    this.maxCatchUpTicks = maxCatchUpTicks;
+    accumulator = 0;
+    interpolationAlpha = 0;
+    tickCount = 0;
+    droppedTicks = 0;
+    lastSubSteps = 0;
+    totalSubSteps = 0;
+    tickLag = 0;
+
+    placeAtSpawns();
+    snapshotSize = computeSnapshotSize();
+  }
+
+  /**
+   * Constrctor for a GameSession. This is what dictates, manages and creates each game scene.
+   * This constructor takes in only a Player, and resembles a 1v1 vs a goalie in a shootout, where
+   * the player is the Skater.
+   * Goalie1 is the left goalie.
+   * Goalie2 is the right goalie.
+   * Net[] is an array of 2 nets. Index 0 is the left net, index 1 is the right net.
+   */
+  public GameSession() {
+    this(new Skater());
+  }
+
+  /**
+   * Move every object in the session to where it should start the shootout. The skater and puck
+   * use their configured spawns, and each goalie is placed inside the crease of its net.
+   */
+  private void placeAtSpawns() {
+    skater.setPosition(GameConfig.SKATER_START_POS.getXCoord(),
+        GameConfig.SKATER_START_POS.getYCoord());
+    puck.setPosition(GameConfig.PUCK_START_POS.getXCoord(), GameConfig.PUCK_START_POS.getYCoord());
+    placeGoalieInCrease(goalie1, nets[0]);
+    placeGoalieInCrease(goalie2, nets[1]);
+  }
+
+  /**
+   * Place a goalie halfway between the goal line and the edge of the given net's crease.
+   * @param goalie goalie to place.
+   * @param net    net that the goalie is guarding.
+   */
+  private void placeGoalieInCrease(Goalie goalie, Net net) {
+    GoalieCrease crease = net.getCrease();
+    double offset = crease.getRadius() / 2;
+    if (net.getNetSide() == Net.NetSide.LEFT) {
+      goalie.setPosition(crease.getCenterX() + offset, crease.getCenterY());
+    } else {
+      goalie.setPosition(crease.getCenterX() - offset, crease.getCenterY());
+    }
+  }
+
+  /**
+   * Advance the session by the real time that passed since the last frame. The time is added to
+   * an accumulator, and the simulation is stepped in fixed ticks until less than one tick remains.
+   * At most maxCatchUpTicks ticks are run per call; if the session is still behind after that,
+   * the remaining backlog is dropped so that one slow frame cannot snowball into the next.
+   * @param frameTime seconds of real time since the previous call.
+   * @return number of ticks that were simulated during this call.
+   */
+  public int advance(double frameTime) {
+    if (frameTime > 0) {
+      accumulator += frameTime;
+    }
+
+    int ticksRun = 0;
+    while (accumulator >= fixedDeltaTime && ticksRun < maxCatchUpTicks) {
+      tickLag = accumulator - fixedDeltaTime;
+      //The alpha that is left if this turns out to be the last tick, for the tick listener.
+      interpolationAlpha = (tickLag % fixedDeltaTime) / fixedDeltaTime;
+      tick();
+      accumulator -= fixedDeltaTime;
+      ticksRun++;
+    }
+    tickLag = 0;
+
+    //Spiral of death guard: keep only the fraction of a tick, drop whole ticks we can't afford.
+    if (accumulator >= fixedDeltaTime) {
+      long behind = (long) (accumulator / fixedDeltaTime);
+      droppedTicks += behind;
+      accumulator -= behind * fixedDeltaTime;
+    }
+
+    interpolationAlpha = accumulator / fixedDeltaTime;
+    return ticksRun;
+  }
+
+  /**
+   * Run exactly one fixed simulation tick for every awake mobile object in the session, checking
+   * both nets for a goal. Sleeping objects are not moved, but their previous position is still
+   * stored so that interpolation never blends in a stale spot. While something is moving fast,
+   * the tick is split into several shorter steps, as decided by subStepsFor from the fastest
+   * object's speed at the start of the tick. The session's input source, if it has one, applies
+   * the inputs of the tick before anything moves, and its tick listener, if it has one, sees the
+   * session once the tick is complete. While a Flight Recorder recording has it enabled, each tick
+   * is also committed as a TickEvent.
+   */
+  public void tick() {
+    TickEvent event = TickEvent.beginIfEnabled();
+    if (inputSource != null) {
+      inputSource.beforeTick(tickLag);
+    }
+    double maxSpeedSquared = 0;
+    for (MobileObject obj : mobileObjects) {
+      obj.storePreviousPosition();
+      if (!obj.isSleeping()) {
+        double xVelocity = obj.getXVelocity();
+        double yVelocity = obj.getYVelocity();
+        maxSpeedSquared = Math.max(maxSpeedSquared, xVelocity * xVelocity + yVelocity * yVelocity);
+      }
+    }
+    int subSteps = subStepsFor(Math.sqrt(maxSpeedSquared), fixedDeltaTime);
+    double subDeltaTime = fixedDeltaTime / subSteps;
+    for (int step = 0; step < subSteps; step++) {
+      runStep(subDeltaTime);
+    }
+    lastSubSteps = subSteps;
+    totalSubSteps += subSteps;
+    tickCount++;
+    if (event != null) {
+      event.commit(sessionId, tickCount, mobileObjects.length, subSteps);
+    }
+    if (tickListener != null) {
+      tickListener.afterTick(this);
+    }
+  }
+
+  /**
+   * Update every awake object by one step, then look for contacts between objects and goals.
+   * @param deltaTime length of the step.
+   */
+  private void runStep(double deltaTime) {
+    int awake = 0;
+    for (MobileObject obj : mobileObjects) {
+      if (!obj.isSleeping()) {
+        obj.update(deltaTime);
+        obj.updateSleep(deltaTime);
+        awake++;
+      }
+    }
+    if (awake > 0) {
+      detectObjectCollisions();
+    } else {
+      //Nothing moved, so nothing can have come into contact.
+      broadPhase.clear();
+    }
+    for (Net net : nets) {
+      net.checkGoal(puck);
+    }
+  }
+
+  /**
+   * Get the number of steps a tick is split into when its fastest object moves at the given
+   * speed. A tick is only split while that object would otherwise move further than
+   * SUBSTEP_FEATURE_FRACTION of the smallest feature, the puck or a net's thickness, and never
+   * into more than MAX_SUBSTEPS steps.
+   * @param speed     speed of the fastest object.
+   * @param deltaTime length of the tick.
+   * @return number of steps, at least 1.
+   */
+  public static int subStepsFor(double speed, double deltaTime) {
+    double displacement = speed * deltaTime;
+    if (displacement <= MAX_STEP_DISPLACEMENT) {
+      return 1;
+    }
+    double steps = Math.ceil(displacement / MAX_STEP_DISPLACEMENT);
+    return (int) Math.min(GameConfig.MAX_SUBSTEPS, steps);
+  }
+
+  /**
+   * Broad phase for collisions between mobile objects. Every object is placed in the session's
+   * SpatialHash, and only the candidate pairs it reports are handed to the objects to resolve. A
+   * sleeping object touched by an awake one is woken up.
+   */
+  private void detectObjectCollisions() {
+    broadPhase.clear();
+    for (int i = 0; i < mobileObjects.length; i++) {
+      Position position = mobileObjects[i].getPosition();
+      broadPhase.insert(i, position.getXCoord(), position.getYCoord(),
+          mobileObjects[i].getRadius());
+    }
+    int pairs = broadPhase.findPairs();
+    for (int i = 0; i < pairs; i++) {
+      MobileObject first = mobileObjects[broadPhase.getPairFirst(i)];
+      MobileObject second = mobileObjects[broadPhase.getPairSecond(i)];
+      if (first.isSleeping() != second.isSleeping() && areTouching(first, second)) {
+        first.wake();
+        second.wake();
+      }
+      if (first instanceof Skater && second instanceof Skater) {
+        ((Skater) first).handleSkaterOnSkaterCollision((Skater) second);
+      }
+    }
+  }
+
+  private static boolean areTouching(MobileObject first, MobileObject second) {
+    Position a = first.getPosition();
+    Position b = second.getPosition();
+    double dx = a.getXCoord() - b.getXCoord();
+    double dy = a.getYCoord() - b.getYCoord();
+    double reach = first.getRadius() + second.getRadius();
+    return dx * dx + dy * dy <= reach * reach;
+  }
+
+  /**
+   * Add another mobile object to this session, such as an extra skater or puck in a practice
+   * scenario. The object is attached to this session and updated on every following tick.
+   * @param obj the mobile object to add.
+   */
+  public void addMobileObject(MobileObject obj) {
+    MobileObject[] grown = Arrays.copyOf(mobileObjects, mobileObjects.length + 1);
+    grown[mobileObjects.length] = obj;
+    obj.attachToSession(this);
+    mobileObjects = grown;
+    snapshotSize = computeSnapshotSize();
+  }
+
+  /**
+   * Get the number of bytes that saveSnapshot writes. The size only changes when an object is
+   * added to the session, so a buffer of this size can be reused for every snapshot.
+   * @return size of a snapshot of this session, in bytes.
+   */
+  public int getSnapshotSize() {
+    return snapshotSize;
+  }
+
+  /**
+   * Allocate a direct, native-order buffer that holds exactly one snapshot of this session.
+   * @return a buffer to pass to saveSnapshot and restoreSnapshot.
+   */
+  public ByteBuffer allocateSnapshotBuffer() {
+    return ByteBuffer.allocateDirect(snapshotSize).order(ByteOrder.nativeOrder());
+  }
+
+  /**
+   * Write the complete simulation state of this session into the buffer, starting at the
+   * buffer's position, in a fixed layout: the session's own state, then every mobile object in
+   * order, then every net. Nothing is allocated, so a snapshot can be taken every tick.
+   * @param buffer buffer with at least getSnapshotSize bytes remaining.
+   * @throws IllegalArgumentException if the buffer does not have room for a snapshot.
+   */
+  public void saveSnapshot(ByteBuffer buffer) throws IllegalArgumentException {
+    if (buffer.remaining() < snapshotSize) {
+      throw new IllegalArgumentException("Snapshot needs " + snapshotSize + " bytes, buffer has "
+          + buffer.remaining() + "!");
+    }
+    buffer.putInt(SNAPSHOT_MAGIC);
+    buffer.putInt(snapshotSize);
+    buffer.putLong(tickCount);
+    buffer.putLong(droppedTicks);
+    buffer.putDouble(accumulator);
+    buffer.putDouble(interpolationAlpha);
+    buffer.putInt(indexOfMobileObject(puck.getPossessor()));
+    for (MobileObject obj : mobileObjects) {
+      obj.saveState(buffer);
+    }
+    for (Net net : nets) {
+      net.saveState(buffer);
+    }
+  }
+
+  /**
+   * Make a snapshot written by saveSnapshot the current state of this session, reading from the
+   * buffer's position. The snapshot may come from another session, as long as both sessions hold
+   * the same objects in the same order; this is how many sessions are forked from one state.
+   * @param buffer buffer positioned at the start of a snapshot.
+   * @throws IllegalArgumentException if the buffer does not hold a snapshot with this session's
+   *                                  layout.
+   */
+  public void restoreSnapshot(ByteBuffer buffer) throws IllegalArgumentException {
+    if (buffer.remaining() < snapshotSize) {
+      throw new IllegalArgumentException("Snapshot needs " + snapshotSize + " bytes, buffer has "
+          + buffer.remaining() + "!");
+    }
+    int start = buffer.position();
+    if (buffer.getInt(start) != SNAPSHOT_MAGIC || buffer.getInt(start + Integer.BYTES)
+        != snapshotSize) {
+      throw new IllegalArgumentException("Buffer does not hold a snapshot of this session's "
+          + "layout!");
+    }
+    buffer.position(start + Integer.BYTES * 2);
+    tickCount = buffer.getLong();
+    droppedTicks = buffer.getLong();
+    accumulator = buffer.getDouble();
+    interpolationAlpha = buffer.getDouble();
+    int possessor = buffer.getInt();
+    for (MobileObject obj : mobileObjects) {
+      obj.restoreState(buffer);
+    }
+    for (Net net : nets) {
+      net.restoreState(buffer);
+    }
+    if (possessor >= 0) {
+      puck.setPossession((Player) mobileObjects[possessor], true);
+    } else {
+      puck.setPossession(null, false);
+    }
+  }
+
+  private int computeSnapshotSize() {
+    int size = SESSION_STATE_BYTES;
+    for (MobileObject obj : mobileObjects) {
+      size += obj.getStateSize();
+    }
+    return size + nets.length;
+  }
+
+  private int indexOfMobileObject(MobileObject obj) {
+    for (int i = 0; i < mobileObjects.length; i++) {
+      if (mobileObjects[i] == obj) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Get the id of this session, unique among the sessions created by this JVM. It identifies the
+   * session in Flight Recorder events; it is not part of a snapshot.
+   * @return id of this session.
+   */
+  public long getSessionId() {
+    return sessionId;
+  }
+
+  /**
+   * Get the broad phase used to find object-versus-object collisions. After a tick it holds the
+   * candidate pairs found during that tick, as indices into getMobileObjects.
+   * @return the session's SpatialHash.
+   */
+  public SpatialHash getBroadPhase() {
+    return broadPhase;
+  }
+
+  /**
+   * Get the fraction of a tick that the accumulator holds after the last advance. Renderers should
+   * blend each object's previous and current tick positions by this amount.
+   * @return interpolation alpha, from 0 (inclusive) to 1 (exclusive).
+   */
+  public double getInterpolationAlpha() {
+    return interpolationAlpha;
+  }
+
+  /**
+   * Set what feeds player input into this session. It is asked for the inputs of every tick just
+   * before the tick runs.
+   * @param inputSource the input source, or null to take no input at the start of a tick.
+   */
+  public void setInputSource(InputSource inputSource) {
+    this.inputSource = inputSource;
+  }
+
+  /**
+   * Get what feeds player input into this session.
+   * @return the input source, or null if the session has none.
+   */
+  public InputSource getInputSource() {
+    return inputSource;
+  }
+
+  /**
+   * Set what sees this session at the end of every tick. During advance, the session's
+   * interpolation alpha is already the one the tick leaves behind when the listener is called.
+   * @param tickListener the tick listener, or null to notify nobody.
+   */
+  public void setTickListener(TickListener tickListener) {
+    this.tickListener = tickListener;
+  }
+
+  /**
+   * Get what sees this session at the end of every tick.
+   * @return the tick listener, or null if the session has none.
+   */
+  public TickListener getTickListener() {
+    return tickListener;
+  }
+
+  /**
+   * Get the number of simulation ticks per second that this session was created with.
+   * @return simulation ticks per second.
+   */
+  public double getTickRate() {
+    return tickRate;
+  }
+
+  /**
+   * Get the length of a single simulation tick.
+   * @return seconds simulated by each tick.
+   */
+  @Override
+  public double getFixedDeltaTime() {
+    return fixedDeltaTime;
+  }
+
+  /**
+   * Get the number of ticks simulated since this session was created.
+   * @return total ticks simulated.
+   */
+  public long getTickCount() {
+    return tickCount;
+  }
+
+  /**
+   * Get the number of steps the last tick was split into.
+   * @return steps in the last tick, 1 if it was not split, 0 before the first tick.
+   */
+  public int getLastSubSteps() {
+    return lastSubSteps;
+  }
+
+  /**
+   * Get the number of steps run since this session was created. Dividing by getTickCount gives
+   * the average number of steps per tick.
+   * @return total steps run.
+   */
+  public long getTotalSubSteps() {
+    return totalSubSteps;
+  }
+
+  /**
+   * Get the number of ticks that were skipped because the session fell too far behind.
+   * @return total ticks dropped by the catch-up budget.
+   */
+  public long getDroppedTicks() {
+    return droppedTicks;
+  }
+
+  /**
+   * Get the Left-Side Goalie in this session.
+   * @return goalie1, left-goalie of this instance.
+   */
+  public Goalie getSessionLeftGoalie() {
+    return goalie1;
+  }
+
+  /**
+   * Get the Right-Side Goalie in this session.
+   * @return goalie1, Right-goalie of this instance.
+   */
+  public Goalie getSessionRightGoalie() {
+    return goalie2;
+  }
+
+  /**
+   * Get both the net instances in this session.
+   * @return Array of nets. Array of 2 nets, index 0 is left net, index 1 is right net.
+   */
+  @Override
+  public Net[] getSessionNets() {
+    return nets;
+  }
+
+  @Override
+  public Rink getSessionRink() {
+    return rink;
+  }
+
+  /**
+   * Get the Skater in this session.
+   * @return the skater taking the shootout.
+   */
+  public Player getSessionSkater() {
+    return skater;
+  }
+
+  /**
+   * Get the Puck in this session.
+   * @return the puck of this session.
+   */
+  @Override
+  public Puck getSessionPuck() {
+    return puck;
+  }
+
+  /**
+   * Get every object that is updated on each tick: skater, left goalie, right goalie and puck.
+   * @return array of the session's mobile objects, in update order.
+   */
+  public MobileObject[] getMobileObjects() {
+    return mobileObjects;
+  }
+}
+
+
@@ -0,0 +1,29 @@
+package Model;
+
+import Model.MovementManagers.MovementManagerGoalie;
+
+/**
+ * Goalie is the Player that guards a net. A goalie can only move within the goalie crease in
+ * front of the net it is guarding, which is enforced by its MovementManager.
+ */
+public class Goalie extends Player {
+
+  public Goalie(String name, TEAM team) {
+    super(name, team);
+    this.movementManager = new MovementManagerGoalie(0, 0);
+  }
+
+  public Goalie() {
+    super("Goalie", TEAM.RED);
+    this.movementManager = new MovementManagerGoalie(0, 0);
+  }
+
+  /**
+   * Obtain the goalie specific MovementManager, which can also hand the goalie over to an AI.
+   * @return this Goalie's MovementManagerGoalie.
+   */
+  public MovementManagerGoalie getMovementManagerGoalie() {
+    return (MovementManagerGoalie) movementManager;
+  }
+
+}
@@ -32,11 +32,20 @@ public class GoalieCrease {
    * @return boolean, is this position inside the goalie crease?
    */
   public boolean isInsideCrease(Position position) {
-    double x = position.getXCoord();
-    double y = position.getYCoord();
-    double distance = Math.sqrt(Math.pow(centerX - x, 2) + Math.pow(centerY - y, 2));
+    return isInsideCrease(position.getXCoord(), position.getYCoord());
+  }
 
-    if (distance > radius) {
+  /**
+   * Method to identify if a given coordinate is within the boundaries of this GoalieCrease.
+   * @param x x-coordinate to evaluate if it's inside the goalie crease.
+   * @param y y-coordinate to evaluate if it's inside the goalie crease.
+   * @return boolean, is this coordinate inside the goalie crease?
+   */
+  public boolean isInsideCrease(double x, double y) {
+    double dx = centerX - x;
+    double dy = centerY - y;
+
+    if (dx * dx + dy * dy > radius * radius) {
       return false;
     }
 
@@ -47,4 +56,36 @@ public class GoalieCrease {
     }
   }
 
+  /**
+   * Get the x-coordinate of the center of this crease, which lies on the goal line.
+   * @return x-coordinate of the crease center.
+   */
+  public double getCenterX() {
+    return centerX;
+  }
+
+  /**
+   * Get the y-coordinate of the center of this crease, which lies on the goal line.
+   * @return y-coordinate of the crease center.
+   */
+  public double getCenterY() {
+    return centerY;
+  }
+
+  /**
+   * Get the radius of this crease's semicircle.
+   * @return radius of the crease.
+   */
+  public double getRadius() {
+    return radius;
+  }
+
+  /**
+   * Get the side of the rink that this crease (and its net) is placed on.
+   * @return the side of the rink this crease belongs to.
+   */
+  public Net.NetSide getNetSide() {
+    return netSide;
+  }
+
 }
@@ -0,0 +1,16 @@
+package Model;
+
+/**
+ * Interface representing whatever feeds player input into a GameSession. The session asks its
+ * input source for the inputs of every tick just before running it, on the thread running the
+ * tick, so inputs land on the right tick even when advance runs several ticks to catch up.
+ */
+public interface InputSource {
+
+  /**
+   * Apply every input that belongs to the tick about to run.
+   * @param lag seconds of real time the tick about to run trails the present by. Only a tick run
+   *            by advance to catch up trails the present; a tick run directly has a lag of 0.
+   */
+  void beforeTick(double lag);
+}
@@ -0,0 +1,155 @@
+package Model;
+
+import Model.MovementManagers.IMovementManageable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+public abstract class MobileObject implements IMobileObject {
+
+  protected double angle;
+  protected IMovementManageable movementManager;
+
+  //Likely planning on skipping the use of a constructor since each subclass will utilize
+  //its own unique initialization. Up for change/debate.
+
+  @Override
+  public double getAngle() {
+    return this.angle;
+  }
+
+  @Override
+  public void setAngle(double degree) {
+    this.angle = degree;
+  }
+
+  @Override
+  public Position getPosition() {
+    return this.movementManager.getPosition();
+  }
+
+  @Override
+  public void setPosition(double x, double y) {
+    this.movementManager.setPosition(x, y);
+  }
+
+  @Override
+  public double getRadius() {
+    return this.movementManager.getRadius();
+  }
+
+  @Override
+  public Position[] getPoints() {
+    return movementManager.getPoints();
+  }
+
+  /**
+   * Get the velocity of this object along the x-axis, as tracked by its movement manager.
+   * @return x velocity of this object.
+   */
+  public double getXVelocity() {
+    return movementManager.getXVelocity();
+  }
+
+  /**
+   * Get the velocity of this object along the y-axis, as tracked by its movement manager.
+   * @return y velocity of this object.
+   */
+  public double getYVelocity() {
+    return movementManager.getYVelocity();
+  }
+
+  /**
+   * Hand this object's MovementManager the session it now belongs to, giving it access to that
+   * session's rink and nets for collision checks.
+   * @param session the session this object is part of.
+   */
+  public void attachToSession(SessionContext session) {
+    movementManager.setSessionContext(session);
+  }
+
+  /**
+   * Record this object's current position as its position on the previous tick.
+   */
+  public void storePreviousPosition() {
+    movementManager.storePreviousPosition();
+  }
+
+  /**
+   * Is this object asleep? A session skips sleeping objects on every tick until they are woken by
+   * input, a shot, a poke check, being moved, or contact with an awake object.
+   * @return is the object asleep?
+   */
+  public boolean isSleeping() {
+    return movementManager.isSleeping();
+  }
+
+  /**
+   * Wake this object up, so that it is updated again from the next tick on.
+   */
+  public void wake() {
+    movementManager.wake();
+  }
+
+  /**
+   * Track how long this object has been at rest, putting it to sleep once it has rested for
+   * SLEEP_DELAY seconds.
+   * @param deltaTime change in time since the last update.
+   */
+  public void updateSleep(double deltaTime) {
+    movementManager.updateSleep(deltaTime);
+  }
+
+  /**
+   * Get the x-coordinate of this object blended between the previous and current tick.
+   * @param alpha fraction of a tick elapsed since the current tick, from 0 to 1.
+   * @return interpolated x-coordinate, to be used for rendering.
+   */
+  public double getInterpolatedX(double alpha) {
+    return movementManager.getInterpolatedX(alpha);
+  }
+
+  /**
+   * Get the y-coordinate of this object blended between the previous and current tick.
+   * @param alpha fraction of a tick elapsed since the current tick, from 0 to 1.
+   * @return interpolated y-coordinate, to be used for rendering.
+   */
+  public double getInterpolatedY(double alpha) {
+    return movementManager.getInterpolatedY(alpha);
+  }
+
+  /**
+   * Write the complete state of this object, including its movement, into the buffer at the
+   * buffer's position. Exactly getStateSize bytes are written.
+   * @param buffer buffer to write the state to.
+   */
+  public void saveState(ByteBuffer buffer) {
+    buffer.putDouble(angle);
+    movementManager.saveState(buffer);
+  }
+
+  /**
+   * Read back a state written by saveState and make it the current state of this object.
+   * @param buffer buffer to read the state from.
+   */
+  public void restoreState(ByteBuffer buffer) {
+    angle = buffer.getDouble();
+    movementManager.restoreState(buffer);
+  }
+
+  /**
+   * Get the number of bytes that saveState writes for this object.
+   * @return size of this object's saved state, in bytes.
+   */
+  public int getStateSize() {
+    return Double.BYTES + movementManager.getStateSize();
+  }
+
+  /**
+   * Obtain the MovementManager for this Player object.
+   * @return this Player's MovementManager.
+   */
+  private IMovementManageable getMovementManager() {
+    return movementManager;
+  }
+
+}
@@ -0,0 +1,93 @@
+package Model.MovementManagers;
+
+import Model.GameConfig;
+
+/**
+ * Closed-form motion of an object sliding freely under friction. Friction takes away the same
+ * share of an object's speed every second, so its speed decays exponentially:
+ *
+ * <pre>
+ *   v(t) = v0 * e^(-k t)
+ *   d(t) = v0 * (1 - e^(-k t)) / k
+ * </pre>
+ *
+ * <p>where k is GameConfig.FRICTION. The tick uses decayFactor, so the speed an object keeps does
+ * not depend on the tick rate, and headless simulations can use the rest of this class to jump a
+ * coasting object to any later time without stepping through the ticks in between.
+ * StrictMath is used throughout so that every JVM agrees on the result.
+ */
+public final class FrictionDecay {
+  private static final double RATE = GameConfig.FRICTION;
+
+  private FrictionDecay() {
+  }
+
+  /**
+   * Get the share of its velocity that a sliding object keeps over the given time.
+   * @param seconds time slid.
+   * @return factor to multiply the velocity by.
+   */
+  public static double decayFactor(double seconds) {
+    return StrictMath.exp(-RATE * seconds);
+  }
+
+  /**
+   * Get the share of its velocity that DAMPING leaves a skater over the given time. DAMPING is
+   * the share kept over one tick at the default tick rate, so such a tick keeps exactly DAMPING.
+   * @param seconds time skated.
+   * @return factor to multiply the velocity by.
+   */
+  public static double dampingFactor(double seconds) {
+    return StrictMath.pow(GameConfig.DAMPING, seconds * GameConfig.TICK_RATE);
+  }
+
+  /**
+   * Get the distance covered while sliding for the given time.
+   * @param speed   speed at the start of the slide.
+   * @param seconds time slid.
+   * @return distance covered.
+   */
+  public static double distanceAfter(double speed, double seconds) {
+    return speed * -StrictMath.expm1(-RATE * seconds) / RATE;
+  }
+
+  /**
+   * Get the distance covered before a sliding object comes to rest, which it only does in the
+   * limit.
+   * @param speed speed at the start of the slide.
+   * @return total distance the object can slide.
+   */
+  public static double stoppingDistance(double speed) {
+    return speed / RATE;
+  }
+
+  /**
+   * Get the time a sliding object takes to cover the given distance.
+   * @param speed    speed at the start of the slide.
+   * @param distance distance to cover.
+   * @return seconds to cover the distance, or positive infinity if the object stops short of it.
+   */
+  public static double timeToTravel(double speed, double distance) {
+    if (distance <= 0) {
+      return 0;
+    }
+    double share = distance * RATE / speed;
+    if (share >= 1) {
+      return Double.POSITIVE_INFINITY;
+    }
+    return -StrictMath.log1p(-share) / RATE;
+  }
+
+  /**
+   * Get the time a sliding object takes to slow down to the given speed.
+   * @param speed       speed at the start of the slide.
+   * @param targetSpeed speed to slow down to.
+   * @return seconds until the object is that slow, or 0 if it already is.
+   */
+  public static double timeToSlowTo(double speed, double targetSpeed) {
+    if (speed <= targetSpeed) {
+      return 0;
+    }
+    return StrictMath.log(speed / targetSpeed) / RATE;
+  }
+}
@@ -0,0 +1,309 @@
+package Model.MovementManagers;
+
+import Model.GameConfig;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lookup table that tells an AI goalie where to stand. The table is indexed by the puck's state
+ * seen from the net being guarded: its depth in front of the goal line, its y-coordinate, and the
+ * speed and heading of its velocity. Each cell holds the spot in the crease, again as a depth and
+ * a y-coordinate, that stops the most of the shots starting from that state, along with the share
+ * of them it stops.
+ *
+ * <p>Tables are built offline by simulating puck trajectories, then written to a file and
+ * memory-mapped at startup. The mapped table is read-only and never changes position, so one
+ * table can be shared by any number of goalies on any number of threads, and a lookup costs a few
+ * arithmetic operations and no allocation.
+ *
+ * <p>File layout, little-endian: magic, version, the four cell counts, the five ranges the cells
+ * cover, then one record of three floats per cell.
+ */
+public final class GoalieTable {
+  public static final int MAGIC = 0x53484754; //"SHGT": SHootout Goalie Table
+  public static final int VERSION = 1;
+
+  /**
+   * Depth of the boards behind the goal line, the shallowest state the table covers.
+   */
+  public static final double MIN_DEPTH = GameConfig.RIGHT_GOAL_LINE_X - GameConfig.RINK_LENGTH;
+
+  /**
+   * Depth of center ice. Pucks further away are treated as being at center ice.
+   */
+  public static final double MAX_DEPTH = GameConfig.RIGHT_GOAL_LINE_X - GameConfig.RINK_LENGTH / 2;
+
+  private static final int HEADER_BYTES = 6 * Integer.BYTES + 5 * Float.BYTES;
+  private static final int RECORD_BYTES = 3 * Float.BYTES;
+
+  /**
+   * Most cells a table may have, so that the whole table fits in one buffer.
+   */
+  private static final long MAX_CELLS = (Integer.MAX_VALUE - HEADER_BYTES) / RECORD_BYTES;
+  private static final double TWO_PI = 2 * Math.PI;
+
+  private final ByteBuffer buffer;
+  private final int depthCells;
+  private final int yCells;
+  private final int speedCells;
+  private final int headingCells;
+  private final double depthStep;
+  private final double yStep;
+  private final double speedStep;
+  private final double headingStep;
+
+  private GoalieTable(ByteBuffer buffer, int depthCells, int yCells, int speedCells,
+      int headingCells) {
+    this.buffer = buffer;
+    this.depthCells = depthCells;
+    this.yCells = yCells;
+    this.speedCells = speedCells;
+    this.headingCells = headingCells;
+    this.depthStep = (MAX_DEPTH - MIN_DEPTH) / depthCells;
+    this.yStep = GameConfig.RINK_HEIGHT / yCells;
+    this.speedStep = GameConfig.PUCK_MAX_VELOCITY / speedCells;
+    this.headingStep = TWO_PI / headingCells;
+  }
+
+  /**
+   * Create an empty, writable table in memory, to be filled in with setCell and then written.
+   * @param depthCells   number of cells for the puck's depth in front of the goal line.
+   * @param yCells       number of cells for the puck's y-coordinate.
+   * @param speedCells   number of cells for the puck's speed.
+   * @param headingCells number of cells for the puck's heading.
+   * @return the new table.
+   * @throws IllegalArgumentException if any cell count is not positive, or the table would not
+   *                                  fit in a single buffer.
+   */
+  public static GoalieTable create(int depthCells, int yCells, int speedCells, int headingCells)
+      throws IllegalArgumentException {
+    if (depthCells <= 0 || yCells <= 0 || speedCells <= 0 || headingCells <= 0) {
+      throw new IllegalArgumentException("Cell counts must be positive!");
+    }
+    long size = tableBytes(depthCells, yCells, speedCells, headingCells);
+    if (size < 0) {
+      throw new IllegalArgumentException("Goalie table can hold at most " + MAX_CELLS
+          + " cells!");
+    }
+    ByteBuffer buffer = ByteBuffer.allocateDirect((int) size).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(MAGIC).putInt(VERSION);
+    buffer.putInt(depthCells).putInt(yCells).putInt(speedCells).putInt(headingCells);
+    buffer.putFloat((float) MIN_DEPTH).putFloat((float) MAX_DEPTH);
+    buffer.putFloat((float) GameConfig.RINK_HEIGHT).putFloat((float) GameConfig.PUCK_MAX_VELOCITY);
+    buffer.putFloat((float) GameConfig.GOALIE_CREASE_RADIUS);
+    return new GoalieTable(buffer, depthCells, yCells, speedCells, headingCells);
+  }
+
+  /**
+   * Memory-map a table file written by write. The mapping stays valid after the file is closed.
+   * @param file the table file.
+   * @return the mapped, read-only table.
+   * @throws IOException if the file can't be read, is not a goalie table, or was built for a
+   *                     different rink.
+   */
+  public static GoalieTable map(Path file) throws IOException {
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+      throw new IOException("Not a goalie table!");
+    }
+    int version = buffer.getInt(4);
+    if (version != VERSION) {
+      throw new IOException("Unsupported goalie table version: " + version);
+    }
+    int depthCells = buffer.getInt(8);
+    int yCells = buffer.getInt(12);
+    int speedCells = buffer.getInt(16);
+    int headingCells = buffer.getInt(20);
+    if (buffer.getFloat(24) != (float) MIN_DEPTH || buffer.getFloat(28) != (float) MAX_DEPTH
+        || buffer.getFloat(32) != (float) GameConfig.RINK_HEIGHT
+        || buffer.getFloat(36) != (float) GameConfig.PUCK_MAX_VELOCITY
+        || buffer.getFloat(40) != (float) GameConfig.GOALIE_CREASE_RADIUS) {
+      throw new IOException("Goalie table was built for a different rink!");
+    }
+    if (depthCells <= 0 || yCells <= 0 || speedCells <= 0 || headingCells <= 0
+        || buffer.limit() != tableBytes(depthCells, yCells, speedCells, headingCells)) {
+      throw new IOException("Goalie table is truncated or corrupt!");
+    }
+    return new GoalieTable(buffer, depthCells, yCells, speedCells, headingCells);
+  }
+
+  /**
+   * Write this table to a file, replacing it if it exists.
+   * @param file file to write to.
+   * @throws IOException if the file can't be written.
+   */
+  public void write(Path file) throws IOException {
+    ByteBuffer bytes = buffer.duplicate();
+    bytes.clear();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (bytes.hasRemaining()) {
+        channel.write(bytes);
+      }
+    }
+  }
+
+  /**
+   * Find the cell holding the given puck state. States outside the table are clamped to its
+   * nearest edge.
+   * @param depth         distance of the puck in front of the goal line.
+   * @param y             y-coordinate of the puck.
+   * @param depthVelocity velocity of the puck away from the goal line.
+   * @param yVelocity     y-velocity of the puck.
+   * @return index of the cell.
+   */
+  public int findCell(double depth, double y, double depthVelocity, double yVelocity) {
+    int depthIndex = clamp((int) ((depth - MIN_DEPTH) / depthStep), depthCells);
+    int yIndex = clamp((int) (y / yStep), yCells);
+    double speed = Math.sqrt(depthVelocity * depthVelocity + yVelocity * yVelocity);
+    int speedIndex = clamp((int) (speed / speedStep), speedCells);
+    //StrictMath, so that an AI goalie makes the same choice on every JVM and replays match.
+    double heading = StrictMath.atan2(yVelocity, depthVelocity) + Math.PI;
+    int headingIndex = clamp((int) (heading / headingStep), headingCells);
+    return ((depthIndex * yCells + yIndex) * speedCells + speedIndex) * headingCells
+        + headingIndex;
+  }
+
+  /**
+   * Get the depth in front of the goal line that the goalie should stand at.
+   * @param cell index of the cell.
+   * @return target depth.
+   */
+  public double getTargetDepth(int cell) {
+    return buffer.getFloat(HEADER_BYTES + cell * RECORD_BYTES);
+  }
+
+  /**
+   * Get the y-coordinate that the goalie should stand at.
+   * @param cell index of the cell.
+   * @return target y-coordinate.
+   */
+  public double getTargetY(int cell) {
+    return buffer.getFloat(HEADER_BYTES + cell * RECORD_BYTES + Float.BYTES);
+  }
+
+  /**
+   * Get the share of shots from this cell's state that a goalie at the target stops.
+   * @param cell index of the cell.
+   * @return save probability from 0 to 1.
+   */
+  public double getSaveProbability(int cell) {
+    return buffer.getFloat(HEADER_BYTES + cell * RECORD_BYTES + 2 * Float.BYTES);
+  }
+
+  /**
+   * Fill in a cell of a table made by create.
+   * @param cell            index of the cell.
+   * @param targetDepth     depth in front of the goal line to stand at.
+   * @param targetY         y-coordinate to stand at.
+   * @param saveProbability share of shots stopped from that spot.
+   * @throws java.nio.ReadOnlyBufferException if the table was mapped from a file.
+   */
+  public void setCell(int cell, double targetDepth, double targetY, double saveProbability) {
+    int offset = HEADER_BYTES + cell * RECORD_BYTES;
+    buffer.putFloat(offset, (float) targetDepth);
+    buffer.putFloat(offset + Float.BYTES, (float) targetY);
+    buffer.putFloat(offset + 2 * Float.BYTES, (float) saveProbability);
+  }
+
+  /**
+   * Get the number of cells in this table.
+   * @return total cells.
+   */
+  public int getCellCount() {
+    return depthCells * yCells * speedCells * headingCells;
+  }
+
+  /**
+   * Get the depth at the middle of a cell.
+   * @param cell index of the cell.
+   * @return depth in front of the goal line.
+   */
+  public double getCellDepth(int cell) {
+    int depthIndex = cell / (headingCells * speedCells * yCells);
+    return MIN_DEPTH + (depthIndex + 0.5) * depthStep;
+  }
+
+  /**
+   * Get the y-coordinate at the middle of a cell.
+   * @param cell index of the cell.
+   * @return y-coordinate of the puck.
+   */
+  public double getCellY(int cell) {
+    int yIndex = cell / (headingCells * speedCells) % yCells;
+    return (yIndex + 0.5) * yStep;
+  }
+
+  /**
+   * Get the speed at the middle of a cell.
+   * @param cell index of the cell.
+   * @return speed of the puck.
+   */
+  public double getCellSpeed(int cell) {
+    int speedIndex = cell / headingCells % speedCells;
+    return (speedIndex + 0.5) * speedStep;
+  }
+
+  /**
+   * Get the heading at the middle of a cell, measured from the direction away from the goal line.
+   * @param cell index of the cell.
+   * @return heading of the puck, in radians from -pi to pi.
+   */
+  public double getCellHeading(int cell) {
+    int headingIndex = cell % headingCells;
+    return (headingIndex + 0.5) * headingStep - Math.PI;
+  }
+
+  /**
+   * Get the size of a cell along each of its four axes: depth, y, speed and heading.
+   * @param axis 0 for depth, 1 for y, 2 for speed and 3 for heading.
+   * @return width of a cell along that axis.
+   */
+  public double getCellSize(int axis) {
+    switch (axis) {
+      case 0:
+        return depthStep;
+      case 1:
+        return yStep;
+      case 2:
+        return speedStep;
+      case 3:
+        return headingStep;
+      default:
+        throw new IllegalArgumentException("Axis must be from 0 to 3!");
+    }
+  }
+
+  /**
+   * Get the size of a table with the given, positive, cell counts. The cell count is checked after
+   * every product, so that no product can overflow.
+   * @return size of the table in bytes, or -1 if it has more than MAX_CELLS cells.
+   */
+  private static long tableBytes(int depthCells, int yCells, int speedCells, int headingCells) {
+    long cells = (long) depthCells * yCells;
+    if (cells > MAX_CELLS) {
+      return -1;
+    }
+    cells *= speedCells;
+    if (cells > MAX_CELLS) {
+      return -1;
+    }
+    cells *= headingCells;
+    if (cells > MAX_CELLS) {
+      return -1;
+    }
+    return HEADER_BYTES + cells * RECORD_BYTES;
+  }
+
+  private static int clamp(int index, int cells) {
+    return index < 0 ? 0 : (index >= cells ? cells - 1 : index);
+  }
+}
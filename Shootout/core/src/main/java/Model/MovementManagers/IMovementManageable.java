@@ -0,0 +1,194 @@
+package Model.MovementManagers;
+
+import Model.Position;
+import Model.SessionContext;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+/**
+ * Interface representing the set of classes responsible for managing the movement of Mobile
+ * Objects. Any class implementing this is a variation of a MovementManager.
+ */
+public interface IMovementManageable {
+
+  /**
+   * Method to advance the movement of the managed object by a single simulation step. This runs
+   * the entire update cycle of the manager: input, forces, collisions and finally the new
+   * position.
+   *
+   * @param deltaTime change in time since the last update. Should be the fixed tick length.
+   */
+  void updateMovement(double deltaTime);
+
+  /**
+   * Attach this manager to the session it is simulated in. Collision checks against the rink and
+   * nets go through this context, so a manager must be attached before it is updated.
+   * @param session the session that owns the object this manager moves.
+   */
+  void setSessionContext(SessionContext session);
+
+  /**
+   * Move this manager's state into a slot of the given WorldStore. From then on its position,
+   * velocity and radius are read from and written to the store, and the store's step advances it.
+   * Objects that take part in a GameSession must not be bound, as a session tick does more than
+   * the store's step; see WorldStore.
+   * @param store the store to bind to.
+   * @throws IllegalStateException if this manager is already bound to a store.
+   */
+  void bindToWorldStore(WorldStore store) throws IllegalStateException;
+
+  /**
+   * Record the current position as the position of the previous tick. Called once at the start of
+   * every simulation tick so that rendering can interpolate between the last two ticks.
+   */
+  void storePreviousPosition();
+
+  /**
+   * Get the x-coordinate blended between the previous tick and the current tick.
+   * @param alpha fraction of a tick that has elapsed since the current tick, from 0 to 1.
+   * @return interpolated x-coordinate.
+   */
+  double getInterpolatedX(double alpha);
+
+  /**
+   * Get the y-coordinate blended between the previous tick and the current tick.
+   * @param alpha fraction of a tick that has elapsed since the current tick, from 0 to 1.
+   * @return interpolated y-coordinate.
+   */
+  double getInterpolatedY(double alpha);
+
+  /**
+   * Method to calculate and change the location of a MobileObject given the time passed since the
+   * last update.
+   * This will also calculate and update the location of all the mobilePoints tracking the object's
+   * perimeter.
+   * THIS IS THE LAST STEP OF THE CYCLE
+   *
+   * @param deltaTime change in time since the last update. Should be time since last frame.
+   */
+  void calculateNewPosition(double deltaTime);
+
+
+  public Position[] initializePoints();
+
+
+  /**
+   * Given a list of indexes of mobile points that collide with the rink for its argument. It
+   * takes into consideration each colliding points angle and manipulates the velocity accordingly.
+   * @param outputs list of indexes corresponding to the mobile points that the
+   *               Skater object has colliding with the rink.
+   */
+  void handleRinkAndNetReflection(ArrayList<Integer> outputs);
+
+  /**
+   * Allocation-free variant of handleRinkAndNetReflection. Takes a bitmask of the mobile points
+   * that collide with the rink or a net, where bit 0 is the top-most point and each next bit is
+   * the next 45 degree point going clockwise.
+   * @param contactMask bitmask of the colliding mobile points of this object.
+   */
+  void handleRinkAndNetReflection(int contactMask);
+
+
+  /**
+   * Returns the current velocity across the x-axis tracked in this MovementManager.
+   * @return X-velocity.
+   */
+  double getXVelocity();
+
+  /**
+   * Returns the current velocity across the y-axis tracked in this MovementManager.
+   * @return y-velocity.
+   */
+  double getYVelocity();
+
+  /**
+   * Alters the X-Velocity of a mobile object to the inputted amount when needed. A change of
+   * velocity wakes a sleeping object.
+   * @param xVelocity double to change player's x-velocity to.
+   */
+  void setXVelocity(double xVelocity);
+
+  /**
+   * Alters the Y-Velocity of a mobile object to the inputted amount when needed. A change of
+   * velocity wakes a sleeping object.
+   * @param yVelocity double to change player's y-velocity to.
+   */
+  void setYVelocity(double yVelocity);
+
+
+  /**
+   * Modify the position field of the game object, intakes a Position class to replace the
+   * existing one. Moving an object wakes it if it was asleep.
+   * @param x   The x-value to which the object's position should be modified to. Double input.
+   * @param y   The y-value to which the object's position should be modified to. Double input.
+   */
+  void setPosition(double x, double y);
+
+  /**
+   * Get the x,y coordinates of a GameObject.
+   * @return Position(x,y coordinates) of object.
+   */
+  Position getPosition();
+
+  /**
+   * Return the series of MobilePoints that this MovementManager has to track. Represents the
+   * points on the perimeter of a mobile object. Every 45-degree angle of a circle, starting from
+   * the top, is a mobile point. Top is index zero and goes clockwise.
+   * @return array of MobilePoints representing the perimeter of a mobile object
+   * respective of the manager's object.
+   */
+  Position[] getPoints();
+
+  /**
+   * Method to return the radius of a mobileObject (puck and player), as these are circular
+   * objects.
+   *
+   * @return the radius of the mobileObject.
+   */
+  double getRadius();
+
+  /**
+   * Method to change the radius of a mobileObject (puck and player), as these are circular
+   * objects.
+   */
+  void setRadius(double radius);
+
+  /**
+   * Write the complete movement state of this object into the buffer, starting at the buffer's
+   * position. Exactly getStateSize bytes are written, in a fixed layout.
+   * @param buffer buffer to write the state to.
+   */
+  void saveState(ByteBuffer buffer);
+
+  /**
+   * Read back a state written by saveState, starting at the buffer's position, and make it the
+   * current state of this object.
+   * @param buffer buffer to read the state from.
+   */
+  void restoreState(ByteBuffer buffer);
+
+  /**
+   * Get the number of bytes that saveState writes for this object.
+   * @return size of this object's saved state, in bytes.
+   */
+  int getStateSize();
+
+  /**
+   * Is this object asleep? A sleeping object is at rest, and the session skips updating it until
+   * something wakes it.
+   * @return is the object asleep?
+   */
+  boolean isSleeping();
+
+  /**
+   * Wake this object up, so that it is updated again from the next tick on.
+   */
+  void wake();
+
+  /**
+   * Track how long this object has been at rest, and put it to sleep once it has been at rest for
+   * long enough. Called by the session after each update of the object.
+   * @param deltaTime change in time since the last update.
+   */
+  void updateSleep(double deltaTime);
+}
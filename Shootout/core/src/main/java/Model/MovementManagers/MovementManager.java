@@ -0,0 +1,677 @@
+package Model.MovementManagers;
+
+import Model.BoardContact;
+import Model.Events.CollisionEvent;
+import Model.GameConfig;
+import Model.Net;
+import Model.Position;
+import Model.Rink;
+import Model.SessionContext;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+abstract class MovementManager implements IMovementManageable {
+  /**
+   * Number of Mobile Points tracked on the perimeter of every object.
+   */
+  static final int POINT_COUNT = 8;
+
+  /**
+   * Unit offsets from the center of an object to each of its Mobile Points, starting at the top
+   * and going clockwise. Multiply by the radius to get the point.
+   */
+  static final double[] POINT_X_DIRECTIONS =
+      {0, Math.cos(Math.PI / 4), 1, Math.cos(Math.PI / 4), 0, -Math.cos(Math.PI / 4), -1,
+          -Math.cos(Math.PI / 4)};
+  static final double[] POINT_Y_DIRECTIONS =
+      {1, Math.cos(Math.PI / 4), 0, -Math.cos(Math.PI / 4), -1, -Math.cos(Math.PI / 4), 0,
+          Math.cos(Math.PI / 4)};
+
+  /**
+   * Bytes written by saveState: position, velocity, radius, previous position, every Mobile Point
+   * and the time spent at rest, all as doubles.
+   */
+  static final int STATE_BYTES = (8 + POINT_COUNT * 2) * Double.BYTES;
+
+  protected Position position;
+  protected double radius;
+  protected Position[] points;
+  protected double xVelocity;
+  protected double yVelocity;
+  protected double previousX;
+  protected double previousY;
+  protected Rink rink;
+  protected SessionContext session;
+  protected WorldStore store;
+  protected int slot;
+  protected double restTime;
+  private final BoardContact boardContact = new BoardContact();
+
+  /**
+   * Set on the copies that are stepped ahead to make a prediction, so that their steps are not
+   * timed or reported as collisions that really happened.
+   */
+  boolean lookAhead;
+
+  //The friction factor only changes with the tick length, so it is worked out once per length.
+  private double frictionDeltaTime = Double.NaN;
+  private double frictionFactor;
+
+
+  public MovementManager(Position position, double initialXVelocity, double initialYVelocity) {
+    this.position = new Position(500, 500);
+    this.xVelocity = initialXVelocity;
+    this.yVelocity = initialYVelocity;
+    this.radius = 5;
+    this.rink = null;
+    this.points = initializePoints();
+  }
+
+  public MovementManager(double initialXVelocity, double initialYVelocity) {
+    this.position = new Position(500, 500);
+    this.xVelocity = initialXVelocity;
+    this.yVelocity = initialYVelocity;
+    this.radius = 5;
+    this.rink = null;
+    this.points = initializePoints();
+  }
+
+  /**
+   * Constructor for the abstract class MovementManager. Should never be used directly outside of
+   * being supered.
+   */
+  public MovementManager() {
+    this.position = new Position(500, 500);
+    this.xVelocity = 0;
+    this.yVelocity = 0;
+    this.radius = 5;
+    this.rink = null;
+    this.points = initializePoints();
+  }
+
+  ;
+
+  /**
+   * Method to establish a velocity "clamp" Essentially, it ensures that the Mobile Objects
+   * velocity will not exceed the argument.
+   *
+   * @param maxVelocity the maximum velocity that the mobile object can undergo. Any attempts to
+   *                    update velocity past the maximum or its negation will be voided.
+   */
+  void clampVelocity(double maxVelocity) {
+    setXVelocity(Math.max(-maxVelocity, Math.min(maxVelocity, getXVelocity())));
+    setYVelocity(Math.max(-maxVelocity, Math.min(maxVelocity, getYVelocity())));
+  }
+
+  /**
+   * Method to slowly bring the velocity of an object closer to zero over time if no force is being
+   * applied to it. The velocity decays exponentially, as worked out by FrictionDecay, so the speed
+   * left after a second of sliding is the same at any tick rate.
+   *
+   * @param deltaTime change in time since the last update. Should be time since last frame.
+   */
+  protected void applyFriction(double deltaTime) {
+    if (deltaTime != frictionDeltaTime) {
+      frictionDeltaTime = deltaTime;
+      frictionFactor = FrictionDecay.decayFactor(deltaTime);
+    }
+    xVelocity *= frictionFactor;
+    yVelocity *= frictionFactor;
+  }
+
+  /**
+   * Method to directly update the velocity tracked in the MovementManager depending on the amount
+   * of time that has passed, along with other forces that may be different for each respective
+   * object. For example, a Player based class will have its velocity update depend on user inputs.
+   * The puck class will depend on the user possessing it or the last applied force.
+   * THIS IS THE FIRST STEP OF THE UPDATE CYCLE FOR MOVEMENT MANAGERS.
+   *
+   * @param deltaTime change in time since the last update. Should be time since last frame.
+   */
+  @Override
+  public void updateMovement(double deltaTime) {
+  }
+
+  /**
+   * Method to apply the forces unique to this kind of object, such as user input, before friction
+   * and collisions are handled. Objects that only slide freely have nothing to apply.
+   *
+   * @param deltaTime change in time since the last update. Should be time since last frame.
+   */
+  protected void applyForces(double deltaTime) {
+  }
+
+  /**
+   * Method to check this object against the boards and the nets, reflecting its velocity off
+   * anything it is in contact with.
+   */
+  protected void resolveCollisions() {
+    handleBoardReflection();
+    handleNetReflection();
+  }
+
+  /**
+   * Get the fastest this object is allowed to move along either axis.
+   * @return maximum velocity of this object.
+   */
+  protected double getMaxVelocity() {
+    return GameConfig.MAX_VELOCITY;
+  }
+
+  /**
+   * Does friction slow this object down between its own forces? Objects that set their velocity
+   * directly every step, such as goalies, override this.
+   * @return is this object slowed by friction?
+   */
+  protected boolean hasFriction() {
+    return true;
+  }
+
+  /**
+   * Is this object only allowed to move to some positions? If so, acceptsPosition is asked about
+   * every move before it is made.
+   * @return is the position of this object constrained?
+   */
+  protected boolean hasPositionConstraint() {
+    return false;
+  }
+
+  /**
+   * May this object move to the given position? Only asked of objects with a position constraint.
+   * @param x x-coordinate of the position to move to.
+   * @param y y-coordinate of the position to move to.
+   * @return may the object move there?
+   */
+  protected boolean acceptsPosition(double x, double y) {
+    return true;
+  }
+
+  @Override
+  public void bindToWorldStore(WorldStore store) {
+    if (this.store != null) {
+      throw new IllegalStateException("MovementManager is already bound to a WorldStore!");
+    }
+    this.slot = store.add(this);
+    this.store = store;
+  }
+
+  /**
+   * Run applyForces against this object's slot in the WorldStore.
+   * @param deltaTime change in time since the last update.
+   */
+  void applyForcesInStore(double deltaTime) {
+    loadFromWorldStore();
+    applyForces(deltaTime);
+    store.xVelocity[slot] = xVelocity;
+    store.yVelocity[slot] = yVelocity;
+  }
+
+  /**
+   * Run resolveCollisions against this object's slot in the WorldStore.
+   */
+  void resolveCollisionsInStore() {
+    loadFromWorldStore();
+    refreshPoints();
+    resolveCollisions();
+    store.xVelocity[slot] = xVelocity;
+    store.yVelocity[slot] = yVelocity;
+  }
+
+  /**
+   * Copy this object's slot in the WorldStore into the fields of this manager.
+   */
+  private void loadFromWorldStore() {
+    position.setXCoord(store.x[slot]);
+    position.setYCoord(store.y[slot]);
+    xVelocity = store.xVelocity[slot];
+    yVelocity = store.yVelocity[slot];
+    radius = store.radius[slot];
+  }
+
+  @Override
+  public void setSessionContext(SessionContext session) {
+    this.session = session;
+    this.rink = session.getSessionRink();
+  }
+
+  @Override
+  public void storePreviousPosition() {
+    previousX = getPosition().getXCoord();
+    previousY = getPosition().getYCoord();
+  }
+
+  @Override
+  public double getInterpolatedX(double alpha) {
+    return previousX + (getPosition().getXCoord() - previousX) * alpha;
+  }
+
+  @Override
+  public double getInterpolatedY(double alpha) {
+    return previousY + (getPosition().getYCoord() - previousY) * alpha;
+  }
+
+
+  @Override
+  public void calculateNewPosition(double deltaTime) {
+    double newX = this.position.getXCoord() + xVelocity * deltaTime;
+    double newY = this.position.getYCoord() + yVelocity * deltaTime;
+    this.position.setXCoord(newX);
+    this.position.setYCoord(newY);
+
+    for (Position point : points) {
+      double newPointX = point.getXCoord() + xVelocity * deltaTime;
+      double newPointY = point.getYCoord() + yVelocity * deltaTime;
+      point.setXCoord(newPointX);
+      point.setYCoord(newPointY);
+    }
+  }
+
+  @Override
+  public void handleRinkAndNetReflection(ArrayList<Integer> outputs) {
+    int contactMask = 0;
+    for (Integer output : outputs) {
+      if (output < 0 || output >= POINT_COUNT) {
+        throw new IllegalArgumentException("List of MobileObject Colliding Mobile Points"
+            + "is Out Of Possible Range.");
+      }
+      contactMask |= 1 << output;
+    }
+    handleRinkAndNetReflection(contactMask);
+  }
+
+  @Override
+  public abstract void handleRinkAndNetReflection(int contactMask);
+
+  /**
+   * Reflect the velocity away from every mobile point in the contact mask. Each contacting point
+   * pushes back towards the center of the object, those pushes are summed and normalized, and the
+   * velocity is scaled by the resulting factor along each axis.
+   * @param contactMask bitmask of contacting mobile points, bit 0 being the top-most point.
+   */
+  protected void reflectOffContactPoints(int contactMask) {
+    double xReflectFactor = 0;
+    double yReflectFactor = 0;
+    for (int i = 0; i < POINT_COUNT; i++) {
+      if ((contactMask & (1 << i)) != 0) {
+        xReflectFactor -= POINT_X_DIRECTIONS[i];
+        yReflectFactor -= POINT_Y_DIRECTIONS[i];
+      }
+    }
+    double magnitude =
+        Math.sqrt(xReflectFactor * xReflectFactor + yReflectFactor * yReflectFactor);
+
+    if (magnitude > 0) {
+      xReflectFactor /= magnitude;
+      yReflectFactor /= magnitude;
+
+      xVelocity = xVelocity * xReflectFactor;
+      yVelocity = yVelocity * yReflectFactor;
+    }
+  }
+
+  /**
+   * Create the Mobile Points that will track the perimeter of the object this MovementManager is
+   * supposed to track. Each mobile point will be positioned at every 45 degree point on the
+   * mobileObject's perimeter, with the first index starting at the very top, and each consecutive
+   * index is the next point going clockwise.
+   * Once the points exist, they are moved in place rather than allocated again.
+   * @return array of Positions representing a mobile object's list of MobilePoints.
+   */
+  public Position[] initializePoints() {
+    if (points == null) {
+      points = new Position[POINT_COUNT];
+      for (int i = 0; i < POINT_COUNT; i++) {
+        points[i] = new Position(0, 0);
+      }
+    }
+    if (store != null) {
+      loadFromWorldStore();
+    }
+    refreshPoints();
+    return points;
+  }
+
+  /**
+   * Move the existing Mobile Points so that they once again sit on the perimeter of the object,
+   * at every 45 degrees starting from the top and going clockwise. Unlike initializePoints, this
+   * reuses the Positions that are already tracked.
+   */
+  protected void refreshPoints() {
+    double objX = position.getXCoord();
+    double objY = position.getYCoord();
+    for (int i = 0; i < POINT_COUNT; i++) {
+      points[i].setXCoord(objX + radius * POINT_X_DIRECTIONS[i]);
+      points[i].setYCoord(objY + radius * POINT_Y_DIRECTIONS[i]);
+    }
+  }
+
+  /**
+   * Grab the bitmask of mobile points of this MobileObject that have breached or made contact
+   * with the boards of the rink. Bit 0 is the top-most point, and each next bit is the next
+   * 45 degree point going clockwise. Allocates nothing.
+   * @return bitmask of points touching the boards. Zero if nothing has made contact.
+   */
+  public int grabBoardContactMask() {
+    return rink.boardContactMask(this);
+  }
+
+  /**
+   * Grab the bitmask of mobile points of this MobileObject that have breached or made contact
+   * with the posts or front of either net. Only the first net found in contact is reported.
+   * Allocates nothing.
+   * @return bitmask of points touching a net. Zero if nothing has made contact.
+   */
+  public int grabNetContactMask() {
+    if (rink.isClearOfNets(getPosition().getXCoord(), radius)) {
+      return 0;
+    }
+    for (Net net : session.getSessionNets()) {
+      int contactMask = net.netContactMask(this);
+      if (contactMask != 0) {
+        return contactMask;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Grab the status of mobile points for this MobileObject, and create an ArrayList. The ArrayList
+   * holds only the indexes that returned true from the method:
+   * .isMobileObjectTouchingBoards.
+   * Essentially, every returned number represents what 45 degree point of this object has breached
+   * or made contact with the boards of the rink, where the top-most point is the number 0, and
+   * it increments clockwise.
+   * Prefer grabBoardContactMask on hot paths, as this boxes every index.
+   * @return ArrayList of integers where each integer represents what mobile point has breached or
+   * made contact with the boards. Top most point is 0 and increments clockwise. If the output
+   * is simply an empty ArrayList, then nothing has made contact.
+   */
+  public ArrayList<Integer> grabBoardCollisionStatusOfMobilePointsInRink() {
+    return contactMaskToIndexes(grabBoardContactMask());
+  }
+
+  /**
+   * Grab the net collision status of mobile points for this MobileObject, and create an ArrayList.
+   * The ArrayList holds only the indexes that returned true from the method:
+   * .isMobileObjectTouchingNet.
+   * Essentially, every returned number represents what 45 degree point of this object has breached
+   * or made contact with the posts or front of the net, where the top-most point is the number 0,
+   * and it increments clockwise.
+   * Prefer grabNetContactMask on hot paths, as this boxes every index.
+   * @return ArrayList of integers where each integer represents what mobile point has breached or
+   * made contact with the boards. Top most point is 0 and increments clockwise. If the output
+   * is simply an empty ArrayList, then nothing has made contact.
+   */
+  public ArrayList<Integer> grabNetCollisionStatusOfMobilePoints() {
+    return contactMaskToIndexes(grabNetContactMask());
+  }
+
+  /**
+   * Convert a contact bitmask into the list of mobile point indexes it contains.
+   * @param contactMask bitmask of contacting mobile points.
+   * @return ArrayList of the indexes of every set bit, in increasing order.
+   */
+  private static ArrayList<Integer> contactMaskToIndexes(int contactMask) {
+    ArrayList<Integer> output = new ArrayList<Integer>();
+    for (int i = 0; i < POINT_COUNT; i++) {
+      if ((contactMask & (1 << i)) != 0) {
+        output.add(i);
+      }
+    }
+    return output;
+  }
+
+  /**
+   * Method to call to constantly check if the Mobile Object is found to have been colliding with
+   * the boards. The rink is queried once for the whole circle, and any contact is resolved
+   * against the exact normal of the boards at that spot. The contact mask of the points is only
+   * worked out while a Flight Recorder recording wants CollisionEvents.
+   */
+  protected void handleBoardReflection() {
+    Position center = getPosition();
+    if (rink.queryBoardContact(center.getXCoord(), center.getYCoord(), radius, boardContact)) {
+      if (!lookAhead && CollisionEvent.isRecording()) {
+        recordCollision(CollisionEvent.BOARDS, rink.boardContactMask(this));
+      }
+      resolveBoardContact(boardContact);
+    }
+  }
+
+  /**
+   * Commit a CollisionEvent for this object, unless it is a copy stepped ahead for a prediction.
+   * @param surface     CollisionEvent.BOARDS or CollisionEvent.NET.
+   * @param contactMask bitmask of the mobile points in contact.
+   */
+  protected void recordCollision(String surface, int contactMask) {
+    if (!lookAhead) {
+      CollisionEvent.commitIfEnabled(getClass(), surface, contactMask);
+    }
+  }
+
+  /**
+   * Push the object back inside the boards by the penetration depth, then reflect the part of its
+   * velocity that is heading into the boards, scaled by the board restitution. Velocity that is
+   * already heading away from the boards is left alone, so an object can't get stuck flipping
+   * back and forth while it is still in contact.
+   * @param contact the contact reported by the rink.
+   */
+  protected void resolveBoardContact(BoardContact contact) {
+    double normalX = contact.getNormalX();
+    double normalY = contact.getNormalY();
+    double depth = contact.getPenetration();
+    translate(-normalX * depth, -normalY * depth);
+
+    double intoBoards = xVelocity * normalX + yVelocity * normalY;
+    if (intoBoards > 0) {
+      double impulse = (1 + GameConfig.BOARD_RESTITUTION) * intoBoards;
+      xVelocity -= impulse * normalX;
+      yVelocity -= impulse * normalY;
+    }
+  }
+
+  /**
+   * Shift the object and all of its Mobile Points by the given offset, without touching the
+   * position recorded for the previous tick.
+   * @param dx offset along the x-axis.
+   * @param dy offset along the y-axis.
+   */
+  protected void translate(double dx, double dy) {
+    position.setXCoord(position.getXCoord() + dx);
+    position.setYCoord(position.getYCoord() + dy);
+    for (Position point : points) {
+      point.setXCoord(point.getXCoord() + dx);
+      point.setYCoord(point.getYCoord() + dy);
+    }
+    if (store != null) {
+      store.x[slot] = position.getXCoord();
+      store.y[slot] = position.getYCoord();
+    }
+  }
+
+  /**
+   * Method to call to constantly check if the Mobile Object is found to have been colliding with
+   * the nets.
+   */
+  protected void handleNetReflection() {
+    int contactMask = grabNetContactMask();
+    if (contactMask != 0) {
+      recordCollision(CollisionEvent.NET, contactMask);
+      this.handleRinkAndNetReflection(contactMask);
+    }
+  }
+
+
+  @Override
+  public double getXVelocity() {
+    return store != null ? store.xVelocity[slot] : xVelocity;
+  }
+
+  @Override
+  public double getYVelocity() {
+    return store != null ? store.yVelocity[slot] : yVelocity;
+  }
+
+  @Override
+  public void setXVelocity(double xVelocity) {
+    if (xVelocity != getXVelocity()) {
+      wake();
+    }
+    this.xVelocity = xVelocity;
+    if (store != null) {
+      store.xVelocity[slot] = xVelocity;
+    }
+  }
+
+  @Override
+  public void setYVelocity(double yVelocity) {
+    if (yVelocity != getYVelocity()) {
+      wake();
+    }
+    this.yVelocity = yVelocity;
+    if (store != null) {
+      store.yVelocity[slot] = yVelocity;
+    }
+  }
+
+  @Override
+  public Position getPosition() {
+    if (store != null) {
+      position.setXCoord(store.x[slot]);
+      position.setYCoord(store.y[slot]);
+    }
+    return this.position;
+  }
+
+  @Override
+  public void setPosition(double x, double y) {
+    wake();
+    position.setXCoord(x);
+    position.setYCoord(y);
+    previousX = x;
+    previousY = y;
+    if (store != null) {
+      store.x[slot] = x;
+      store.y[slot] = y;
+    }
+    initializePoints();
+  }
+
+  @Override
+  public Position[] getPoints() {
+    if (store != null) {
+      getPosition();
+      refreshPoints();
+    }
+    return this.points;
+  }
+
+  @Override
+  public double getRadius() {
+    return radius;
+  }
+
+  @Override
+  public void setRadius(double radius) {
+    this.radius = radius;
+    if (store != null) {
+      store.radius[slot] = radius;
+    }
+    initializePoints();
+  }
+
+  @Override
+  public void saveState(ByteBuffer buffer) {
+    Position current = getPosition();
+    buffer.putDouble(current.getXCoord());
+    buffer.putDouble(current.getYCoord());
+    buffer.putDouble(getXVelocity());
+    buffer.putDouble(getYVelocity());
+    buffer.putDouble(radius);
+    buffer.putDouble(previousX);
+    buffer.putDouble(previousY);
+    for (Position point : getPoints()) {
+      buffer.putDouble(point.getXCoord());
+      buffer.putDouble(point.getYCoord());
+    }
+    buffer.putDouble(restTime);
+  }
+
+  @Override
+  public void restoreState(ByteBuffer buffer) {
+    position.setXCoord(buffer.getDouble());
+    position.setYCoord(buffer.getDouble());
+    xVelocity = buffer.getDouble();
+    yVelocity = buffer.getDouble();
+    radius = buffer.getDouble();
+    previousX = buffer.getDouble();
+    previousY = buffer.getDouble();
+    for (Position point : points) {
+      point.setXCoord(buffer.getDouble());
+      point.setYCoord(buffer.getDouble());
+    }
+    restTime = buffer.getDouble();
+    if (store != null) {
+      store.x[slot] = position.getXCoord();
+      store.y[slot] = position.getYCoord();
+      store.xVelocity[slot] = xVelocity;
+      store.yVelocity[slot] = yVelocity;
+      store.radius[slot] = radius;
+    }
+  }
+
+  @Override
+  public int getStateSize() {
+    return STATE_BYTES;
+  }
+
+  @Override
+  public boolean isSleeping() {
+    return restTime >= GameConfig.SLEEP_DELAY;
+  }
+
+  @Override
+  public void wake() {
+    restTime = 0;
+  }
+
+  /**
+   * The object counts as at rest once it is slower than SLEEP_SPEED and, by canSleep, has nothing
+   * driving it. When it falls asleep its velocity is zeroed and its previous position set to its
+   * current one, so that a renderer blending the two sees it standing still.
+   * @param deltaTime change in time since the last update.
+   */
+  @Override
+  public void updateSleep(double deltaTime) {
+    double currentXVelocity = getXVelocity();
+    double currentYVelocity = getYVelocity();
+    if (!canSleep() || currentXVelocity * currentXVelocity + currentYVelocity * currentYVelocity
+        > GameConfig.SLEEP_SPEED * GameConfig.SLEEP_SPEED) {
+      restTime = 0;
+      return;
+    }
+    restTime += deltaTime;
+    if (isSleeping()) {
+      xVelocity = 0;
+      yVelocity = 0;
+      if (store != null) {
+        store.xVelocity[slot] = 0;
+        store.yVelocity[slot] = 0;
+      }
+      storePreviousPosition();
+    }
+  }
+
+  /**
+   * Can this object fall asleep right now? Objects with something driving them, such as held
+   * movement keys, override this to stay awake.
+   * @return may the object sleep?
+   */
+  protected boolean canSleep() {
+    return true;
+  }
+
+
+
+
+
+}
\ No newline at end of file
@@ -0,0 +1,206 @@
+package Model.MovementManagers;
+
+import Model.GameConfig;
+import Model.MovementManagers.PhaseTimings.Phase;
+import Model.Net;
+import Model.Net.NetSide;
+import Model.Position;
+
+public class MovementManagerGoalie extends MovementManagerPlayer {
+  /**
+   * Seconds an AI goalie takes to close the gap to its target, when its top speed allows.
+   */
+  private static final double AI_REACTION_TIME = 0.1;
+
+  private GoalieTable table;
+
+  /**
+   * Constructor for a Goalie variation of the MovementManager. Requires initial velocity values.
+   * @param initialXVelocity initial X Velocity the goalie should spawn with.
+   * @param initialYVelocity initial Y velocity the goalie should spawn with.
+   */
+  public MovementManagerGoalie(double initialXVelocity, double initialYVelocity) {
+    super(initialXVelocity, initialYVelocity);
+    setRadius(GameConfig.GOALIE_RADIUS);
+  }
+
+  /**
+   * Default constructor for the goalie variation of the MovementManager.
+   * Will spawn in front of net and have 0 velocity.
+   */
+  public MovementManagerGoalie() {
+    super();
+    setRadius(GameConfig.GOALIE_RADIUS);
+  }
+
+  @Override
+  public void updateMovement(double deltaTime) {
+    long time = PhaseTimings.start();
+    applyForces(deltaTime);
+    time = PhaseTimings.record(Phase.INPUT, time);
+    calculateNewPosition(deltaTime);
+    PhaseTimings.record(Phase.POSITION, time);
+  }
+
+  /**
+   * A goalie's velocity comes from its table, or else from its movement keys.
+   * @param deltaTime change in time since the last update.
+   */
+  @Override
+  protected void applyForces(double deltaTime) {
+    if (table != null) {
+      steerFromTable();
+    } else {
+      updateVelocityFromUserInput(deltaTime);
+    }
+  }
+
+  /**
+   * A goalie is kept inside its crease rather than bounced off the boards and nets.
+   */
+  @Override
+  protected void resolveCollisions() {
+  }
+
+  /**
+   * A goalie steered from a table clamps its own velocity, and key input is not clamped at all.
+   * @return no limit.
+   */
+  @Override
+  protected double getMaxVelocity() {
+    return Double.POSITIVE_INFINITY;
+  }
+
+  @Override
+  protected boolean hasFriction() {
+    return false;
+  }
+
+  @Override
+  protected boolean hasPositionConstraint() {
+    return true;
+  }
+
+  /**
+   * A goalie may only move to positions inside the crease of either net.
+   * @param x x-coordinate of the position to move to.
+   * @param y y-coordinate of the position to move to.
+   * @return is the position inside a crease?
+   */
+  @Override
+  protected boolean acceptsPosition(double x, double y) {
+    return isPositionInsideGoalieCrease(x, y);
+  }
+
+  @Override
+  public void handleRinkAndNetReflection(int contactMask) {
+  }
+
+  /**
+   * Hand this goalie over to an AI that positions it from a GoalieTable, or back to key input.
+   * While a table is set, key input is ignored. The table is only read, so the same table can be
+   * given to every goalie on the server.
+   * @param table table to position the goalie from, or null for key input.
+   */
+  public void setGoalieTable(GoalieTable table) {
+    this.table = table;
+    wake();
+  }
+
+  /**
+   * A goalie positioned by a table follows the puck, so it never falls asleep.
+   * @return may the goalie sleep?
+   */
+  @Override
+  protected boolean canSleep() {
+    return table == null && super.canSleep();
+  }
+
+  /**
+   * Get the table that positions this goalie.
+   * @return the goalie's table, or null if it follows key input.
+   */
+  public GoalieTable getGoalieTable() {
+    return table;
+  }
+
+  /**
+   * Look up where to stand for the puck's current state, and head there. The puck is seen from
+   * the net this goalie guards, the one on its half of the rink, so a single table serves both
+   * nets. The move itself is still rejected if it would leave the crease.
+   */
+  private void steerFromTable() {
+    Net[] nets = session.getSessionNets();
+    Net net = position.getXCoord() < GameConfig.RINK_LENGTH / 2 ? nets[0] : nets[1];
+    boolean right = net.getNetSide() == NetSide.RIGHT;
+    double goalLine = net.getPosition().getXCoord();
+    Position puck = session.getSessionPuck().getPosition();
+    double puckXVelocity = session.getSessionPuck().getXVelocity();
+    double puckYVelocity = session.getSessionPuck().getYVelocity();
+
+    int cell = table.findCell(right ? goalLine - puck.getXCoord() : puck.getXCoord() - goalLine,
+        puck.getYCoord(), right ? -puckXVelocity : puckXVelocity, puckYVelocity);
+    double depth = table.getTargetDepth(cell);
+    double targetX = right ? goalLine - depth : goalLine + depth;
+    xVelocity = (targetX - position.getXCoord()) / AI_REACTION_TIME;
+    yVelocity = (table.getTargetY(cell) - position.getYCoord()) / AI_REACTION_TIME;
+    clampVelocity(GameConfig.GOALIE_MAX_VELOCITY);
+  }
+
+  @Override
+  protected void updateVelocityFromUserInput(double deltaTime) {
+    if (upPressed) yVelocity += GameConfig.GOALIE_ACCELERATION * deltaTime;
+    if (downPressed) yVelocity -= GameConfig.GOALIE_ACCELERATION * deltaTime;
+    if (leftPressed) xVelocity -= GameConfig.GOALIE_ACCELERATION * deltaTime;
+    if (rightPressed) xVelocity += GameConfig.GOALIE_ACCELERATION * deltaTime;
+  }
+
+  /**
+   * Is the given position inside the goalie crease of either net?
+   * @param pos Position to compare and see if it overlaps with the goalie crease.
+   * @return Boolean, is this position overlapping with the goalie crease?
+   */
+  private boolean isPositionInsideGoalieCrease(Position pos) {
+    return isPositionInsideGoalieCrease(pos.getXCoord(), pos.getYCoord());
+  }
+
+  /**
+   * Is the given coordinate inside the goalie crease of either net?
+   * @param x x-coordinate to compare against the goalie creases.
+   * @param y y-coordinate to compare against the goalie creases.
+   * @return Boolean, is this coordinate overlapping with the goalie crease?
+   */
+  private boolean isPositionInsideGoalieCrease(double x, double y) {
+
+    for (Net net : session.getSessionNets()) {
+      if (net.getNetSide() == NetSide.LEFT && net.isThisPositionInsideGoalieCrease(x, y)
+          && x >= net.getPosition().getXCoord() - net.getThickness()) {
+        return true;
+      }
+      if (net.getNetSide() == NetSide.RIGHT && net.isThisPositionInsideGoalieCrease(x, y)
+          && x <= net.getPosition().getXCoord() + net.getThickness()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void calculateNewPosition(double deltaTime) {
+    double newX = this.position.getXCoord() + xVelocity * deltaTime;
+    double newY = this.position.getYCoord() + yVelocity * deltaTime;
+
+    if (acceptsPosition(newX, newY)) {
+      this.position.setXCoord(newX);
+      this.position.setYCoord(newY);
+
+      for (Position point : points) {
+        double newPointX = point.getXCoord() + xVelocity * deltaTime;
+        double newPointY = point.getYCoord() + yVelocity * deltaTime;
+        point.setXCoord(newPointX);
+        point.setYCoord(newPointY);
+      }
+    }
+  }
+
+}
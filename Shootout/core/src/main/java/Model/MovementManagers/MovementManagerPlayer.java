@@ -5,6 +5,7 @@ import static Model.GameConfig.*;
 import Model.GameConfig;
 import Model.Player;
 import Model.Position;
+import java.nio.ByteBuffer;
 
 public abstract class MovementManagerPlayer extends MovementManager {
   protected boolean upPressed;
@@ -40,11 +41,16 @@ public abstract class MovementManagerPlayer extends MovementManager {
 
   /**
    * For a player, will alter the state of pressed keys depending on what movement keys the user
-   * is holding down.
+   * is holding down. The key flags are plain fields read during the tick, so this must only be
+   * called from the thread that ticks the session; other threads should queue their input
+   * through a Controller. Pressing a key wakes a sleeping player.
    * @param direction the direction matching the associated key pressed.
    * @param pressed   boolean, is this key being pressed or no?
    */
   public void setKeyPressed(GameConfig.DIRECTION direction, boolean pressed) {
+    if (pressed) {
+      wake();
+    }
     switch (direction) {
       case UP:
         upPressed = pressed;
@@ -61,6 +67,42 @@ public abstract class MovementManagerPlayer extends MovementManager {
     }
   }
 
+  /**
+   * A player only falls asleep while none of its movement keys are held.
+   * @return may the player sleep?
+   */
+  @Override
+  protected boolean canSleep() {
+    return !upPressed && !downPressed && !leftPressed && !rightPressed;
+  }
+
+  /**
+   * Saves the movement state along with the held movement keys, packed into a single byte.
+   * @param buffer buffer to write the state to.
+   */
+  @Override
+  public void saveState(ByteBuffer buffer) {
+    super.saveState(buffer);
+    int keys = (upPressed ? 1 : 0) | (downPressed ? 1 << 1 : 0) | (leftPressed ? 1 << 2 : 0)
+        | (rightPressed ? 1 << 3 : 0);
+    buffer.put((byte) keys);
+  }
+
+  @Override
+  public void restoreState(ByteBuffer buffer) {
+    super.restoreState(buffer);
+    int keys = buffer.get();
+    upPressed = (keys & 1) != 0;
+    downPressed = (keys & (1 << 1)) != 0;
+    leftPressed = (keys & (1 << 2)) != 0;
+    rightPressed = (keys & (1 << 3)) != 0;
+  }
+
+  @Override
+  public int getStateSize() {
+    return super.getStateSize() + 1;
+  }
+
   /**
    * Method to update the velocity as a result of user inputs.
    * @param deltaTime Change in time since the last update.
@@ -0,0 +1,427 @@
+package Model.MovementManagers;
+
+import static Model.GameConfig.*;
+
+import Model.BoardContact;
+import Model.Events.CollisionEvent;
+import Model.GameConfig;
+import Model.GameSession;
+import Model.MovementManagers.PhaseTimings.Phase;
+import Model.Net;
+import Model.Position;
+import Model.SweepHit;
+import java.nio.ByteBuffer;
+
+/**
+ * Class that represents and handles the movement of the Puck class.
+ */
+public class MovementManagerPuck extends MovementManager {
+  /**
+   * The most boards or post impacts resolved within a single step.
+   */
+  private static final int MAX_SWEEP_BOUNCES = 4;
+
+  /**
+   * Gap left between a post and a puck pushed out of it, so that the next sweep starts clear of
+   * the post and sees the impact if the puck is still heading into it.
+   */
+  private static final double NET_CONTACT_SKIN = 1e-9;
+
+  /**
+   * Cosine of half the angle between two mobile points, less some slack so that a contact exactly
+   * between two points marks both.
+   */
+  private static final double FACING_COS = Math.cos(Math.PI / 8) - 1e-9;
+
+  private double angle;
+  private final SweepHit sweepHit = new SweepHit();
+  private final SweepHit sweepCandidate = new SweepHit();
+  private final BoardContact netContact = new BoardContact();
+  private boolean impactIsNet;
+
+  //Look-ahead for predict, created on first use.
+  private PuckPrediction prediction;
+  private MovementManagerPuck lookAheadPuck;
+  private ByteBuffer lookAheadState;
+
+  /**
+   * Constructor to initialize the movement manager for a Puck.
+   * @param initialXVelo initial x velocity that the Puck spawns with.
+   * @param initialYVelo initial y velocity that the Puck spawns with.
+   */
+  public MovementManagerPuck(double initialXVelo, double initialYVelo) {
+    super(initialXVelo, initialYVelo);
+    this.angle = 0;
+  }
+
+  /**
+   * Constructor to initialize the movement manager for a Puck. Based off global configs.
+   */
+  public MovementManagerPuck() {
+    super(0, 0);
+    this.angle = 0;
+    this.radius = PUCK_RADIUS;
+    setPosition(PUCK_START_POS.getXCoord(), PUCK_START_POS.getYCoord());
+  }
+
+  @Override
+  public void updateMovement(double deltaTime) {
+    long time = lookAhead ? 0 : PhaseTimings.start();
+    applyFriction(deltaTime);
+    time = PhaseTimings.record(Phase.FRICTION, time);
+    clampVelocity(GameConfig.PUCK_MAX_VELOCITY);
+    time = PhaseTimings.record(Phase.CLAMP, time);
+    checkCollisionWithBoards();
+    time = PhaseTimings.record(Phase.BOARDS, time);
+    pushOutOfNets(false);
+    time = PhaseTimings.record(Phase.NETS, time);
+    calculateSweptPosition(deltaTime);
+    PhaseTimings.record(Phase.POSITION, time);
+  }
+
+  /**
+   * Continuous version of calculateNewPosition. Rather than jumping straight to the end of the
+   * step, the puck is swept along its velocity against the boards and the posts of both nets. It
+   * advances to the earliest time of impact, reflects off that surface, and continues with the
+   * time left in the step. A fast puck or a coarse timestep can therefore no longer tunnel through
+   * a post or the boards between two ticks.
+   *
+   * @param deltaTime change in time since the last update.
+   */
+  protected void calculateSweptPosition(double deltaTime) {
+    double remaining = deltaTime;
+    for (int bounce = 0; bounce < MAX_SWEEP_BOUNCES && remaining > 0; bounce++) {
+      if (!findEarliestImpact(remaining, sweepHit)) {
+        break;
+      }
+      double time = sweepHit.getTime();
+      translate(xVelocity * time, yVelocity * time);
+      remaining -= time;
+      recordCollision(impactIsNet ? CollisionEvent.NET : CollisionEvent.BOARDS,
+          contactMaskFacing(sweepHit.getNormalX(), sweepHit.getNormalY()));
+      reflectOffSurface(sweepHit.getNormalX(), sweepHit.getNormalY());
+    }
+    if (remaining > 0) {
+      translate(xVelocity * remaining, yVelocity * remaining);
+    }
+  }
+
+  /**
+   * Jump the puck ahead along its coasting path in one step, using the closed-form friction decay
+   * of FrictionDecay instead of stepping through every tick. The puck slides in a straight line
+   * until the first of: maxSeconds passing, its speed dropping to stopSpeed, or an impact with the
+   * boards or a post. On an impact it is left touching the surface with its velocity reflected,
+   * so calling this again carries on from the bounce. The speed limit is not applied, as a
+   * sliding puck only slows down.
+   *
+   * @param maxSeconds the most time to jump ahead by.
+   * @param stopSpeed  speed at which the puck counts as stopped; must be positive.
+   * @return seconds the puck was moved ahead by, 0 if it was already stopped.
+   */
+  public double fastForward(double maxSeconds, double stopSpeed) {
+    double speed = Math.sqrt(xVelocity * xVelocity + yVelocity * yVelocity);
+    if (speed <= stopSpeed || maxSeconds <= 0) {
+      return 0;
+    }
+    double time = Math.min(maxSeconds, FrictionDecay.timeToSlowTo(speed, stopSpeed));
+    //The path is a straight line, so sweep it as if the puck kept its current speed for as long
+    //as it takes to cover the same distance.
+    double linearTime = FrictionDecay.distanceAfter(speed, time) / speed;
+    boolean hit = findEarliestImpact(linearTime, sweepHit);
+    if (hit) {
+      linearTime = sweepHit.getTime();
+      time = FrictionDecay.timeToTravel(speed, speed * linearTime);
+    }
+    translate(xVelocity * linearTime, yVelocity * linearTime);
+    double decay = FrictionDecay.decayFactor(time);
+    xVelocity *= decay;
+    yVelocity *= decay;
+    if (hit) {
+      recordCollision(impactIsNet ? CollisionEvent.NET : CollisionEvent.BOARDS,
+          contactMaskFacing(sweepHit.getNormalX(), sweepHit.getNormalY()));
+      reflectOffSurface(sweepHit.getNormalX(), sweepHit.getNormalY());
+    }
+    setXVelocity(xVelocity);
+    setYVelocity(yVelocity);
+    return time;
+  }
+
+  /**
+   * Find the earliest impact of the puck, moving at its current velocity, against the boards or
+   * either net within the given time. Whether the earliest impact is with a net is left in
+   * impactIsNet.
+   * @param maxTime time left in the step.
+   * @param hit     result to overwrite with the earliest impact.
+   * @return does the puck hit anything within maxTime?
+   */
+  private boolean findEarliestImpact(double maxTime, SweepHit hit) {
+    double x = position.getXCoord();
+    double y = position.getYCoord();
+    double earliest = maxTime;
+    boolean found = false;
+    impactIsNet = false;
+    if (rink.sweepCircle(x, y, xVelocity, yVelocity, radius, earliest, hit)) {
+      earliest = hit.getTime();
+      found = true;
+    }
+    //The stretch between the nets is convex, so if both ends of the sweep are in it, so is all
+    //of it.
+    if (rink.isClearOfNets(x, radius) && rink.isClearOfNets(x + xVelocity * earliest, radius)) {
+      return found;
+    }
+    for (Net net : session.getSessionNets()) {
+      if (net.sweepPuck(x, y, xVelocity, yVelocity, radius, earliest, sweepCandidate)) {
+        hit.copyFrom(sweepCandidate);
+        earliest = hit.getTime();
+        found = true;
+        impactIsNet = true;
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Work out which mobile points sit at the contact with a surface the puck is touching, for a
+   * CollisionEvent. The puck is resolved against the surface itself rather than its points, so
+   * these are the points within half the spacing between points of the direction of the contact.
+   * @param normalX x-component of the surface normal, pointing towards the puck.
+   * @param normalY y-component of the surface normal, pointing towards the puck.
+   * @return bitmask of the mobile points at the contact, or 0 if no recording wants the event.
+   */
+  private int contactMaskFacing(double normalX, double normalY) {
+    if (lookAhead || !CollisionEvent.isRecording()) {
+      return 0;
+    }
+    int contactMask = 0;
+    for (int i = 0; i < POINT_COUNT; i++) {
+      if (-(POINT_X_DIRECTIONS[i] * normalX + POINT_Y_DIRECTIONS[i] * normalY) >= FACING_COS) {
+        contactMask |= 1 << i;
+      }
+    }
+    return contactMask;
+  }
+
+  /**
+   * Reflect the part of the velocity heading into a surface, scaled by the board restitution.
+   * @param normalX x-component of the surface normal, pointing towards the puck.
+   * @param normalY y-component of the surface normal, pointing towards the puck.
+   */
+  private void reflectOffSurface(double normalX, double normalY) {
+    double intoSurface = xVelocity * normalX + yVelocity * normalY;
+    if (intoSurface < 0) {
+      double impulse = (1 + GameConfig.BOARD_RESTITUTION) * intoSurface;
+      xVelocity -= impulse * normalX;
+      yVelocity -= impulse * normalY;
+    }
+  }
+
+  /**
+   * Predict the path of this puck over the given horizon, as it would slide if nothing but the
+   * boards and nets touched it: friction, the speed limit, board and post reflections and the
+   * swept motion are all stepped ahead with the puck's own movement code, one tick at a time.
+   * A fast puck's ticks are split as GameSession.subStepsFor would split them with the puck as
+   * the fastest object in the session.
+   * The prediction also holds the first crossing of either goal line within the horizon.
+   *
+   * <p>Twice the horizon is computed, and the path is kept between calls. As long as the puck
+   * is found exactly on that path, which it is while it slides freely, a call only moves along the
+   * path rather than stepping again; a shot, poke check or anything else that changes the puck's
+   * velocity or position sends it off the path and the next call computes a new one. Nothing is
+   * allocated unless the horizon is longer than any asked for before.
+   *
+   * @param horizonSeconds how far ahead to predict, in seconds.
+   * @return this puck's prediction, refilled in place and valid until the next call.
+   * @throws IllegalStateException if the puck is not attached to a session.
+   */
+  public PuckPrediction predict(double horizonSeconds) throws IllegalStateException {
+    if (session == null) {
+      throw new IllegalStateException("Only a puck in a session can be predicted!");
+    }
+    double timeStep = session.getFixedDeltaTime();
+    int steps = Math.max(1, (int) Math.ceil(horizonSeconds / timeStep));
+    Net[] nets = session.getSessionNets();
+    Position center = getPosition();
+    double x = center.getXCoord();
+    double y = center.getYCoord();
+    double currentXVelocity = getXVelocity();
+    double currentYVelocity = getYVelocity();
+    if (prediction == null) {
+      prediction = new PuckPrediction();
+      lookAheadPuck = new MovementManagerPuck();
+      lookAheadPuck.lookAhead = true;
+      lookAheadState = ByteBuffer.allocate(getStateSize());
+    } else if (prediction.rebase(x, y, currentXVelocity, currentYVelocity, steps, timeStep,
+        nets)) {
+      return prediction;
+    }
+
+    int pathSteps = steps * 2;
+    prediction.ensureCapacity(pathSteps);
+    lookAheadPuck.setSessionContext(session);
+    lookAheadState.clear();
+    saveState(lookAheadState);
+    lookAheadState.flip();
+    lookAheadPuck.restoreState(lookAheadState);
+    prediction.set(0, x, y, currentXVelocity, currentYVelocity);
+    for (int step = 1; step <= pathSteps; step++) {
+      double speed = Math.sqrt(lookAheadPuck.xVelocity * lookAheadPuck.xVelocity
+          + lookAheadPuck.yVelocity * lookAheadPuck.yVelocity);
+      int subSteps = GameSession.subStepsFor(speed, timeStep);
+      for (int subStep = 0; subStep < subSteps; subStep++) {
+        lookAheadPuck.updateMovement(timeStep / subSteps);
+      }
+      prediction.set(step, lookAheadPuck.position.getXCoord(), lookAheadPuck.position.getYCoord(),
+          lookAheadPuck.xVelocity, lookAheadPuck.yVelocity);
+    }
+    prediction.reset(pathSteps, steps, timeStep, nets);
+    return prediction;
+  }
+
+  /**
+   * Used by a WorldStore, which moves the puck without sweeping it, so the net contact bounces the
+   * puck here, with the same reflection a sweep would apply.
+   */
+  @Override
+  protected void resolveCollisions() {
+    checkCollisionWithBoards();
+    pushOutOfNets(true);
+  }
+
+  @Override
+  protected double getMaxVelocity() {
+    return GameConfig.PUCK_MAX_VELOCITY;
+  }
+
+
+  /**
+   * Set the velocity for the puck after the shot, waking it if it was asleep.
+   * The velocities will scale depending on the angle and strength of the shot.
+   * StrictMath is used so that a recorded shot replays to the same velocity on any JVM.
+   * @param angle The angle, in degrees, at which the puck was shot from.
+   * @param strength The Strength of the shot. Decides how much more velocity the puck has.
+   *                 Strength is done on a scale of 0 - 5.
+   * @throws IllegalArgumentException if the angle is not finite or the strength is out of range.
+   */
+  public void handleShot(double angle, double strength) throws IllegalArgumentException {
+    if (!(strength >= 0.0 && strength <= 5.0) || !Double.isFinite(angle)) {
+      throw new IllegalArgumentException("Shot needs a finite angle and a strength between 0.0 "
+          + "and 5.0!");
+    }
+    wake();
+    double force = strength * GameConfig.SHOT_STRENGTH_FACTOR;
+    double xFactor = force * StrictMath.cos(angle);
+    double yFactor = force * StrictMath.sin(angle);
+
+    this.angle = angle;
+    setXVelocity(getXVelocity() + xFactor);
+    setYVelocity(getYVelocity() + yFactor);
+
+    clampVelocity(GameConfig.PUCK_MAX_VELOCITY);
+  }
+
+  /**
+   * Alter the movement of the puck as a result of being poke checked, waking it if it was asleep.
+   * @param angle The angle in degrees from which the stick that poke checked the puck came from.
+   * @throws IllegalArgumentException if the angle is not finite.
+   */
+  public void handlePokeCheck(double angle) throws IllegalArgumentException {
+    if (!Double.isFinite(angle)) {
+      throw new IllegalArgumentException("Poke check needs a finite angle!");
+    }
+    wake();
+
+    double force = GameConfig.SHOT_STRENGTH_FACTOR;
+    double xFactor = force * StrictMath.cos(angle);
+    double yFactor = force * StrictMath.sin(angle);
+
+    this.angle = angle;
+    setXVelocity(getXVelocity() + xFactor);
+    setYVelocity(getYVelocity() + yFactor);
+
+    clampVelocity(GameConfig.PUCK_MAX_VELOCITY);
+  }
+
+  /**
+   * Reflect the velocities for a puck that collides with the net.
+   * @param position Position at which the object is, if they are past or in contact with the side,
+   *                 back, or post of the net, they reflect.
+   * @return New position that the mobile object is after reflecting, will likely be the location
+   * of contact.
+   */
+  protected Position reflectOffNet(Position position) {
+    return null;
+  }
+
+  private void checkCollisionWithBoards() {
+    handleBoardReflection();
+  }
+
+  /**
+   * Push the puck back out of any net post it overlaps, along the shortest way out. The posts are
+   * solid for calculateSweptPosition, so the puck only starts a step inside one after being
+   * placed there, or pushed there by another object.
+   *
+   * <p>In a session tick the velocity is left alone: the bounce off a post always comes from the
+   * sweep that follows, whether or not the puck started the step touching the post, so every
+   * post impact reflects the same way.
+   *
+   * @param bounce should the velocity heading into the post be reflected here as well? Only
+   *               for steps that are not swept.
+   */
+  private void pushOutOfNets(boolean bounce) {
+    if (rink.isClearOfNets(getPosition().getXCoord(), radius)) {
+      return;
+    }
+    for (Net net : session.getSessionNets()) {
+      Position center = getPosition();
+      if (net.queryPuckContact(center.getXCoord(), center.getYCoord(), radius, netContact)) {
+        double normalX = netContact.getNormalX();
+        double normalY = netContact.getNormalY();
+        double depth = netContact.getPenetration() + NET_CONTACT_SKIN;
+        translate(-normalX * depth, -normalY * depth);
+        if (bounce) {
+          recordCollision(CollisionEvent.NET, contactMaskFacing(-normalX, -normalY));
+          reflectOffSurface(-normalX, -normalY);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void handleRinkAndNetReflection(int contactMask) {
+    reflectOffContactPoints(contactMask);
+  }
+
+  /**
+   * Set the angle of this puck. (Degrees).
+   * @param angle the double to represent this puck's new angle.
+   */
+  public void setAngle(double angle) {
+    this.angle = angle;
+  }
+
+  /**
+   * Retrieve the angle of this puck. (Degrees).
+   * @return double representing the angle of this puck.
+   */
+  public double getAngle() {
+    return angle;
+  }
+
+  @Override
+  public void saveState(ByteBuffer buffer) {
+    super.saveState(buffer);
+    buffer.putDouble(angle);
+  }
+
+  @Override
+  public void restoreState(ByteBuffer buffer) {
+    super.restoreState(buffer);
+    angle = buffer.getDouble();
+  }
+
+  @Override
+  public int getStateSize() {
+    return super.getStateSize() + Double.BYTES;
+  }
+}
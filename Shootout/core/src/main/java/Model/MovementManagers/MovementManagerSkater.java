@@ -0,0 +1,102 @@
+package Model.MovementManagers;
+
+import Model.Events.CollisionEvent;
+import Model.GameConfig;
+import Model.MovementManagers.PhaseTimings.Phase;
+import Model.Net;
+
+public class MovementManagerSkater extends MovementManagerPlayer {
+  private double dampingDeltaTime = Double.NaN;
+  private double dampingFactor;
+
+  public MovementManagerSkater(double initialXVelocity, double initialYVelocity) {
+    super(initialXVelocity, initialYVelocity);
+  }
+
+  public MovementManagerSkater() {
+    super();
+  }
+
+  @Override
+  public void updateMovement(double deltaTime) {
+    long time = PhaseTimings.start();
+    updateVelocityFromUserInput(deltaTime);
+    time = PhaseTimings.record(Phase.INPUT, time);
+    applyFriction(deltaTime);
+    time = PhaseTimings.record(Phase.FRICTION, time);
+    applyDamping(deltaTime);
+    time = PhaseTimings.record(Phase.DAMPING, time);
+    checkCollisionWithBoards();
+    time = PhaseTimings.record(Phase.BOARDS, time);
+    checkCollisionWithNet();
+    time = PhaseTimings.record(Phase.NETS, time);
+    clampVelocity(GameConfig.SKATER_MAX_VELOCITY);
+    time = PhaseTimings.record(Phase.CLAMP, time);
+    calculateNewPosition(deltaTime);
+    PhaseTimings.record(Phase.POSITION, time);
+  }
+
+  @Override
+  protected void applyForces(double deltaTime) {
+    updateVelocityFromUserInput(deltaTime);
+    applyDamping(deltaTime);
+  }
+
+  @Override
+  protected void resolveCollisions() {
+    checkCollisionWithBoards();
+    checkCollisionWithNet();
+  }
+
+  @Override
+  protected double getMaxVelocity() {
+    return GameConfig.SKATER_MAX_VELOCITY;
+  }
+
+  private void checkCollisionWithBoards() {
+    handleBoardReflection();
+  }
+
+  private void checkCollisionWithNet() {
+    if (rink.isClearOfNets(getPosition().getXCoord(), radius)) {
+      return;
+    }
+    Net[] nets = session.getSessionNets();
+    for (Net net : nets) {
+      int contactMask = net.netContactMask(this);
+      if (contactMask != 0) {
+        recordCollision(CollisionEvent.NET, contactMask);
+        handleRinkAndNetReflection(contactMask);
+      }
+    }
+  }
+
+  @Override
+  public void handleRinkAndNetReflection(int contactMask) {
+    reflectOffContactPoints(contactMask);
+  }
+
+  @Override
+  protected void updateVelocityFromUserInput(double deltaTime) {
+    if (upPressed) yVelocity += GameConfig.SKATER_ACCELERATION * deltaTime;
+    if (downPressed) yVelocity -= GameConfig.SKATER_ACCELERATION * deltaTime;
+    if (leftPressed) xVelocity -= GameConfig.SKATER_ACCELERATION * deltaTime;
+    if (rightPressed) xVelocity += GameConfig.SKATER_ACCELERATION * deltaTime;
+  }
+
+  /**
+   * Applies a damping factor to the velocity to simulate gradual reduction in speed
+   * when no forces are applied. The factor is scaled to the tick length, so a skater slows down
+   * just as much per second at any tick rate.
+   * @param deltaTime change in time since the last update.
+   */
+  private void applyDamping(double deltaTime) {
+    if (deltaTime != dampingDeltaTime) {
+      dampingDeltaTime = deltaTime;
+      dampingFactor = FrictionDecay.dampingFactor(deltaTime);
+    }
+    xVelocity *= dampingFactor;
+    yVelocity *= dampingFactor;
+  }
+
+}
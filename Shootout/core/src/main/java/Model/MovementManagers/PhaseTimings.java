@@ -0,0 +1,107 @@
+package Model.MovementManagers;
+
+import java.io.PrintStream;
+
+/**
+ * Optional timing of every phase of the movement pipeline. When enabled, each movement manager
+ * times its phases with chained System.nanoTime() calls and records them into one
+ * LatencyHistogram per phase, shared by every session and thread. When disabled, which is the
+ * default, each phase costs a single check of a flag.
+ *
+ * <p>Timing can be enabled at startup with -Dshootout.phaseTimings=true or at any time with
+ * setEnabled, and the histograms can be dumped while sessions keep ticking.
+ */
+public final class PhaseTimings {
+
+  /**
+   * The phases of the movement pipeline, in the order they run.
+   */
+  public enum Phase {
+    INPUT, FRICTION, DAMPING, BOARDS, NETS, CLAMP, POSITION
+  }
+
+  private static final Phase[] PHASES = Phase.values();
+  private static final LatencyHistogram[] HISTOGRAMS = new LatencyHistogram[PHASES.length];
+
+  static {
+    for (int i = 0; i < HISTOGRAMS.length; i++) {
+      HISTOGRAMS[i] = new LatencyHistogram();
+    }
+  }
+
+  private static volatile boolean enabled = Boolean.getBoolean("shootout.phaseTimings");
+
+  private PhaseTimings() {
+  }
+
+  /**
+   * Turn phase timing on or off for every session.
+   * @param on should phases be timed?
+   */
+  public static void setEnabled(boolean on) {
+    enabled = on;
+  }
+
+  /**
+   * Is phase timing on?
+   * @return true if phases are being timed.
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Start timing the first phase of an update.
+   * @return the current time, or 0 if timing is off.
+   */
+  static long start() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Record the phase that just finished and start timing the next one.
+   * @param phase the phase that just finished.
+   * @param start value returned by start, or by the previous call to record.
+   * @return the current time to time the next phase from, or 0 if timing is off.
+   */
+  static long record(Phase phase, long start) {
+    if (start == 0) {
+      return 0;
+    }
+    long now = System.nanoTime();
+    HISTOGRAMS[phase.ordinal()].record(now - start);
+    return now;
+  }
+
+  /**
+   * Get the histogram of the given phase.
+   * @param phase phase of the movement pipeline.
+   * @return the histogram the phase is recorded into.
+   */
+  public static LatencyHistogram getHistogram(Phase phase) {
+    return HISTOGRAMS[phase.ordinal()];
+  }
+
+  /**
+   * Forget everything recorded so far.
+   */
+  public static void reset() {
+    for (LatencyHistogram histogram : HISTOGRAMS) {
+      histogram.reset();
+    }
+  }
+
+  /**
+   * Print the count, p50, p99, p999 and max of every phase, in nanoseconds.
+   * @param out stream to print to.
+   */
+  public static void dump(PrintStream out) {
+    out.printf("%-9s %12s %8s %8s %8s %10s%n", "phase", "count", "p50", "p99", "p999", "max");
+    for (Phase phase : PHASES) {
+      LatencyHistogram histogram = HISTOGRAMS[phase.ordinal()];
+      out.printf("%-9s %12d %8d %8d %8d %10d%n", phase, histogram.getCount(),
+          histogram.getPercentile(0.5), histogram.getPercentile(0.99),
+          histogram.getPercentile(0.999), histogram.getMax());
+    }
+  }
+}
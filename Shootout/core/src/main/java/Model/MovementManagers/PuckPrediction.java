@@ -0,0 +1,230 @@
+package Model.MovementManagers;
+
+import Model.Net;
+import java.util.Arrays;
+
+/**
+ * The path a puck is predicted to slide along, as returned by MovementManagerPuck.predict. The
+ * path holds the puck's position and velocity at the end of every tick of the horizon, index 0
+ * being its state when the prediction was asked for. It also holds the first time the puck
+ * crosses either goal line within the horizon.
+ *
+ * <p>A puck owns a single prediction and hands out the same instance on every call, refilled in
+ * place, so the values are only valid until the next call to predict. Behind the view of the
+ * horizon asked for, the prediction keeps a longer path; while the puck stays on that path, later
+ * calls only move the view along it instead of stepping the puck again.
+ */
+public final class PuckPrediction {
+  private double[] x = new double[0];
+  private double[] y = new double[0];
+  private double[] xVelocity = new double[0];
+  private double[] yVelocity = new double[0];
+  private int computed;
+  private int offset;
+  private int steps;
+  private double timeStep;
+
+  private boolean crossing;
+  private double crossingTime;
+  private double crossingX;
+  private double crossingY;
+  private Net.NetSide crossingSide;
+  private boolean crossingOnNet;
+
+  PuckPrediction() {
+  }
+
+  /**
+   * Make room for a path of the given number of steps. Only allocates when the path is longer
+   * than any before it.
+   */
+  void ensureCapacity(int pathSteps) {
+    if (x.length <= pathSteps) {
+      x = Arrays.copyOf(x, pathSteps + 1);
+      y = Arrays.copyOf(y, pathSteps + 1);
+      xVelocity = Arrays.copyOf(xVelocity, pathSteps + 1);
+      yVelocity = Arrays.copyOf(yVelocity, pathSteps + 1);
+    }
+  }
+
+  /**
+   * Store the state at the given index of a freshly computed path.
+   */
+  void set(int index, double x, double y, double xVelocity, double yVelocity) {
+    this.x[index] = x;
+    this.y[index] = y;
+    this.xVelocity[index] = xVelocity;
+    this.yVelocity[index] = yVelocity;
+  }
+
+  /**
+   * Start viewing a freshly computed path from its beginning.
+   * @param pathSteps number of steps that were computed after index 0.
+   * @param steps     number of steps in the horizon asked for.
+   * @param timeStep  seconds between two steps.
+   * @param nets      nets whose goal lines to look for a crossing of.
+   */
+  void reset(int pathSteps, int steps, double timeStep, Net[] nets) {
+    this.computed = pathSteps;
+    this.timeStep = timeStep;
+    view(0, steps, nets);
+  }
+
+  /**
+   * Try to move the view to the puck's current state, if it lies on the computed path and there
+   * is enough of the path left after it for the horizon asked for. Comparisons are exact: the
+   * path is stepped with the same code as the puck, so a puck left to slide stays on it exactly.
+   * @return was the state found on the path?
+   */
+  boolean rebase(double x, double y, double xVelocity, double yVelocity, int steps,
+      double timeStep, Net[] nets) {
+    if (timeStep != this.timeStep) {
+      return false;
+    }
+    for (int index = offset; index + steps <= computed; index++) {
+      if (this.x[index] == x && this.y[index] == y && this.xVelocity[index] == xVelocity
+          && this.yVelocity[index] == yVelocity) {
+        view(index, steps, nets);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void view(int offset, int steps, Net[] nets) {
+    this.offset = offset;
+    this.steps = steps;
+    crossing = false;
+    for (int i = offset + 1; i <= offset + steps && !crossing; i++) {
+      checkCrossing(i, nets[0]);
+      checkCrossing(i, nets[1]);
+    }
+  }
+
+  /**
+   * Record a crossing of the net's goal line between the step before index and index. If both
+   * lines are crossed in the same step, the earlier crossing wins.
+   */
+  private void checkCrossing(int index, Net net) {
+    double lineX = net.getPosition().getXCoord();
+    double fromX = x[index - 1];
+    double toX = x[index];
+    if ((fromX < lineX) == (toX < lineX)) {
+      return;
+    }
+    double fraction = (lineX - fromX) / (toX - fromX);
+    double time = (index - 1 - offset + fraction) * timeStep;
+    if (crossing && crossingTime <= time) {
+      return;
+    }
+    crossing = true;
+    crossingTime = time;
+    crossingX = lineX;
+    crossingY = y[index - 1] + (y[index] - y[index - 1]) * fraction;
+    crossingSide = net.getNetSide();
+    double bottom = net.getPosition().getYCoord();
+    crossingOnNet = crossingY > bottom && crossingY < bottom + net.getLength();
+  }
+
+  /**
+   * Get the number of steps in the predicted horizon. The path has one more entry than this,
+   * because index 0 is the state the prediction started from.
+   * @return steps of the horizon.
+   */
+  public int getStepCount() {
+    return steps;
+  }
+
+  /**
+   * Get the time between two entries of the path, the session's fixed tick length.
+   * @return seconds per step.
+   */
+  public double getTimeStep() {
+    return timeStep;
+  }
+
+  /**
+   * Get the predicted x-coordinate of the puck after the given number of steps.
+   * @param step index into the path, from 0 to getStepCount.
+   * @return predicted x-coordinate.
+   */
+  public double getX(int step) {
+    return x[offset + step];
+  }
+
+  /**
+   * Get the predicted y-coordinate of the puck after the given number of steps.
+   * @param step index into the path, from 0 to getStepCount.
+   * @return predicted y-coordinate.
+   */
+  public double getY(int step) {
+    return y[offset + step];
+  }
+
+  /**
+   * Get the predicted x-velocity of the puck after the given number of steps.
+   * @param step index into the path, from 0 to getStepCount.
+   * @return predicted x-velocity.
+   */
+  public double getXVelocity(int step) {
+    return xVelocity[offset + step];
+  }
+
+  /**
+   * Get the predicted y-velocity of the puck after the given number of steps.
+   * @param step index into the path, from 0 to getStepCount.
+   * @return predicted y-velocity.
+   */
+  public double getYVelocity(int step) {
+    return yVelocity[offset + step];
+  }
+
+  /**
+   * Does the puck cross either goal line within the horizon?
+   * @return is there a crossing?
+   */
+  public boolean hasGoalLineCrossing() {
+    return crossing;
+  }
+
+  /**
+   * Get the time from now at which the puck first crosses a goal line, interpolated within the
+   * step it happens in. Only meaningful if hasGoalLineCrossing.
+   * @return seconds until the crossing.
+   */
+  public double getCrossingTime() {
+    return crossingTime;
+  }
+
+  /**
+   * Get the x-coordinate at which the puck first crosses a goal line.
+   * @return x-coordinate of the goal line crossed.
+   */
+  public double getCrossingX() {
+    return crossingX;
+  }
+
+  /**
+   * Get the y-coordinate at which the puck first crosses a goal line.
+   * @return y-coordinate of the crossing.
+   */
+  public double getCrossingY() {
+    return crossingY;
+  }
+
+  /**
+   * Get the side of the rink whose goal line the puck first crosses.
+   * @return side of the crossed goal line.
+   */
+  public Net.NetSide getCrossingSide() {
+    return crossingSide;
+  }
+
+  /**
+   * Does the first crossing pass between the posts of that side's net?
+   * @return is the crossing on net?
+   */
+  public boolean isCrossingOnNet() {
+    return crossingOnNet;
+  }
+}
@@ -0,0 +1,180 @@
+package Model.MovementManagers;
+
+import java.util.Arrays;
+
+/**
+ * This class is an optional, column-oriented home for the movement state of many mobile objects.
+ * Rather than every MovementManager holding its own Position and velocity fields, the x, y,
+ * x-velocity, y-velocity, radius and maximum velocity of every bound object are kept in parallel
+ * primitive arrays, indexed by the object's slot. The friction, clamping and integration passes
+ * of a step then become tight loops over those arrays. Pucks, skaters and goalies can all be
+ * bound: slots that friction does not slow down, and slots that may only move to some positions,
+ * such as a goalie held in its crease, are flagged in columns of their own.
+ *
+ * <p>Once a manager is bound, its getters and setters read and write through this store, and it
+ * is advanced by {@link #step(double)} instead of its own updateMovement.
+ *
+ * <p>A store is a bulk integrator that runs instead of a session tick, and GameSession never binds
+ * its objects to one. Its step is the plain per-object pipeline: it does not skip sleeping
+ * objects, sweep the puck against the posts, time its phases or split fast steps, all of which
+ * a session tick does. Bound managers still bounce off the rink and nets of the SessionContext
+ * given to their setSessionContext, which must be set before the first step; the store only holds
+ * their movement state. Objects that a session ticks must not be bound.
+ */
+public class WorldStore {
+  double[] x;
+  double[] y;
+  double[] xVelocity;
+  double[] yVelocity;
+  double[] radius;
+  double[] maxVelocity;
+  boolean[] hasFriction;
+  boolean[] constrained;
+  private MovementManager[] owners;
+  private int size;
+
+  /**
+   * Constructor for an empty store.
+   * @param initialCapacity number of objects the store can hold before growing.
+   */
+  public WorldStore(int initialCapacity) {
+    int capacity = Math.max(1, initialCapacity);
+    x = new double[capacity];
+    y = new double[capacity];
+    xVelocity = new double[capacity];
+    yVelocity = new double[capacity];
+    radius = new double[capacity];
+    maxVelocity = new double[capacity];
+    hasFriction = new boolean[capacity];
+    constrained = new boolean[capacity];
+    owners = new MovementManager[capacity];
+    size = 0;
+  }
+
+  /**
+   * Reserve a slot for the given manager, copying its current state into the columns.
+   * @param owner the manager that will read and write through this slot.
+   * @return the slot index of the manager.
+   */
+  int add(MovementManager owner) {
+    if (size == owners.length) {
+      grow();
+    }
+    int slot = size++;
+    x[slot] = owner.position.getXCoord();
+    y[slot] = owner.position.getYCoord();
+    xVelocity[slot] = owner.xVelocity;
+    yVelocity[slot] = owner.yVelocity;
+    radius[slot] = owner.radius;
+    maxVelocity[slot] = owner.getMaxVelocity();
+    hasFriction[slot] = owner.hasFriction();
+    constrained[slot] = owner.hasPositionConstraint();
+    owners[slot] = owner;
+    return slot;
+  }
+
+  /**
+   * Advance every bound object by one step. Per-object forces (such as user input) are applied
+   * first, followed by friction over every slot, each object's collision checks, and finally the
+   * velocity clamp and position integration over every slot.
+   * @param deltaTime change in time since the last step.
+   */
+  public void step(double deltaTime) {
+    for (int i = 0; i < size; i++) {
+      owners[i].applyForcesInStore(deltaTime);
+    }
+    applyFriction(deltaTime);
+    for (int i = 0; i < size; i++) {
+      owners[i].resolveCollisionsInStore();
+    }
+    clampVelocities();
+    integrate(deltaTime);
+  }
+
+  /**
+   * Bring every velocity that friction acts on closer to zero, the same way
+   * MovementManager.applyFriction does.
+   * @param deltaTime change in time since the last step.
+   */
+  public void applyFriction(double deltaTime) {
+    double factor = FrictionDecay.decayFactor(deltaTime);
+    for (int i = 0; i < size; i++) {
+      if (hasFriction[i]) {
+        xVelocity[i] *= factor;
+        yVelocity[i] *= factor;
+      }
+    }
+  }
+
+  /**
+   * Clamp every velocity component to its slot's maximum velocity.
+   */
+  public void clampVelocities() {
+    for (int i = 0; i < size; i++) {
+      double max = maxVelocity[i];
+      xVelocity[i] = Math.max(-max, Math.min(max, xVelocity[i]));
+      yVelocity[i] = Math.max(-max, Math.min(max, yVelocity[i]));
+    }
+  }
+
+  /**
+   * Move every position by its velocity over the given time. A constrained slot stays where it is
+   * if its owner does not accept the new position.
+   * @param deltaTime change in time since the last step.
+   */
+  public void integrate(double deltaTime) {
+    for (int i = 0; i < size; i++) {
+      double newX = x[i] + xVelocity[i] * deltaTime;
+      double newY = y[i] + yVelocity[i] * deltaTime;
+      if (constrained[i] && !owners[i].acceptsPosition(newX, newY)) {
+        continue;
+      }
+      x[i] = newX;
+      y[i] = newY;
+    }
+  }
+
+  /**
+   * Get the number of objects bound to this store.
+   * @return number of occupied slots.
+   */
+  public int size() {
+    return size;
+  }
+
+  public double getX(int slot) {
+    return x[slot];
+  }
+
+  public double getY(int slot) {
+    return y[slot];
+  }
+
+  public double getXVelocity(int slot) {
+    return xVelocity[slot];
+  }
+
+  public double getYVelocity(int slot) {
+    return yVelocity[slot];
+  }
+
+  public double getRadius(int slot) {
+    return radius[slot];
+  }
+
+  /**
+   * Double the capacity of every column.
+   */
+  private void grow() {
+    int capacity = owners.length * 2;
+    x = Arrays.copyOf(x, capacity);
+    y = Arrays.copyOf(y, capacity);
+    xVelocity = Arrays.copyOf(xVelocity, capacity);
+    yVelocity = Arrays.copyOf(yVelocity, capacity);
+    radius = Arrays.copyOf(radius, capacity);
+    maxVelocity = Arrays.copyOf(maxVelocity, capacity);
+    hasFriction = Arrays.copyOf(hasFriction, capacity);
+    constrained = Arrays.copyOf(constrained, capacity);
+    owners = Arrays.copyOf(owners, capacity);
+  }
+}
@@ -0,0 +1,640 @@
+package Model;
+
+import Model.Events.GoalEvent;
+import Model.MovementManagers.IMovementManageable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class representing a net in the hockey game. Each net has a position, established size including
+ * the length of the net opening, as well as the length of the sides that run parallel on the goal
+ * to track for collision.
+ * **POSITION TRACKS THE VERY BOTTOM OF THE POST AT THE OPENING OF THE NET.**
+ */
+public class Net {
+  private final Position position;
+  private final double length;
+  private final double sideLength;
+  private final double thickness;
+  private Player.TEAM color;
+  private final GoalieCrease crease;
+  boolean goal;
+  private NetSide netSide;
+  private final SweepHit sweepCandidate = new SweepHit();
+
+  //Areas taken up by each part of the net, computed once from its placement.
+  private final PostBox topPost;
+  private final PostBox bottomPost;
+  private final PostBox backPost;
+  private final PostBox frontNet;
+  private final PostBox bounds;
+
+  /**
+   * Axis-aligned rectangle taken up by one part of the net.
+   */
+  private static final class PostBox {
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+
+    private PostBox(double minX, double minY, double maxX, double maxY) {
+      this.minX = minX;
+      this.minY = minY;
+      this.maxX = maxX;
+      this.maxY = maxY;
+    }
+
+    private boolean contains(double x, double y) {
+      return x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+  }
+
+  /**
+   * Enumeration representing the side of the rink the net is placed.
+   * So NetSide.LEFT has a net on the left side, which means the net opens up towards the right.
+   */
+  public enum NetSide {
+    LEFT, RIGHT
+  }
+
+  public Net(Position position, Player.TEAM color, NetSide netSide) {
+    this.position = position;
+    this.color = color;
+    this.length = GameConfig.NET_LENGTH;
+    this.sideLength = GameConfig.NET_SIDE_LENGTH;
+    this.thickness = GameConfig.NET_THICKNESS;
+    this.goal = false;
+    this.netSide = netSide;
+    this.crease = initalizeCrease(GameConfig.GOALIE_CREASE_RADIUS);
+
+    double netX = position.getXCoord();
+    double netY = position.getYCoord();
+    double top = netY + length + (thickness * 2);
+    if (netSide == NetSide.LEFT) {
+      this.topPost = new PostBox(netX - sideLength, netY + thickness + length, netX, top);
+      this.bottomPost = new PostBox(netX - sideLength, netY, netX, netY + thickness);
+      this.backPost = new PostBox(netX - sideLength, netY, netX - sideLength + thickness, top);
+      this.frontNet = new PostBox(netX - thickness, netY + thickness, netX,
+          netY + thickness + length);
+    } else {
+      this.topPost = new PostBox(netX, netY + thickness + length, netX + sideLength, top);
+      this.bottomPost = new PostBox(netX, netY, netX + sideLength, netY + thickness);
+      this.backPost = new PostBox(netX + sideLength - thickness, netY, netX + sideLength, top);
+      this.frontNet = new PostBox(netX, netY + thickness, netX + thickness,
+          netY + thickness + length);
+    }
+    this.bounds = new PostBox(Math.min(topPost.minX, frontNet.minX), netY,
+        Math.max(topPost.maxX, frontNet.maxX), top);
+  }
+
+  private GoalieCrease initalizeCrease(double radius) {
+    double x = position.getXCoord();
+    double y = position.getYCoord() + thickness + (length / 2.0);
+    return new GoalieCrease(x, y, radius, netSide);
+
+  }
+
+
+
+  /**
+   * Method to identify if a puck is inside the goal, determining if the net should signal that
+   * there is a goal or not. The tick on which the goal is first detected also commits a GoalEvent
+   * for Flight Recorder.
+   * @param puck The puck in the game to see if its position is inside the goals area.
+   * @return is there a puck inside the net, signaling a goal?
+   */
+  boolean checkGoal(Puck puck) {
+    double puckX = puck.getPosition().getXCoord();
+    double puckY = puck.getPosition().getYCoord();
+    boolean isGoal = isInsideGoal(puckX, puckY);
+
+    //I Would normally just do goal = isGoal; however, I want to account for the fact that
+    //the puck could always bounce back out, and to ignore any bugs that relate to that, it's good
+    //to not allow isGoal to freely change without me directly demanding it to be set back to
+    //false.
+    if (isGoal) {
+      if (!goal) {
+        GoalEvent.commitIfEnabled(netSide.name(), puckX, puckY);
+      }
+      goal = true;
+    }
+    return isGoal;
+  }
+
+  /**
+   * Method to identify if a puck centered on the given coordinate would be inside the goal. Unlike
+   * checkGoal, this does not change the state of the net.
+   * @param puckX x-coordinate of the puck's center.
+   * @param puckY y-coordinate of the puck's center.
+   * @return is this coordinate inside the goal?
+   */
+  public boolean isInsideGoal(double puckX, double puckY) {
+    if (netSide == NetSide.RIGHT) {
+      return puckY > position.getYCoord() &&
+             puckY < position.getYCoord() + length &&
+             puckX > position.getXCoord() &&
+             puckX < position.getXCoord() + sideLength;
+    } else {
+      return puckY > position.getYCoord() &&
+             puckY < position.getYCoord() + length &&
+             puckX < position.getXCoord() &&
+             puckX > position.getXCoord() - sideLength;
+    }
+  }
+
+  /**
+   * Method to check if the inputted mobileObject is on the same y-levels as the net.
+   * @param obj MobileObject to compare y-levels to the net.
+   * @return boolean, is this mobileObject sharing a y-level as this net?
+   */
+  private boolean isWithinYBoundary(IMobileObject obj) {
+    double objY = position.getYCoord();
+    double bottom = position.getYCoord();
+    double top = position.getYCoord() + length + (thickness * 2);
+
+    return objY >= bottom && objY <= top;
+  }
+
+  /**
+   * Method to check if the inputted mobileObject is on the same x-levels as the net.
+   * @param obj MobileObject to compare x-levels to the net.
+   * @return boolean, is this mobileObject sharing an x-level as this net?
+   */
+  private boolean isWithinXBoundary(IMobileObject obj) {
+    double objX = getPosition().getXCoord();
+    if (netSide == NetSide.RIGHT) {
+      double leftend = position.getXCoord();
+      double rightend = position.getXCoord() + sideLength;
+      return objX >= leftend && objX <= rightend;
+    }
+    else {
+      double rightend = position.getXCoord();
+      double leftend = position.getXCoord() - sideLength;
+      return objX >= leftend && objX <= rightend;
+    }
+  }
+
+  /**
+   * Is this position conflicting or colliding with the top post of this net?
+   * @param pos the Position to compare to the net's placement and determine if it overlaps with
+   *            the area taken up by the top post.
+   * @return Does this position overlap with a point in the area taken up by the top post?
+   */
+  private boolean isThisPositionTouchingTopPost(Position pos) {
+    return topPost.contains(pos.getXCoord(), pos.getYCoord());
+  }
+
+  /**
+   * Is this position conflicting or colliding with the bottom post of this net?
+   * @param pos the Position to compare to the net's placement and determine if it overlaps with
+   *            the area taken up by the bottom post.
+   * @return Does this position overlap with a point in the area taken up by the bottom post?
+   */
+  private boolean isThisPositionTouchingBottomPost(Position pos) {
+    return bottomPost.contains(pos.getXCoord(), pos.getYCoord());
+  }
+
+  /**
+   * Is this position conflicting or colliding with the back post of this net?
+   * @param pos the Position to compare to the net's placement and determine if it overlaps with
+   *            the area taken up by the back post.
+   * @return Does this position overlap with a point in the area taken up by the back post?
+   */
+  private boolean isThisPositionTouchingBackPost(Position pos) {
+    return backPost.contains(pos.getXCoord(), pos.getYCoord());
+  }
+
+  /**
+   * Is this position conflicting or colliding with the front of this net, excluding the posts?
+   * @param pos the Position to compare to the net's placement and determine if it overlaps with
+   *            the area taken up by the net opening.
+   * @return Does this position overlap with a point in the area taken up by the net opening?
+   */
+  private boolean isThisPositionTouchingFrontNet(Position pos) {
+    return frontNet.contains(pos.getXCoord(), pos.getYCoord());
+  }
+
+  /**
+   * Fast reject for every net collision check. Is the given center close enough to this net that
+   * an object of the given radius could be touching it? The net's bounding box is grown by the
+   * radius of the object being checked, so it holds for any radius, including one changed by
+   * setRadius. Anything this returns false for can skip all of the per-post tests.
+   * @param x      x-coordinate of the object's center.
+   * @param y      y-coordinate of the object's center.
+   * @param radius radius of the object.
+   * @return could an object centered here be touching this net?
+   */
+  public boolean isNearNet(double x, double y, double radius) {
+    return x >= bounds.minX - radius && x <= bounds.maxX + radius && y >= bounds.minY - radius
+        && y <= bounds.maxY + radius;
+  }
+
+  /**
+   * Get the left-most x-coordinate taken up by this net.
+   * @return left edge of this net's bounding box.
+   */
+  public double getBoundsMinX() {
+    return bounds.minX;
+  }
+
+  /**
+   * Get the right-most x-coordinate taken up by this net.
+   * @return right edge of this net's bounding box.
+   */
+  public double getBoundsMaxX() {
+    return bounds.maxX;
+  }
+
+  /**
+   * Given a MovementManager, identify if the object this manager is responsible for is in contact
+   * with the posts of the net.
+   * @param movementmanager movementmanager to identify if it's respective object is in contatct
+   *                        with this net.
+   * @return is the given Movement Manager's object in contact with the posts of the net?
+   */
+  public boolean isTheMobileObjectTouchingNet(IMovementManageable movementmanager) {
+    Position center = movementmanager.getPosition();
+    if (!isNearNet(center.getXCoord(), center.getYCoord(), movementmanager.getRadius())) {
+      return false;
+    }
+    for (Position point : movementmanager.getPoints()) {
+      if (isThisPointTouchingNet(point)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Given a MovementManagerPuck, identify if the object this manager is responsible for is in
+   * contact with the posts of the net.
+   * This requires a unique variation because it should not bounce off the front of the net.
+   * @param movementmanager movementmanager to identify if it's respective object is in contatct
+   *                        with this net.
+   * @return is the given Movement Manager's object in contact with the posts of the net?
+   */
+  public boolean isThePuckTouchingNet(IMovementManageable movementmanager) {
+    Position center = movementmanager.getPosition();
+    if (!isNearNet(center.getXCoord(), center.getYCoord(), movementmanager.getRadius())) {
+      return false;
+    }
+    for (Position point : movementmanager.getPoints()) {
+      if (isThisPointTouchingNetExceptFront(point)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Is the given position touching any post of the net, or even the opening?
+   * @param pos Position to compare to the net and see if it is interacting with the posts.
+   * @return is the given position colliding with any of the net posts or its opening?
+   */
+  private boolean isThisPointTouchingNet(Position pos) {
+    return isThisPositionTouchingTopPost(pos) || isThisPositionTouchingBackPost(pos)
+        || isThisPositionTouchingFrontNet(pos) || isThisPositionTouchingBottomPost(pos);
+  }
+
+  /**
+   * Is the given position touching any post of the net, EXCLUDING the opening?
+   * @param pos Position to compare to the net and see if it is interacting with the posts.
+   * @return is the given position colliding with any of the net posts BUT NOT its opening?
+   */
+  private boolean isThisPointTouchingNetExceptFront(Position pos) {
+    return isThisPositionTouchingTopPost(pos) || isThisPositionTouchingBackPost(pos)
+        || isThisPositionTouchingBottomPost(pos);
+  }
+
+  /**
+   * Method to check the status of every mobile point in the movement manager, returning an array
+   * of booleans checking if each mobile point is colliding with this net.
+   * @param movementmanager MovementManager tracking position and Mobile Points of an object, to
+   *                        see if any of its mobile points are touching the net.
+   * @return Return a boolean for every Mobile Point tracked by the given MovementManager.
+   *         For every corresponding mobile point: Does it collide with the net posts or opening?
+   */
+  public Boolean[] netCollisionStatusOfAllMobilePoints(IMovementManageable movementmanager) {
+    List<Boolean> boolList = new ArrayList<Boolean>();
+    Position[] points = movementmanager.initializePoints();
+
+    for (Position point : points) {
+      boolList.add(isThisPointTouchingNet(point));
+    }
+
+    Boolean[] output = boolList.toArray(new Boolean[0]);
+    return output;
+  }
+
+  /**
+   * Allocation-free variant of netCollisionStatusOfAllMobilePoints. Builds a bitmask where each
+   * set bit marks a mobile point of the object that collides with the net posts or opening.
+   * Bit 0 is the top-most point, and each next bit is the next 45 degree point going clockwise.
+   * @param movementmanager MovementManager whose mobile points should be checked against the net.
+   * @return bitmask of mobile points touching this net. Zero if nothing is touching.
+   */
+  public int netContactMask(IMovementManageable movementmanager) {
+    Position center = movementmanager.getPosition();
+    if (!isNearNet(center.getXCoord(), center.getYCoord(), movementmanager.getRadius())) {
+      return 0;
+    }
+    Position[] points = movementmanager.getPoints();
+    int contactMask = 0;
+    for (int i = 0; i < points.length; i++) {
+      if (isThisPointTouchingNet(points[i])) {
+        contactMask |= 1 << i;
+      }
+    }
+    return contactMask;
+  }
+
+  /**
+   * Find how deeply a puck overlaps the posts of this net, if at all. Like sweepPuck, the opening
+   * of the net is not solid for the puck. When more than one post is overlapped, the deepest
+   * overlap is reported.
+   * @param x       x-coordinate of the puck's center.
+   * @param y       y-coordinate of the puck's center.
+   * @param radius  radius of the puck.
+   * @param contact result to overwrite with the penetration depth and the unit normal pointing
+   *                from the puck into the post. Moving the puck back by the depth against the
+   *                normal puts it exactly against the post.
+   * @return does the puck overlap a post?
+   */
+  public boolean queryPuckContact(double x, double y, double radius, BoardContact contact) {
+    if (x + radius <= bounds.minX || x - radius >= bounds.maxX || y + radius <= bounds.minY
+        || y - radius >= bounds.maxY) {
+      return false;
+    }
+    contact.set(0, 0, 0);
+    overlapCircleWithBox(x, y, radius, topPost, contact);
+    overlapCircleWithBox(x, y, radius, bottomPost, contact);
+    overlapCircleWithBox(x, y, radius, backPost, contact);
+    return contact.getPenetration() > 0;
+  }
+
+  /**
+   * Overwrite the contact with the overlap of a circle and a box, if the circle overlaps the box
+   * more deeply than the contact already records.
+   */
+  private static void overlapCircleWithBox(double x, double y, double radius, PostBox box,
+                                           BoardContact contact) {
+    double closestX = Math.max(box.minX, Math.min(box.maxX, x));
+    double closestY = Math.max(box.minY, Math.min(box.maxY, y));
+    double dx = closestX - x;
+    double dy = closestY - y;
+    double distanceSquared = dx * dx + dy * dy;
+    if (distanceSquared >= radius * radius) {
+      return;
+    }
+    if (distanceSquared > 0) {
+      double distance = Math.sqrt(distanceSquared);
+      if (radius - distance > contact.getPenetration()) {
+        contact.set(radius - distance, dx / distance, dy / distance);
+      }
+      return;
+    }
+    //The center is inside the box: leave through the nearest face.
+    double toLeft = x - box.minX;
+    double toRight = box.maxX - x;
+    double toBottom = y - box.minY;
+    double toTop = box.maxY - y;
+    double nearest = Math.min(Math.min(toLeft, toRight), Math.min(toBottom, toTop));
+    if (nearest + radius <= contact.getPenetration()) {
+      return;
+    }
+    if (nearest == toLeft) {
+      contact.set(nearest + radius, 1, 0);
+    } else if (nearest == toRight) {
+      contact.set(nearest + radius, -1, 0);
+    } else if (nearest == toBottom) {
+      contact.set(nearest + radius, 0, 1);
+    } else {
+      contact.set(nearest + radius, 0, -1);
+    }
+  }
+
+  /**
+   * Swept collision of a moving puck against the posts of this net. The top, bottom and back posts
+   * are each tested, and the earliest impact is kept. Like isThePuckTouchingNet, the opening of
+   * the net is not solid for the puck.
+   * @param x         x-coordinate of the puck's center at the start of the sweep.
+   * @param y         y-coordinate of the puck's center at the start of the sweep.
+   * @param xVelocity velocity of the puck along the x-axis.
+   * @param yVelocity velocity of the puck along the y-axis.
+   * @param radius    radius of the puck.
+   * @param maxTime   length of the sweep.
+   * @param hit       result to overwrite with the earliest time of impact and the post's normal.
+   * @return does the puck hit a post within maxTime?
+   */
+  public boolean sweepPuck(double x, double y, double xVelocity, double yVelocity, double radius,
+                           double maxTime, SweepHit hit) {
+    //Skip the posts entirely unless the box swept by the puck reaches this net.
+    double endX = x + xVelocity * maxTime;
+    double endY = y + yVelocity * maxTime;
+    if (Math.max(x, endX) + radius < bounds.minX || Math.min(x, endX) - radius > bounds.maxX
+        || Math.max(y, endY) + radius < bounds.minY || Math.min(y, endY) - radius > bounds.maxY) {
+      return false;
+    }
+
+    double earliest = maxTime;
+    boolean found = false;
+    if (sweepCircleAgainstBox(x, y, xVelocity, yVelocity, radius, topPost, earliest, hit)) {
+      earliest = hit.getTime();
+      found = true;
+    }
+    if (sweepCircleAgainstBox(x, y, xVelocity, yVelocity, radius, bottomPost, earliest,
+        sweepCandidate)) {
+      hit.copyFrom(sweepCandidate);
+      earliest = hit.getTime();
+      found = true;
+    }
+    if (sweepCircleAgainstBox(x, y, xVelocity, yVelocity, radius, backPost, earliest,
+        sweepCandidate)) {
+      hit.copyFrom(sweepCandidate);
+      found = true;
+    }
+    return found;
+  }
+
+  /**
+   * Earliest time at which a moving circle, starting outside the given box, touches it. The box
+   * grown by the circle's radius is entered with the slab method; if the entry point lies beyond
+   * a corner of the original box, the circle instead touches that corner, found as the first hit
+   * of the ray against a circle of the same radius around the corner.
+   * @return does the circle touch the box within maxTime? A circle already overlapping the box
+   *         is left to the discrete checks and reports no hit.
+   */
+  private static boolean sweepCircleAgainstBox(double x, double y, double xVelocity,
+                                               double yVelocity, double radius, PostBox box,
+                                               double maxTime, SweepHit hit) {
+    double minX = box.minX;
+    double minY = box.minY;
+    double maxX = box.maxX;
+    double maxY = box.maxY;
+    double enterX;
+    double exitX;
+    if (xVelocity != 0) {
+      double t1 = (minX - radius - x) / xVelocity;
+      double t2 = (maxX + radius - x) / xVelocity;
+      enterX = Math.min(t1, t2);
+      exitX = Math.max(t1, t2);
+    } else if (x >= minX - radius && x <= maxX + radius) {
+      enterX = Double.NEGATIVE_INFINITY;
+      exitX = Double.POSITIVE_INFINITY;
+    } else {
+      return false;
+    }
+    double enterY;
+    double exitY;
+    if (yVelocity != 0) {
+      double t1 = (minY - radius - y) / yVelocity;
+      double t2 = (maxY + radius - y) / yVelocity;
+      enterY = Math.min(t1, t2);
+      exitY = Math.max(t1, t2);
+    } else if (y >= minY - radius && y <= maxY + radius) {
+      enterY = Double.NEGATIVE_INFINITY;
+      exitY = Double.POSITIVE_INFINITY;
+    } else {
+      return false;
+    }
+
+    double enter = Math.max(enterX, enterY);
+    double exit = Math.min(exitX, exitY);
+    if (enter > exit || enter < 0 || enter > maxTime) {
+      return false;
+    }
+
+    double hitX = x + xVelocity * enter;
+    double hitY = y + yVelocity * enter;
+    boolean beyondX = hitX < minX || hitX > maxX;
+    boolean beyondY = hitY < minY || hitY > maxY;
+    if (beyondX && beyondY) {
+      double cornerX = hitX < minX ? minX : maxX;
+      double cornerY = hitY < minY ? minY : maxY;
+      double relX = x - cornerX;
+      double relY = y - cornerY;
+      double a = xVelocity * xVelocity + yVelocity * yVelocity;
+      double b = 2 * (relX * xVelocity + relY * yVelocity);
+      double c = relX * relX + relY * relY - radius * radius;
+      double discriminant = b * b - 4 * a * c;
+      if (discriminant < 0) {
+        return false;
+      }
+      double time = (-b - Math.sqrt(discriminant)) / (2 * a);
+      if (time < 0 || time > maxTime) {
+        return false;
+      }
+      hit.set(time, (x + xVelocity * time - cornerX) / radius,
+          (y + yVelocity * time - cornerY) / radius);
+    } else if (enterX > enterY) {
+      hit.set(enter, xVelocity > 0 ? -1 : 1, 0);
+    } else {
+      hit.set(enter, 0, yVelocity > 0 ? -1 : 1);
+    }
+    return true;
+  }
+
+  /**
+   * Method to identify if the given Position is inside the goalie crease related to this net.
+   * @param pos Position to see if it overlaps with the goalie crease area.
+   * @return Is the given position inside this net's goalie crease?
+   */
+  public boolean isThisPositionInsideGoalieCrease(Position pos) {
+    return crease.isInsideCrease(pos);
+  }
+
+  /**
+   * Method to identify if the given coordinate is inside the goalie crease related to this net.
+   * @param x x-coordinate to see if it overlaps with the goalie crease area.
+   * @param y y-coordinate to see if it overlaps with the goalie crease area.
+   * @return Is the given coordinate inside this net's goalie crease?
+   */
+  public boolean isThisPositionInsideGoalieCrease(double x, double y) {
+    return crease.isInsideCrease(x, y);
+  }
+
+  /**
+   * Get the goalie crease that sits in front of this net.
+   * @return this net's GoalieCrease.
+   */
+  public GoalieCrease getCrease() {
+    return this.crease;
+  }
+
+  /**
+   * Get this net's starting position
+   * @return Start Position.
+   */
+  public Position getPosition() {
+    return this.position;
+  }
+
+  /**
+   * Get the side of the rink that this net is positioned at.
+   * @return the side of the rink this net is placed.
+   */
+  public NetSide getNetSide() {
+    return this.netSide;
+  }
+
+  /**
+   * Get the length of the sides of this net, from the opening to the back.
+   * @return length of the net's sides.
+   */
+  public double getSideLength() {
+    return this.sideLength;
+  }
+
+  /**
+   * Get the length of the opening of this net.
+   * @return length of the net's opening.
+   */
+  public double getLength() {
+    return this.length;
+  }
+
+  /**
+   * Get the thickness of the perimeter of this net.
+   * @return width of the net's post/perimeter.
+   */
+  public double getThickness() {
+    return this.thickness;
+  }
+
+  /**
+   * Method to set the team of the net.
+   * @param color team color.
+   */
+  public void setTeam(Player.TEAM color) {
+    this.color = color;
+  }
+
+  /**
+   * Method to return the goal status of the current net.
+   * @return is this a goal? Boolean value of the goal field.
+   */
+  public boolean getGoal() {
+    return goal;
+  }
+
+  /**
+   * Write the state of this net into the buffer at the buffer's position. The geometry of a net
+   * never changes, so the only state is whether a goal has been scored.
+   * @param buffer buffer to write the state to.
+   */
+  void saveState(ByteBuffer buffer) {
+    buffer.put((byte) (goal ? 1 : 0));
+  }
+
+  /**
+   * Read back a state written by saveState and make it the current state of this net.
+   * @param buffer buffer to read the state from.
+   */
+  void restoreState(ByteBuffer buffer) {
+    goal = buffer.get() != 0;
+  }
+
+
+}
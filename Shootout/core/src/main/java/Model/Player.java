@@ -2,6 +2,7 @@ package Model;
 
 
 import Model.MovementManagers.*;
+import java.nio.ByteBuffer;
 
 /**
  * Player is the abstract class representing any possible unit that could be controlled in the
@@ -72,11 +73,39 @@ public abstract class Player extends MobileObject {
     this.name = name;
   }
 
+  /**
+   * Obtain the player specific MovementManager, which tracks the movement keys held by the user.
+   * @return this Player's MovementManagerPlayer.
+   */
+  public MovementManagerPlayer getMovementManagerPlayer() {
+    return (MovementManagerPlayer) movementManager;
+  }
+
   @Override
   public void update(double deltaTime) {
+    movementManager.updateMovement(deltaTime);
   }
 
 
+  @Override
+  public void saveState(ByteBuffer buffer) {
+    super.saveState(buffer);
+    buffer.put((byte) ((hasPuck ? 1 : 0) | (pokeCheck ? 2 : 0)));
+  }
+
+  @Override
+  public void restoreState(ByteBuffer buffer) {
+    super.restoreState(buffer);
+    byte flags = buffer.get();
+    hasPuck = (flags & 1) != 0;
+    pokeCheck = (flags & 2) != 0;
+  }
+
+  @Override
+  public int getStateSize() {
+    return super.getStateSize() + 1;
+  }
+
   /**
    * setter method to alter pokeCheck field.
    * @param pokeCheck boolean, is this player poke checking?
@@ -19,11 +19,36 @@ public class Puck extends MobileObject {
     this.possessed = false;
     this.possessor = null;
     this.movementManager = new MovementManagerPuck();
+    super.movementManager = this.movementManager;
   }
 
   @Override
   public void update(double deltaTime) {
+    movementManager.updateMovement(deltaTime);
+  }
+
+  /**
+   * Obtain the puck specific MovementManager, which handles shots and poke checks.
+   * @return this Puck's MovementManagerPuck.
+   */
+  public MovementManagerPuck getMovementManagerPuck() {
+    return movementManager;
+  }
 
+  /**
+   * Is this puck currently possessed by a player?
+   * @return true if a player has the puck.
+   */
+  public boolean isPossessed() {
+    return possessed;
+  }
+
+  /**
+   * Get the player that possesses this puck.
+   * @return the possessing Player, or null if no one has the puck.
+   */
+  public Player getPossessor() {
+    return possessor;
   }
 
   /**
@@ -0,0 +1,457 @@
+package Model;
+
+import Model.MovementManagers.IMovementManageable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class representing the hockey rink (play area). A Real Hockey Rink Is:
+ * <ul>
+ * <li>200 ft long</li>
+ * <li>85 ft in width</li>
+ * <li>Neutral ice is 50 ft long, so 25% of the rinks length</li>
+ * <li>Each zone is 64 ft long + 11 ft behind the ice. So 37.5% of the rink total.</li>
+ * <li>The zone behind the goal line is 5.5% of the total rink (11ft).</li>
+ * <li>
+ * </ul>
+ * With this information, the rink should represent a rectangle split into 5 zones:
+ * <ul>
+ * <li>1 Zone for neutral ice. (25%) the length of the rink.
+ * <li>2 Zones for the attacking/defending zone in front of each net. (32%) of the rink for each.
+ * <li>2 Zones for the back of each net, where the rink curves. (5.5%) of the rink for each.
+ * </ul>
+ * The very end zones will resemble rectangles, but will have their corners removed depending on
+ * the radius/length of the back zone.
+ */
+public class Rink {
+
+  private Zone[] zones;
+  private double[] zoneEndX;
+  private Net[] nets;
+  private double length;
+  private double height;
+  private double cornerRadius;
+  private double netClearMinX;
+  private double netClearMaxX;
+
+  /**
+   * Constructor for testing purposes likely. Requires all fields to be included.
+   *
+   * @param zones  Array of zones representing the rink when combined in order.
+   * @param nets   Array of nets representing the hockey nets. Array of two, indices 0 is the left,
+   *               and 1 is the right net.
+   * @param length Horizontal size of the rink.
+   * @param height Vertical size of the rink.
+   */
+  private Rink(Zone[] zones, Net[] nets, double length, double height) {
+    this.length = length;
+    this.height = height;
+    this.zones = zones;
+    this.nets = nets;
+    this.cornerRadius = GameConfig.RINK_CORNER_RADIUS;
+    this.zoneEndX = initializeZoneBoundaries(zones);
+    initializeNetClearance();
+  }
+
+  /**
+   * Constructor based on just the dimensions of the rink.
+   *
+   * @param length Horizontal size of the rink.
+   * @param height Vertical size of the rink.
+   */
+  public Rink(double length, double height) {
+    this.length = length;
+    this.height = height;
+    this.cornerRadius = GameConfig.RINK_CORNER_RADIUS;
+    this.zones = initializeZones();
+    this.zoneEndX = initializeZoneBoundaries(zones);
+    this.nets = initializeNets(length, height);
+    initializeNetClearance();
+  }
+
+  /**
+   * Precompute the stretch of ice between the two nets: right of the left net, and left of the
+   * right net.
+   */
+  private void initializeNetClearance() {
+    netClearMinX = nets[0].getBoundsMaxX();
+    netClearMaxX = nets[1].getBoundsMinX();
+  }
+
+  /**
+   * Fast reject for net collisions. Is an object centered at this x-coordinate too far from both
+   * nets to touch either of them? This holds for most of the ice, and lets every net check be
+   * skipped with a single range test.
+   *
+   * @param x      x-coordinate of the object's center.
+   * @param radius radius of the object.
+   * @return is the object clear of both nets?
+   */
+  public boolean isClearOfNets(double x, double radius) {
+    return x - radius > netClearMinX && x + radius < netClearMaxX;
+  }
+
+  /**
+   * Method initializes the zones of the rink utilizing its dimensions.
+   *
+   * @return Array of Zones.
+   * @throws IllegalStateException if the zones for some reason to not cover the entire rink
+   *                               length.
+   */
+  private Zone[] initializeZones() throws IllegalStateException {
+    double startOfZone1 = 0;
+    double endOfZone1 = (0.055 * length);
+    double startOfZone2 = endOfZone1;
+    double endOfZone2 = startOfZone2 + (0.32 * length);
+    double startOfZone3 = endOfZone2;
+    double endOfZone3 = startOfZone3 + (0.25 * length);
+    double startOfZone4 = endOfZone3;
+    double endOfZone4 = startOfZone4 + (0.32 * length);
+    double startOfZone5 = endOfZone4;
+    double endOfZone5 = startOfZone5 + (0.055 * length);
+
+    Zone[] zones =
+        {new Zone(Zone.ZoneType.LEFT_BEHIND_NET, startOfZone1, 0, endOfZone1, height,
+            cornerRadius),
+            new Zone(Zone.ZoneType.LEFT_ZONE, startOfZone2, endOfZone2, 0, height),
+            new Zone(Zone.ZoneType.NEUTRAL_ZONE, startOfZone3, endOfZone3, 0, height),
+            new Zone(Zone.ZoneType.RIGHT_ZONE, startOfZone4, endOfZone4, 0, height),
+            new Zone(Zone.ZoneType.RIGHT_BEHIND_NET, startOfZone5, 0, endOfZone5, height,
+                cornerRadius)};
+
+    //Zone boundaries are products of floating point fractions, so allow for rounding error.
+    if (Math.abs((endOfZone5 - startOfZone1) - this.length) > 1e-9) {
+      throw new IllegalStateException("Combined Zone lengths do not match Rink length");
+    }
+
+    return zones;
+  }
+
+  /**
+   * Precompute the right-most x-coordinate of every zone, in order, so the zone owning any
+   * x-coordinate can be found without testing every zone.
+   *
+   * @param zones zones of the rink, contiguous along x and ordered from left to right.
+   * @return array where index i is the end x-coordinate of zones[i].
+   */
+  private static double[] initializeZoneBoundaries(Zone[] zones) {
+    double[] boundaries = new double[zones.length];
+    for (int i = 0; i < zones.length; i++) {
+      boundaries[i] = zones[i].getEndX();
+    }
+    return boundaries;
+  }
+
+  /**
+   * Find the index of the zone that owns the given x-coordinate. Zones are contiguous along x, so
+   * this is a binary search over their end boundaries: the owner is the first zone whose end is at
+   * or past x.
+   *
+   * @param x x-coordinate to look up.
+   * @return index into the zones array, or -1 if x lies outside the rink.
+   */
+  private int zoneIndexAt(double x) {
+    if (x < getLeftX() || x > zoneEndX[zoneEndX.length - 1]) {
+      return -1;
+    }
+    int low = 0;
+    int high = zoneEndX.length - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (x <= zoneEndX[mid]) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Creates appropriate nets depending on the rink dimensions, for now has hard-coded teams, will
+   * need to alter to allow access to future team selection implementation.
+   *
+   * @param length length of the rink.
+   * @param height height of the rink.
+   * @return Array of Nets with a length of 2. Index 0 is the left net, Index 1 is the right net.
+   */
+  private Net[] initializeNets(double length, double height) {
+    Net[] nets = new Net[2];
+    nets[0] = new Net(new Position(GameConfig.LEFT_GOAL_LINE_X,
+        (GameConfig.RINK_HEIGHT / 2) - (GameConfig.NET_LENGTH / 2)),
+        Player.TEAM.BLUE, Net.NetSide.LEFT);
+
+    nets[1] = new Net(new Position(GameConfig.RIGHT_GOAL_LINE_X,
+        (GameConfig.RINK_HEIGHT / 2) - (GameConfig.NET_LENGTH / 2)),
+        Player.TEAM.RED, Net.NetSide.RIGHT);
+
+    return nets;
+  }
+
+  /**
+   * Returns boolean indicating if the position argument is present within the boundaries of the
+   * rink. The zone owning the x-coordinate is looked up directly, and only that zone is asked
+   * whether it contains the position.
+   *
+   * @param position X, Y coordinates to observe.
+   * @return boolean identifying if the Position argument is in the rink or not.
+   */
+  public boolean isInsideRink(Position position) {
+    return isInsideRink(position.getXCoord(), position.getYCoord());
+  }
+
+  /**
+   * Returns boolean indicating if the given coordinate is present within the boundaries of the
+   * rink.
+   *
+   * @param x x-coordinate to observe.
+   * @param y y-coordinate to observe.
+   * @return boolean identifying if the coordinate is in the rink or not.
+   */
+  public boolean isInsideRink(double x, double y) {
+    int index = zoneIndexAt(x);
+    return index >= 0 && zones[index].isInsideZone(x, y);
+  }
+
+  /**
+   * Grab the status (boolean flag) representing if each mobile point of the IMobileObject is inside
+   * the rink. REMINDER: Mobile Points are the 45 degree markers around every mobile object to track
+   * position as every object is a circle.
+   *
+   * @param movementmanager movementmanager to examine if all of its Mobile points are inside the
+   *                        Rink.
+   * @return Boolean array showing the status of every Mobile Point of the inputted mobile object.
+   * Index 0 Should have the top-most point, and each consecutive should be the next 45 degree point
+   * in clockwise rotation.
+   */
+  public Boolean[] locationStatusOfAllMobilePoints(IMovementManageable movementmanager) {
+    List<Boolean> boolList = new ArrayList<Boolean>();
+    double objX = movementmanager.getPosition().getXCoord();
+    double objY = movementmanager.getPosition().getYCoord();
+    double radii = movementmanager.getRadius();
+    Position[] points = movementmanager.initializePoints();
+
+    for (Position point : points) {
+      boolList.add(isInsideRink(point));
+    }
+
+    Boolean[] output = boolList.toArray(new Boolean[0]);
+    return output;
+  }
+
+  /**
+   * Method to identify if the inputted mobile object is completely inside the rink. Passes object
+   * to check status of each mobile point, and iterates through each point's status. If a single
+   * point is not inside the rink, the method returns a true flag, indicating the object is most
+   * likely touching the boards.
+   *
+   * @param movementmanager Movement Manager, to check if the object is currently touching the
+   *                        boards or has a part located outside the rink.
+   * @return Boolean value, is this mobile object touching the boards or has a mobile point located
+   * outside the rink?>
+   */
+  public boolean isMobileObjectTouchingBoards(IMovementManageable movementmanager) {
+    return boardContactMask(movementmanager) != 0;
+  }
+
+  /**
+   * Allocation-free variant of locationStatusOfAllMobilePoints. Builds a bitmask where each set
+   * bit marks a mobile point of the object that is NOT inside the rink, meaning that point has
+   * made contact with or breached the boards. Bit 0 is the top-most point, and each next bit is
+   * the next 45 degree point in clockwise rotation.
+   *
+   * @param movementmanager movementmanager whose mobile points should be checked.
+   * @return bitmask of mobile points touching the boards. Zero if the object is fully inside.
+   */
+  public int boardContactMask(IMovementManageable movementmanager) {
+    Position[] points = movementmanager.getPoints();
+    int contactMask = 0;
+    for (int i = 0; i < points.length; i++) {
+      if (!isInsideRink(points[i])) {
+        contactMask |= 1 << i;
+      }
+    }
+    return contactMask;
+  }
+
+  /**
+   * Closed-form query of a circle against the boards. The rink is treated as a rectangle with
+   * rounded corners, so the distance from the circle's center to the boards is found directly:
+   * along the straight boards it is the distance to the nearest wall, and in a corner it is the
+   * corner radius minus the distance to the center of that corner's arc. This replaces testing
+   * each of the eight mobile points, and gives the exact normal at the contact.
+   *
+   * @param x       x-coordinate of the circle's center.
+   * @param y       y-coordinate of the circle's center.
+   * @param radius  radius of the circle.
+   * @param contact result to overwrite with the penetration depth and the outward normal.
+   * @return does the circle touch or cross the boards?
+   */
+  public boolean queryBoardContact(double x, double y, double radius, BoardContact contact) {
+    double halfLength = length / 2;
+    double halfHeight = height / 2;
+    double px = x - (getLeftX() + halfLength);
+    double py = y - (getBottomY() + halfHeight);
+    double signX = px < 0 ? -1 : 1;
+    double signY = py < 0 ? -1 : 1;
+
+    //How far the center lies beyond the straight section of the boards on each axis.
+    double dx = Math.abs(px) - (halfLength - cornerRadius);
+    double dy = Math.abs(py) - (halfHeight - cornerRadius);
+
+    double distanceInside;
+    if (dx > 0 && dy > 0) {
+      //In a corner: distance to the arc, measured from the arc's center.
+      double fromCorner = Math.sqrt(dx * dx + dy * dy);
+      distanceInside = cornerRadius - fromCorner;
+      contact.set(radius - distanceInside, signX * dx / fromCorner, signY * dy / fromCorner);
+    } else if (dx > dy) {
+      distanceInside = cornerRadius - dx;
+      contact.set(radius - distanceInside, signX, 0);
+    } else {
+      distanceInside = cornerRadius - dy;
+      contact.set(radius - distanceInside, 0, signY);
+    }
+    return contact.getPenetration() > 0;
+  }
+
+  /**
+   * Swept version of queryBoardContact. Finds the earliest time at which a circle moving in a
+   * straight line from inside the rink first touches the boards. The circle's center has to stay
+   * inside the rink shrunk by the circle's radius, which is still a rectangle with rounded
+   * corners, so the exit time is found from that rectangle and, when the exit lands in a corner,
+   * from the corner arc.
+   *
+   * @param x        x-coordinate of the circle's center at the start of the sweep.
+   * @param y        y-coordinate of the circle's center at the start of the sweep.
+   * @param xVelocity velocity of the circle along the x-axis.
+   * @param yVelocity velocity of the circle along the y-axis.
+   * @param radius   radius of the circle.
+   * @param maxTime  length of the sweep.
+   * @param hit      result to overwrite with the time of impact and the inward board normal.
+   * @return does the circle touch the boards within maxTime?
+   */
+  public boolean sweepCircle(double x, double y, double xVelocity, double yVelocity,
+                             double radius, double maxTime, SweepHit hit) {
+    double halfLength = length / 2;
+    double halfHeight = height / 2;
+    double px = x - (getLeftX() + halfLength);
+    double py = y - (getBottomY() + halfHeight);
+    double arcRadius = Math.max(0, cornerRadius - radius);
+    double coreX = halfLength - cornerRadius;
+    double coreY = halfHeight - cornerRadius;
+
+    //Exit time through the straight boards, on each axis.
+    double tx = Double.POSITIVE_INFINITY;
+    double ty = Double.POSITIVE_INFINITY;
+    if (xVelocity > 0) {
+      tx = (coreX + arcRadius - px) / xVelocity;
+    } else if (xVelocity < 0) {
+      tx = (-(coreX + arcRadius) - px) / xVelocity;
+    }
+    if (yVelocity > 0) {
+      ty = (coreY + arcRadius - py) / yVelocity;
+    } else if (yVelocity < 0) {
+      ty = (-(coreY + arcRadius) - py) / yVelocity;
+    }
+    double time = Math.max(0, Math.min(tx, ty));
+    if (time > maxTime) {
+      return false;
+    }
+
+    double exitX = px + xVelocity * time;
+    double exitY = py + yVelocity * time;
+    if (Math.abs(exitX) > coreX && Math.abs(exitY) > coreY) {
+      //The exit lands in a corner, so the circle really leaves through the corner arc first.
+      double centerX = exitX > 0 ? coreX : -coreX;
+      double centerY = exitY > 0 ? coreY : -coreY;
+      double relX = px - centerX;
+      double relY = py - centerY;
+      double a = xVelocity * xVelocity + yVelocity * yVelocity;
+      double b = 2 * (relX * xVelocity + relY * yVelocity);
+      double c = relX * relX + relY * relY - arcRadius * arcRadius;
+      double discriminant = b * b - 4 * a * c;
+      if (discriminant < 0) {
+        return false;
+      }
+      time = Math.max(0, (-b + Math.sqrt(discriminant)) / (2 * a));
+      if (time > maxTime) {
+        return false;
+      }
+      double normalX = centerX - (px + xVelocity * time);
+      double normalY = centerY - (py + yVelocity * time);
+      double magnitude = Math.sqrt(normalX * normalX + normalY * normalY);
+      if (magnitude == 0) {
+        return false;
+      }
+      hit.set(time, normalX / magnitude, normalY / magnitude);
+    } else if (tx < ty) {
+      hit.set(time, xVelocity > 0 ? -1 : 1, 0);
+    } else {
+      hit.set(time, 0, yVelocity > 0 ? -1 : 1);
+    }
+    return true;
+  }
+
+  /**
+   * Get the radius of the rounded corners of this rink.
+   *
+   * @return corner radius.
+   */
+  public double getCornerRadius() {
+    return cornerRadius;
+  }
+
+  /**
+   * Method to return the X-Value of the left end of the rink This method is being made just in case
+   * I need to extract this value and change it in the future once we actually place this on a
+   * visual.
+   *
+   * @return X-Value of the left end of the rink.
+   */
+  public double getLeftX() {
+    return 0;
+  }
+
+  /**
+   * Method to return the X-Value of the right end of the rink This method is being made just in
+   * case I need to extract this value and change it in the future once we actually place this on a
+   * visual.
+   *
+   * @return X-Value of the right end of the rink.
+   */
+  public double getRightX() {
+    return getLeftX() + length;
+  }
+
+  /**
+   * Method to return the Y-Value of the Bottom end of the rink This method is being made just in
+   * case I need to extract this value and change it in the future once we actually place this on a
+   * visual.
+   *
+   * @return Y-Value of the Bottom end of the rink.
+   */
+  public double getBottomY() {
+    return 0;
+  }
+
+  /**
+   * Method to return the Y-Value of the Top end of the rink This method is being made just in case
+   * I need to extract this value and change it in the future once we actually place this on a
+   * visual.
+   *
+   * @return Y-Value of the Top end of the rink.
+   */
+  public double getTopY() {
+    return getBottomY() + height;
+  }
+
+  /**
+   * Method to return the array of nets.
+   *
+   * @return array of nets that exist in this rink instance.
+   */
+  public Net[] getNets() {
+    return nets;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package Model;
+
+/**
+ * Interface representing the world a MovementManager lives in. Every manager is handed the
+ * context of the session that owns it, rather than reaching for a global, so that any number of
+ * sessions can exist (and be ticked on different threads) at the same time.
+ */
+public interface SessionContext {
+
+  /**
+   * Get the rink that the objects of this session are skating on.
+   * @return the session's rink.
+   */
+  Rink getSessionRink();
+
+  /**
+   * Get both the net instances in this session.
+   * @return Array of nets. Array of 2 nets, index 0 is left net, index 1 is right net.
+   */
+  Net[] getSessionNets();
+
+  /**
+   * Get the puck of this session.
+   * @return the session's puck.
+   */
+  Puck getSessionPuck();
+
+  /**
+   * Get the length of a single simulation tick.
+   * @return seconds simulated by each tick.
+   */
+  double getFixedDeltaTime();
+}
@@ -26,11 +26,6 @@ public class Skater extends Player {
   }
 
 
-  @Override
-  public void update(double deltaTime) {
-  }
-
-
   /**
    * Method to handle Skater initiating a poke check.
    */
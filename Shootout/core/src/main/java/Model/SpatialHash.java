@@ -0,0 +1,223 @@
+package Model;
+
+import java.util.Arrays;
+
+/**
+ * This class is a uniform grid broad phase for object-versus-object collisions. Every object is
+ * dropped into the grid cell that holds its center, and candidate pairs are only looked for among
+ * objects in the same or neighboring cells. As long as a cell is at least as wide as the largest
+ * object's diameter, two touching objects are always in the same or adjacent cells, so each tick
+ * costs roughly linear time in the number of objects rather than checking all pairs.
+ *
+ * <p>All buffers are kept between ticks and only grow, so a steady-state tick allocates nothing.
+ * Objects are identified by the integer id they are inserted with, such as an index into an
+ * array of MobileObjects.
+ */
+public class SpatialHash {
+  private final double originX;
+  private final double originY;
+  private final double cellSize;
+  private final int columns;
+  private final int rows;
+
+  //Head of each cell's linked list of objects, -1 when empty.
+  private final int[] cellHead;
+  //Cells that hold at least one object this tick, so clearing is proportional to objects.
+  private int[] occupiedCells;
+  private int occupiedCount;
+
+  //Per object state, indexed by insertion order.
+  private int[] ids;
+  private double[] xs;
+  private double[] ys;
+  private double[] radii;
+  private int[] next;
+  private int objectCount;
+
+  //Candidate pairs found by the last call to findPairs.
+  private int[] pairFirst;
+  private int[] pairSecond;
+  private int pairCount;
+
+  /**
+   * Constructor for a grid covering the given area.
+   * @param originX  left-most x-coordinate covered by the grid.
+   * @param originY  bottom-most y-coordinate covered by the grid.
+   * @param width    horizontal size of the covered area.
+   * @param height   vertical size of the covered area.
+   * @param cellSize width of each square cell. Must be at least the largest object diameter.
+   * @throws IllegalArgumentException if the dimensions or cell size are not positive.
+   */
+  public SpatialHash(double originX, double originY, double width, double height,
+                     double cellSize) throws IllegalArgumentException {
+    if (width <= 0 || height <= 0 || cellSize <= 0) {
+      throw new IllegalArgumentException("SpatialHash dimensions must be positive!");
+    }
+    this.originX = originX;
+    this.originY = originY;
+    this.cellSize = cellSize;
+    this.columns = (int) Math.ceil(width / cellSize);
+    this.rows = (int) Math.ceil(height / cellSize);
+    this.cellHead = new int[columns * rows];
+    Arrays.fill(cellHead, -1);
+    this.occupiedCells = new int[16];
+    this.ids = new int[16];
+    this.xs = new double[16];
+    this.ys = new double[16];
+    this.radii = new double[16];
+    this.next = new int[16];
+    this.pairFirst = new int[16];
+    this.pairSecond = new int[16];
+  }
+
+  /**
+   * Constructor for a grid covering the rink, with cells as wide as the largest object (a goalie).
+   */
+  public SpatialHash() {
+    this(0, 0, GameConfig.RINK_LENGTH, GameConfig.RINK_HEIGHT, GameConfig.GOALIE_RADIUS * 2);
+  }
+
+  /**
+   * Remove every object from the grid, ready for the next tick.
+   */
+  public void clear() {
+    for (int i = 0; i < occupiedCount; i++) {
+      cellHead[occupiedCells[i]] = -1;
+    }
+    occupiedCount = 0;
+    objectCount = 0;
+    pairCount = 0;
+  }
+
+  /**
+   * Add a circular object to the grid. Objects outside the covered area are kept in the nearest
+   * edge cell.
+   * @param id     identifier reported back in candidate pairs.
+   * @param x      x-coordinate of the object's center.
+   * @param y      y-coordinate of the object's center.
+   * @param radius radius of the object.
+   */
+  public void insert(int id, double x, double y, double radius) {
+    if (objectCount == ids.length) {
+      int capacity = ids.length * 2;
+      ids = Arrays.copyOf(ids, capacity);
+      xs = Arrays.copyOf(xs, capacity);
+      ys = Arrays.copyOf(ys, capacity);
+      radii = Arrays.copyOf(radii, capacity);
+      next = Arrays.copyOf(next, capacity);
+    }
+    int cell = cellIndex(columnOf(x), rowOf(y));
+    int index = objectCount++;
+    ids[index] = id;
+    xs[index] = x;
+    ys[index] = y;
+    radii[index] = radius;
+
+    if (cellHead[cell] == -1) {
+      if (occupiedCount == occupiedCells.length) {
+        occupiedCells = Arrays.copyOf(occupiedCells, occupiedCount * 2);
+      }
+      occupiedCells[occupiedCount++] = cell;
+    }
+    next[index] = cellHead[cell];
+    cellHead[cell] = index;
+  }
+
+  /**
+   * Find every pair of inserted objects whose bounding boxes overlap. Each occupied cell is paired
+   * with itself and with four of its neighbors (right, upper-right, up and upper-left), so every
+   * pair of neighboring cells is visited exactly once.
+   * @return number of candidate pairs found.
+   */
+  public int findPairs() {
+    pairCount = 0;
+    for (int i = 0; i < occupiedCount; i++) {
+      int cell = occupiedCells[i];
+      int column = cell % columns;
+      int row = cell / columns;
+      pairWithinCell(cell);
+      pairWithNeighbor(cell, column + 1, row);
+      pairWithNeighbor(cell, column + 1, row + 1);
+      pairWithNeighbor(cell, column, row + 1);
+      pairWithNeighbor(cell, column - 1, row + 1);
+    }
+    return pairCount;
+  }
+
+  /**
+   * Get the number of candidate pairs found by the last call to findPairs.
+   * @return number of candidate pairs.
+   */
+  public int getPairCount() {
+    return pairCount;
+  }
+
+  /**
+   * Get the id of the first object of a candidate pair.
+   * @param pair index of the pair, below getPairCount.
+   * @return id of the first object.
+   */
+  public int getPairFirst(int pair) {
+    return pairFirst[pair];
+  }
+
+  /**
+   * Get the id of the second object of a candidate pair.
+   * @param pair index of the pair, below getPairCount.
+   * @return id of the second object.
+   */
+  public int getPairSecond(int pair) {
+    return pairSecond[pair];
+  }
+
+  private void pairWithinCell(int cell) {
+    for (int a = cellHead[cell]; a != -1; a = next[a]) {
+      for (int b = next[a]; b != -1; b = next[b]) {
+        testPair(a, b);
+      }
+    }
+  }
+
+  private void pairWithNeighbor(int cell, int column, int row) {
+    if (column < 0 || column >= columns || row >= rows) {
+      return;
+    }
+    int neighbor = cellIndex(column, row);
+    for (int a = cellHead[cell]; a != -1; a = next[a]) {
+      for (int b = cellHead[neighbor]; b != -1; b = next[b]) {
+        testPair(a, b);
+      }
+    }
+  }
+
+  /**
+   * Record the pair if the bounding boxes of the two objects overlap.
+   */
+  private void testPair(int a, int b) {
+    double reach = radii[a] + radii[b];
+    if (Math.abs(xs[a] - xs[b]) > reach || Math.abs(ys[a] - ys[b]) > reach) {
+      return;
+    }
+    if (pairCount == pairFirst.length) {
+      pairFirst = Arrays.copyOf(pairFirst, pairCount * 2);
+      pairSecond = Arrays.copyOf(pairSecond, pairCount * 2);
+    }
+    pairFirst[pairCount] = ids[a];
+    pairSecond[pairCount] = ids[b];
+    pairCount++;
+  }
+
+  private int columnOf(double x) {
+    int column = (int) Math.floor((x - originX) / cellSize);
+    return Math.max(0, Math.min(columns - 1, column));
+  }
+
+  private int rowOf(double y) {
+    int row = (int) Math.floor((y - originY) / cellSize);
+    return Math.max(0, Math.min(rows - 1, row));
+  }
+
+  private int cellIndex(int column, int row) {
+    return row * columns + column;
+  }
+}
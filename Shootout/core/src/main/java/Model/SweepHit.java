@@ -0,0 +1,57 @@
+package Model;
+
+/**
+ * This class holds the result of a swept (continuous) collision query: the earliest time within
+ * a step at which a moving circle first touches a surface, and the normal of that surface. The
+ * normal always points away from the surface, towards the circle. It is mutable so that every
+ * MovementManager can keep one and reuse it on every tick.
+ */
+public class SweepHit {
+  private double time;
+  private double normalX;
+  private double normalY;
+
+  /**
+   * Overwrite the result held by this hit.
+   * @param time    time of impact, measured from the start of the sweep.
+   * @param normalX x-component of the unit surface normal, pointing towards the circle.
+   * @param normalY y-component of the unit surface normal, pointing towards the circle.
+   */
+  void set(double time, double normalX, double normalY) {
+    this.time = time;
+    this.normalX = normalX;
+    this.normalY = normalY;
+  }
+
+  /**
+   * Copy another hit into this one.
+   * @param other hit to copy.
+   */
+  public void copyFrom(SweepHit other) {
+    set(other.time, other.normalX, other.normalY);
+  }
+
+  /**
+   * Get the time of impact, measured from the start of the sweep.
+   * @return time of impact.
+   */
+  public double getTime() {
+    return time;
+  }
+
+  /**
+   * Get the x-component of the surface normal at the point of impact.
+   * @return x-component of the unit normal, pointing towards the circle.
+   */
+  public double getNormalX() {
+    return normalX;
+  }
+
+  /**
+   * Get the y-component of the surface normal at the point of impact.
+   * @return y-component of the unit normal, pointing towards the circle.
+   */
+  public double getNormalY() {
+    return normalY;
+  }
+}
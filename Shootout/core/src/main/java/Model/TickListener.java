@@ -0,0 +1,15 @@
+package Model;
+
+/**
+ * Interface representing whatever wants to see a GameSession at the end of every tick, such as a
+ * renderer's buffer. The session calls its listener on the thread running the tick, once the tick
+ * is complete, so every tick that advance runs to catch up is seen as well.
+ */
+public interface TickListener {
+
+  /**
+   * Look at the session right after one of its ticks.
+   * @param session the session that has just ticked.
+   */
+  void afterTick(GameSession session);
+}
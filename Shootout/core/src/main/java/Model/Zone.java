@@ -0,0 +1,193 @@
+package Model;
+
+/**
+ * This is a foundational class that is used to construct the 5 different zones needed to
+ * combine and create a functional rink. The zones include:
+ * <ul>
+ * <li> Left_Behind_Net: Behind the net on the left side.
+ * <li> Left_Zone: The entirety of the left-zone with the exception of behind the net.
+ * <li> Neutral_Zone: All of neutral ice.
+ * <li> Right_Zone: The entirety of the right-zone with the exception of behind the net.
+ * <li> Left_Behind_Net: Behind the net on the right side.
+ * </ul>
+ */
+public class Zone {
+
+  public enum ZoneType {
+    LEFT_BEHIND_NET, LEFT_ZONE, RIGHT_BEHIND_NET, RIGHT_ZONE, NEUTRAL_ZONE
+  }
+
+  private final ZoneType zoneType;
+  private final double startX;
+  private final double startY;
+  private final double endX;
+  private final double endY;
+  private final double cornerRadius;
+
+  /**
+   * Basic constructor for a Zone. Should be used if the specified zone is NOT behind any net.
+   *
+   * @param zoneType ZoneType that represents what this zone is.
+   * @param startX   The left-most x-coordinate of the zone.
+   * @param endX     The right-most x-coordinate of the zone.
+   * @param startY   The top-most y-coordinate of the zone.
+   * @param endY     The bottom-most y-coordinate of the zone.
+   */
+  public Zone(ZoneType zoneType, double startX, double endX, double startY, double endY) {
+    this.zoneType = zoneType;
+    this.startX = startX;
+    this.startY = startY;
+    this.endX = endX;
+    this.endY = endY;
+    this.cornerRadius = 0;
+
+    if (zoneType == ZoneType.LEFT_BEHIND_NET || zoneType == ZoneType.RIGHT_BEHIND_NET) {
+      throw new IllegalArgumentException("Zones That Are Behind The Net CANNOT Have A Radius of"
+              + " 0!");
+    }
+  }
+
+  /**
+   * Constructor for a Zone that supports end-zones behind the net. Contains radius field.
+   *
+   * @param zoneType     ZoneType that represents what this zone is.
+   * @param startX       The left-most x-coordinate of the zone.
+   * @param startY       The top-most y-coordinate of the zone.
+   * @param endX         The right-most x-coordinate of the zone.
+   * @param endY         The bottom-most y-coordinate of the zone.
+   * @param cornerRadius The radius of the circle that represents the rounded corners of the rink.
+   */
+  public Zone(ZoneType zoneType, double startX, double startY, double endX, double endY,
+              double cornerRadius) {
+    this.zoneType = zoneType;
+    this.startX = startX;
+    this.startY = startY;
+    this.endX = endX;
+    this.endY = endY;
+    this.cornerRadius = cornerRadius;
+
+    if ((zoneType == ZoneType.LEFT_BEHIND_NET || zoneType == ZoneType.RIGHT_BEHIND_NET)
+            && (cornerRadius == 0)) {
+
+      throw new IllegalArgumentException("Zones That Are Behind The Net CANNOT Have A Radius of"
+              + " 0!");
+    }
+  }
+
+  /**
+   * Method to determine if the given object position is inside the available play area.
+   *
+   * @param position position of the player or game object.
+   * @return is this position within any zone?
+   */
+  public boolean isInsideZone(Position position) {
+    return isInsideZone(position.getXCoord(), position.getYCoord());
+  }
+
+  /**
+   * Method to determine if the given coordinate is inside this zone. Only the two zones behind
+   * the nets have rounded corners, so only they pay for a corner-circle test.
+   *
+   * @param currentX x-coordinate of the player or game object.
+   * @param currentY y-coordinate of the player or game object.
+   * @return is this coordinate within this zone?
+   */
+  public boolean isInsideZone(double currentX, double currentY) {
+    switch (zoneType) {
+      case LEFT_BEHIND_NET:
+        return isInLeftBehindNetZone(currentX, currentY);
+      case RIGHT_BEHIND_NET:
+        return isInRightBehindNetZone(currentX, currentY);
+      default:
+        //If the zone is not at the ends, just do a simple check based on rectangular math.
+        return currentX > startX
+                && currentX <= endX
+                && currentY > startY
+                && currentY <= endY;
+    }
+  }
+
+  /**
+   * Identifies if the position is at the very left section of the rink. This section is started
+   * by the left wall and extends until the left goal line. Its two left corners are rounded by a
+   * quarter circle of the corner radius, centered cornerRadius in from both walls.
+   * @param currentX x-coordinate to check.
+   * @param currentY y-coordinate to check.
+   * @return boolean. Is this position in the left-most zone?
+   */
+  private boolean isInLeftBehindNetZone(double currentX, double currentY) {
+    if (currentX < startX || currentX > endX || currentY < startY || currentY > endY) {
+      return false;
+    }
+    //Right of the corner circle centers, or between them vertically, is plain rectangle.
+    double cornerX = startX + cornerRadius;
+    if (currentX >= cornerX || isBetweenCorners(currentY)) {
+      return true;
+    }
+    return isInsideCornerCircle(currentX - cornerX, currentY);
+  }
+
+  /**
+   * Identifies if the position is at the very right section of the rink. This section is started
+   * by the right goal line and extends until the end. Its two right corners are rounded by a
+   * quarter circle of the corner radius, centered cornerRadius in from both walls.
+   * @param currentX x-coordinate to check.
+   * @param currentY y-coordinate to check.
+   * @return boolean. Is this position in the right-most zone?
+   */
+  private boolean isInRightBehindNetZone(double currentX, double currentY) {
+    if (currentX < startX || currentX > endX || currentY < startY || currentY > endY) {
+      return false;
+    }
+    //Left of the corner circle centers, or between them vertically, is plain rectangle.
+    double cornerX = endX - cornerRadius;
+    if (currentX <= cornerX || isBetweenCorners(currentY)) {
+      return true;
+    }
+    return isInsideCornerCircle(currentX - cornerX, currentY);
+  }
+
+  /**
+   * Is the y-coordinate between the centers of the top and bottom corner circles?
+   */
+  private boolean isBetweenCorners(double currentY) {
+    return currentY >= startY + cornerRadius && currentY <= endY - cornerRadius;
+  }
+
+  /**
+   * Is the point inside the nearer of the top or bottom corner circles? Compares squared
+   * distances so no square root is needed.
+   * @param dx       horizontal offset of the point from the corner circle centers.
+   * @param currentY y-coordinate of the point.
+   */
+  private boolean isInsideCornerCircle(double dx, double currentY) {
+    double dy = currentY < startY + cornerRadius
+        ? currentY - (startY + cornerRadius)
+        : currentY - (endY - cornerRadius);
+    return dx * dx + dy * dy <= cornerRadius * cornerRadius;
+  }
+
+  /**
+   * Get the type of this zone.
+   * @return ZoneType of this zone.
+   */
+  public ZoneType getZoneType() {
+    return zoneType;
+  }
+
+  /**
+   * Get the left-most x-coordinate of this zone.
+   * @return start x-coordinate.
+   */
+  public double getStartX() {
+    return startX;
+  }
+
+  /**
+   * Get the right-most x-coordinate of this zone.
+   * @return end x-coordinate.
+   */
+  public double getEndX() {
+    return endX;
+  }
+}
@@ -0,0 +1,42 @@
+package Model;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes the current thread allocates while running a piece of work, as reported by
+ * ThreadMXBean. The work is repeated for a few rounds and the smallest count is kept, so that a
+ * one-off allocation by the JIT compiling the work partway through a round does not count
+ * against it.
+ */
+public final class AllocationMeter {
+  private static final int ROUNDS = 3;
+
+  private AllocationMeter() {
+  }
+
+  /**
+   * Run the work once to warm it up, then measure it. Skips the calling test on JVMs that cannot
+   * account for allocations per thread.
+   * @param work the work to measure; it should be repeatable.
+   * @return the fewest bytes allocated by a single round of the work.
+   */
+  public static long bytesAllocatedBy(Runnable work) {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threads.isThreadAllocatedMemorySupported(),
+        "Thread allocation accounting is not supported by this JVM");
+    threads.setThreadAllocatedMemoryEnabled(true);
+    long threadId = Thread.currentThread().getId();
+
+    work.run();
+    long fewest = Long.MAX_VALUE;
+    for (int round = 0; round < ROUNDS; round++) {
+      long before = threads.getThreadAllocatedBytes(threadId);
+      work.run();
+      fewest = Math.min(fewest, threads.getThreadAllocatedBytes(threadId) - before);
+    }
+    return fewest;
+  }
+}
@@ -0,0 +1,68 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BoardContactTest {
+  private final Rink rink = new GameSession().getSessionRink();
+  private final BoardContact contact = new BoardContact();
+
+  @Test
+  void circleInOpenIceTouchesNothing() {
+    assertFalse(rink.queryBoardContact(GameConfig.RINK_LENGTH / 2, GameConfig.RINK_HEIGHT / 2,
+        GameConfig.SKATER_RADIUS, contact));
+  }
+
+  @Test
+  void straightBoardsPushStraightBack() {
+    assertTrue(rink.queryBoardContact(GameConfig.RINK_LENGTH / 2, GameConfig.RINK_HEIGHT - 3, 4,
+        contact));
+    assertEquals(1, contact.getPenetration(), 1e-12);
+    assertEquals(0, contact.getNormalX());
+    assertEquals(1, contact.getNormalY());
+
+    assertTrue(rink.queryBoardContact(1, GameConfig.RINK_HEIGHT / 2, 4, contact));
+    assertEquals(3, contact.getPenetration(), 1e-12);
+    assertEquals(-1, contact.getNormalX());
+    assertEquals(0, contact.getNormalY());
+  }
+
+  @Test
+  void cornerPushesAlongTheArcNormal() {
+    double corner = GameConfig.RINK_CORNER_RADIUS;
+    //On the diagonal through the bottom-left arc's center, 1 unit short of the arc.
+    double offset = (corner - 1) / Math.sqrt(2);
+    double x = corner - offset;
+    double y = corner - offset;
+
+    assertTrue(rink.queryBoardContact(x, y, 3, contact));
+    assertEquals(2, contact.getPenetration(), 1e-9);
+    assertEquals(-Math.sqrt(0.5), contact.getNormalX(), 1e-12);
+    assertEquals(-Math.sqrt(0.5), contact.getNormalY(), 1e-12);
+  }
+
+  @Test
+  void skaterHeldIntoACornerIsKeptAtTheBoards() {
+    GameSession session = new GameSession();
+    Rink sessionRink = session.getSessionRink();
+    Skater skater = (Skater) session.getSessionSkater();
+    skater.getMovementManagerPlayer().setKeyPressed(GameConfig.DIRECTION.LEFT, true);
+    skater.getMovementManagerPlayer().setKeyPressed(GameConfig.DIRECTION.DOWN, true);
+    //Contact is resolved at the start of each step, so the skater may end a tick up to one
+    //tick's travel past the boards, but never further.
+    double mostTravel = GameConfig.SKATER_MAX_VELOCITY * session.getFixedDeltaTime();
+
+    for (int i = 0; i < 60 * 30; i++) {
+      session.tick();
+      double x = skater.getPosition().getXCoord();
+      double y = skater.getPosition().getYCoord();
+      assertTrue(sessionRink.isInsideRink(x, y));
+      if (sessionRink.queryBoardContact(x, y, skater.getRadius(), contact)) {
+        assertTrue(contact.getPenetration() <= mostTravel, "tick " + i);
+      }
+    }
+  }
+}
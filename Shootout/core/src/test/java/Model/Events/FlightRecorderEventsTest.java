@@ -0,0 +1,139 @@
+package Model.Events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import Model.AllocationMeter;
+import Model.GameConfig;
+import Model.GameSession;
+import Model.MovementManagers.MovementManagerPuck;
+import Model.Net;
+import Model.Puck;
+import Model.Skater;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FlightRecorderEventsTest {
+  private static final int TICKS = 2_000;
+
+  @Test
+  void eventsAllocateNothingWithoutARecording() {
+    GameSession session = newSession();
+
+    long allocated = AllocationMeter.bytesAllocatedBy(() -> play(session, 20_000));
+
+    assertEquals(0, allocated);
+  }
+
+  @Test
+  void recordingHoldsEveryTickTheCollisionsAndTheGoal(@TempDir Path directory)
+      throws IOException {
+    GameSession session = newSession();
+    Path file = directory.resolve("shootout.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("shootout.Tick").withoutThreshold();
+      recording.enable("shootout.Collision");
+      recording.enable("shootout.Goal");
+      recording.start();
+      play(session, TICKS);
+      recording.stop();
+      recording.dump(file);
+    }
+
+    long thread = Thread.currentThread().getId();
+    long ticks = 0;
+    long collisions = 0;
+    long goals = 0;
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+    for (RecordedEvent event : events) {
+      if (event.getThread() == null || event.getThread().getJavaThreadId() != thread) {
+        continue;
+      }
+      switch (event.getEventType().getName()) {
+        case "shootout.Tick":
+          if (event.getLong("sessionId") == session.getSessionId()) {
+            ticks++;
+          }
+          break;
+        case "shootout.Collision":
+          collisions++;
+          break;
+        case "shootout.Goal":
+          goals++;
+          assertEquals(Net.NetSide.RIGHT.name(), event.getString("netSide"));
+          break;
+        default:
+          break;
+      }
+    }
+
+    assertEquals(TICKS, ticks);
+    assertTrue(collisions > 0);
+    assertEquals(1, goals);
+  }
+
+  @Test
+  void puckImpactRecordsThePointAtTheContact(@TempDir Path directory) throws IOException {
+    GameSession session = new GameSession(new Skater());
+    Puck puck = session.getSessionPuck();
+    puck.setPosition(GameConfig.RINK_LENGTH / 2, GameConfig.RINK_HEIGHT / 2);
+    //Straight up into the top boards, which the top-most point, bit 0, reaches first.
+    puck.getMovementManagerPuck().handleShot(Math.PI / 2, 5);
+    Path file = directory.resolve("shootout.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("shootout.Collision");
+      recording.start();
+      play(session, TICKS);
+      recording.stop();
+      recording.dump(file);
+    }
+
+    long thread = Thread.currentThread().getId();
+    int puckCollisions = 0;
+    for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+      if (event.getThread() == null || event.getThread().getJavaThreadId() != thread
+          || !event.getEventType().getName().equals("shootout.Collision")
+          || !event.getClass("objectType").getName()
+              .equals(MovementManagerPuck.class.getName())) {
+        continue;
+      }
+      if (puckCollisions == 0) {
+        assertEquals(CollisionEvent.BOARDS, event.getString("surface"));
+        assertEquals(1, event.getInt("contactMask"));
+      }
+      assertNotEquals(0, event.getInt("contactMask"));
+      puckCollisions++;
+    }
+
+    assertTrue(puckCollisions > 0);
+  }
+
+  /**
+   * Build a session with the skater pushing into the boards and the puck sliding into the right
+   * net.
+   */
+  private static GameSession newSession() {
+    Skater skater = new Skater();
+    GameSession session = new GameSession(skater);
+    skater.getMovementManagerPlayer().setKeyPressed(GameConfig.DIRECTION.LEFT, true);
+    skater.getMovementManagerPlayer().setKeyPressed(GameConfig.DIRECTION.UP, true);
+    Net net = session.getSessionNets()[1];
+    session.getSessionPuck().setPosition(net.getPosition().getXCoord() - net.getSideLength(),
+        net.getPosition().getYCoord() + net.getLength() / 2);
+    session.getSessionPuck().getMovementManagerPuck().handleShot(0, 2);
+    return session;
+  }
+
+  private static void play(GameSession session, int ticks) {
+    for (int i = 0; i < ticks; i++) {
+      session.tick();
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class FixedTimestepTest {
+  private static final double TICK_RATE = 50;
+
+  private final GameSession session = new GameSession(new Skater(), TICK_RATE, 3);
+
+  @Test
+  void advanceRunsWholeTicksAndKeepsTheRemainder() {
+    assertEquals(2, session.advance(2.5 / TICK_RATE));
+    assertEquals(2, session.getTickCount());
+    assertEquals(0.5, session.getInterpolationAlpha(), 1e-9);
+
+    assertEquals(1, session.advance(0.5 / TICK_RATE));
+    assertEquals(3, session.getTickCount());
+    assertEquals(0, session.getInterpolationAlpha(), 1e-9);
+  }
+
+  @Test
+  void slowFrameRunsAtMostTheCatchUpBudgetAndDropsTheRest() {
+    assertEquals(3, session.advance(10.25 / TICK_RATE));
+
+    assertEquals(3, session.getTickCount());
+    assertEquals(7, session.getDroppedTicks());
+    assertEquals(0.25, session.getInterpolationAlpha(), 1e-9);
+  }
+
+  @Test
+  void negativeFrameTimeIsIgnored() {
+    assertEquals(0, session.advance(-1));
+    assertEquals(0, session.getTickCount());
+  }
+
+  @Test
+  void interpolationBlendsThePreviousAndCurrentTick() {
+    Puck puck = session.getSessionPuck();
+    puck.getMovementManagerPuck().setXVelocity(10);
+    session.tick();
+    double previousX = puck.getPosition().getXCoord();
+    session.tick();
+    double currentX = puck.getPosition().getXCoord();
+
+    assertEquals(previousX, puck.getInterpolatedX(0), 1e-12);
+    assertEquals(currentX, puck.getInterpolatedX(1), 1e-12);
+    assertEquals((previousX + currentX) / 2, puck.getInterpolatedX(0.5), 1e-12);
+  }
+
+  @Test
+  void tickRateAndCatchUpBudgetMustBePositive() {
+    assertThrows(IllegalArgumentException.class, () -> new GameSession(new Skater(), 0, 3));
+    assertThrows(IllegalArgumentException.class, () -> new GameSession(new Skater(), 60, 0));
+  }
+}
@@ -0,0 +1,54 @@
+package Model.MovementManagers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import Model.GameConfig;
+import Model.GameSession;
+import Model.Net;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+class ContactMaskTest {
+  private final GameSession session = new GameSession();
+  private final MovementManagerPuck puck = session.getSessionPuck().getMovementManagerPuck();
+
+  @Test
+  void objectInOpenIceTouchesNothing() {
+    puck.setPosition(GameConfig.RINK_LENGTH / 2, GameConfig.RINK_HEIGHT / 2);
+
+    assertEquals(0, puck.grabBoardContactMask());
+    assertEquals(0, puck.grabNetContactMask());
+  }
+
+  @Test
+  void boardMaskMatchesTheListOfTouchingPoints() {
+    puck.setPosition(GameConfig.RINK_LENGTH / 2, GameConfig.RINK_HEIGHT - 1);
+
+    int mask = puck.grabBoardContactMask();
+
+    assertNotEquals(0, mask & 1, "the top point is past the boards");
+    assertEquals(indexesOf(mask), puck.grabBoardCollisionStatusOfMobilePointsInRink());
+  }
+
+  @Test
+  void netMaskMatchesTheListOfTouchingPoints() {
+    Net net = session.getSessionNets()[0];
+    puck.setPosition(net.getPosition().getXCoord(), net.getPosition().getYCoord());
+
+    int mask = puck.grabNetContactMask();
+
+    assertNotEquals(0, mask);
+    assertEquals(indexesOf(mask), puck.grabNetCollisionStatusOfMobilePoints());
+  }
+
+  private static ArrayList<Integer> indexesOf(int mask) {
+    ArrayList<Integer> indexes = new ArrayList<Integer>();
+    for (int i = 0; i < MovementManager.POINT_COUNT; i++) {
+      if ((mask & (1 << i)) != 0) {
+        indexes.add(i);
+      }
+    }
+    return indexes;
+  }
+}
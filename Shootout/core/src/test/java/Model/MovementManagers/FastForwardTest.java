@@ -0,0 +1,102 @@
+package Model.MovementManagers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import Model.GameConfig;
+import Model.GameSession;
+import Model.Puck;
+import Model.Skater;
+import org.junit.jupiter.api.Test;
+
+class FastForwardTest {
+  private static final double STOP_SPEED = 0.5;
+  private static final double SECONDS = 2.0;
+  private static final double START_SPEED = 20.0;
+  private static final double[] TICK_RATES = {30, 60, 240, 960};
+
+  @Test
+  void steppedSpeedMatchesTheClosedFormAtEveryTickRate() {
+    double expectedSpeed = START_SPEED * FrictionDecay.decayFactor(SECONDS);
+
+    for (double tickRate : TICK_RATES) {
+      Puck puck = coast(tickRate);
+
+      assertEquals(expectedSpeed, puck.getXVelocity(), expectedSpeed * 1e-9, tickRate + " Hz");
+    }
+  }
+
+  @Test
+  void steppedPositionClosesInOnTheClosedFormAsTicksShorten() {
+    double expectedDistance = FrictionDecay.distanceAfter(START_SPEED, SECONDS);
+    double startX = new GameSession(new Skater()).getSessionPuck().getPosition().getXCoord();
+
+    double previousError = Double.POSITIVE_INFINITY;
+    for (double tickRate : TICK_RATES) {
+      Puck puck = coast(tickRate);
+      double error = Math.abs(puck.getPosition().getXCoord() - startX - expectedDistance);
+
+      assertTrue(error < previousError, tickRate + " Hz is off by " + error);
+      previousError = error;
+    }
+  }
+
+  @Test
+  void fastForwardStopsWhereSteppingStops() {
+    GameSession stepped = newShot(960);
+    Puck steppedPuck = stepped.getSessionPuck();
+    while (speedOf(steppedPuck) > STOP_SPEED) {
+      steppedPuck.update(stepped.getFixedDeltaTime());
+    }
+
+    MovementManagerPuck jumped = newShot(960).getSessionPuck().getMovementManagerPuck();
+    int jumps = 0;
+    while (jumped.fastForward(60, STOP_SPEED) > 0) {
+      jumps++;
+    }
+
+    assertTrue(jumps > 1, "the shot should bounce off the boards");
+    double dx = steppedPuck.getPosition().getXCoord() - jumped.getPosition().getXCoord();
+    double dy = steppedPuck.getPosition().getYCoord() - jumped.getPosition().getYCoord();
+    assertTrue(Math.sqrt(dx * dx + dy * dy) < GameConfig.PUCK_RADIUS);
+  }
+
+  @Test
+  void stoppedPuckIsNotMoved() {
+    MovementManagerPuck puck = new GameSession(new Skater()).getSessionPuck()
+        .getMovementManagerPuck();
+    double x = puck.getPosition().getXCoord();
+
+    assertEquals(0, puck.fastForward(60, STOP_SPEED));
+    assertEquals(x, puck.getPosition().getXCoord());
+  }
+
+  /**
+   * Slide a puck from its starting spot along x at START_SPEED for SECONDS, one tick at a time.
+   */
+  private static Puck coast(double tickRate) {
+    GameSession session = new GameSession(new Skater(), tickRate, 1);
+    Puck puck = session.getSessionPuck();
+    puck.getMovementManagerPuck().setXVelocity(START_SPEED);
+    int ticks = (int) Math.round(SECONDS * tickRate);
+    for (int i = 0; i < ticks; i++) {
+      puck.update(session.getFixedDeltaTime());
+    }
+    return puck;
+  }
+
+  /**
+   * Build a session whose puck is shot up and to the right, into the boards.
+   */
+  private static GameSession newShot(double tickRate) {
+    GameSession session = new GameSession(new Skater(), tickRate, 1);
+    session.getSessionPuck().getMovementManagerPuck().handleShot(1.0, 5);
+    return session;
+  }
+
+  private static double speedOf(Puck puck) {
+    double x = puck.getXVelocity();
+    double y = puck.getYVelocity();
+    return Math.sqrt(x * x + y * y);
+  }
+}
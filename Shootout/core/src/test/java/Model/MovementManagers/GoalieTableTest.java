@@ -0,0 +1,121 @@
+package Model.MovementManagers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import Model.AllocationMeter;
+import Model.GameConfig;
+import Model.GameSession;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GoalieTableTest {
+
+  @Test
+  void writtenTableMapsBackTheSameCells(@TempDir Path directory) throws IOException {
+    GoalieTable table = filledTable();
+    Path file = directory.resolve("goalie-table.bin");
+
+    table.write(file);
+    GoalieTable mapped = GoalieTable.map(file);
+
+    assertEquals(table.getCellCount(), mapped.getCellCount());
+    for (int cell = 0; cell < table.getCellCount(); cell++) {
+      assertEquals(table.getTargetDepth(cell), mapped.getTargetDepth(cell));
+      assertEquals(table.getTargetY(cell), mapped.getTargetY(cell));
+      assertEquals(table.getSaveProbability(cell), mapped.getSaveProbability(cell));
+    }
+  }
+
+  @Test
+  void middleOfEveryCellIsFoundInThatCell() {
+    GoalieTable table = GoalieTable.create(5, 4, 3, 8);
+
+    for (int cell = 0; cell < table.getCellCount(); cell++) {
+      double speed = table.getCellSpeed(cell);
+      double heading = table.getCellHeading(cell);
+      assertEquals(cell, table.findCell(table.getCellDepth(cell), table.getCellY(cell),
+          speed * Math.cos(heading), speed * Math.sin(heading)));
+    }
+  }
+
+  @Test
+  void statesOutsideTheTableAreClampedToItsEdge() {
+    GoalieTable table = GoalieTable.create(5, 4, 3, 8);
+
+    int far = table.findCell(GoalieTable.MAX_DEPTH * 10, GameConfig.RINK_HEIGHT * 2, 0, 0);
+    int behind = table.findCell(GoalieTable.MIN_DEPTH * 10, -GameConfig.RINK_HEIGHT, 0, 0);
+
+    assertEquals(table.getCellDepth(table.getCellCount() - 1), table.getCellDepth(far));
+    assertEquals(table.getCellY(table.getCellCount() - 1), table.getCellY(far));
+    assertEquals(table.getCellDepth(0), table.getCellDepth(behind));
+    assertEquals(table.getCellY(0), table.getCellY(behind));
+  }
+
+  @Test
+  void tableTooLargeForOneBufferIsRejected() {
+    //The int product of these counts wraps around to 0.
+    assertThrows(IllegalArgumentException.class,
+        () -> GoalieTable.create(1 << 16, 1 << 16, 1 << 16, 1 << 16));
+    assertThrows(IllegalArgumentException.class,
+        () -> GoalieTable.create(1_000, 1_000, 1_000, 1));
+    assertThrows(IllegalArgumentException.class, () -> GoalieTable.create(4, 0, 4, 4));
+  }
+
+  @Test
+  void fileThatIsNotATableIsRejected(@TempDir Path directory) throws IOException {
+    Path file = directory.resolve("not-a-table.bin");
+    Files.write(file, new byte[64]);
+
+    assertThrows(IOException.class, () -> GoalieTable.map(file));
+  }
+
+  @Test
+  void truncatedTableIsRejected(@TempDir Path directory) throws IOException {
+    Path file = directory.resolve("goalie-table.bin");
+    filledTable().write(file);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 1);
+    }
+
+    assertThrows(IOException.class, () -> GoalieTable.map(file));
+  }
+
+  @Test
+  void goaliesOnATableAllocateNothing() {
+    GoalieTable table = filledTable();
+    GameSession session = new GameSession();
+    session.getSessionLeftGoalie().getMovementManagerGoalie().setGoalieTable(table);
+    session.getSessionRightGoalie().getMovementManagerGoalie().setGoalieTable(table);
+    session.getSessionPuck().getMovementManagerPuck().handleShot(0.3, 5);
+
+    long allocated = AllocationMeter.bytesAllocatedBy(() -> {
+      for (int i = 0; i < 20_000; i++) {
+        session.tick();
+      }
+    });
+
+    assertEquals(0, allocated);
+  }
+
+  /**
+   * Build a small table whose every cell sends the goalie to the middle of the crease, off to the
+   * side the puck is on.
+   */
+  private static GoalieTable filledTable() {
+    GoalieTable table = GoalieTable.create(6, 5, 4, 8);
+    double middle = GameConfig.RINK_HEIGHT / 2;
+    double lateral = GameConfig.GOALIE_CREASE_RADIUS / 3;
+    for (int cell = 0; cell < table.getCellCount(); cell++) {
+      double side = Math.signum(table.getCellY(cell) - middle);
+      table.setCell(cell, GameConfig.GOALIE_CREASE_RADIUS / 2, middle + side * lateral,
+          (double) cell / table.getCellCount());
+    }
+    return table;
+  }
+}
@@ -0,0 +1,83 @@
+package Model.MovementManagers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  void smallLatenciesAreExact() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int nanos = 1; nanos <= 20; nanos++) {
+      histogram.record(nanos);
+    }
+
+    assertEquals(20, histogram.getCount());
+    assertEquals(10, histogram.getPercentile(0.5));
+    assertEquals(20, histogram.getPercentile(1.0));
+    assertEquals(20, histogram.getMax());
+  }
+
+  @Test
+  void percentilesAreWithinThreePercent() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long nanos = 1; nanos <= 100_000; nanos++) {
+      histogram.record(nanos);
+    }
+
+    assertWithin(50_000, histogram.getPercentile(0.5));
+    assertWithin(99_000, histogram.getPercentile(0.99));
+    assertWithin(99_900, histogram.getPercentile(0.999));
+    assertEquals(100_000, histogram.getMax());
+  }
+
+  @Test
+  void negativeLatencyCountsAsZero() {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    histogram.record(-5);
+
+    assertEquals(1, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+  }
+
+  @Test
+  void resetForgetsEverything() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(1_000);
+
+    histogram.reset();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getPercentile(0.99));
+    assertEquals(0, histogram.getMax());
+  }
+
+  @Test
+  void threadsRecordingTogetherLoseNothing() throws InterruptedException {
+    LatencyHistogram histogram = new LatencyHistogram();
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      long offset = i;
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 100_000; j++) {
+          histogram.record(j * 4 + offset);
+        }
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(400_000, histogram.getCount());
+    assertEquals(399_999, histogram.getMax());
+  }
+
+  private static void assertWithin(long expected, long actual) {
+    assertTrue(Math.abs(actual - expected) <= expected * 0.03,
+        "expected about " + expected + " but was " + actual);
+  }
+}
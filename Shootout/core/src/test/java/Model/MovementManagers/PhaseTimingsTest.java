@@ -0,0 +1,74 @@
+package Model.MovementManagers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import Model.AllocationMeter;
+import Model.GameConfig;
+import Model.GameSession;
+import Model.Skater;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PhaseTimingsTest {
+
+  @AfterEach
+  void turnTimingOff() {
+    PhaseTimings.setEnabled(false);
+    PhaseTimings.reset();
+  }
+
+  @Test
+  void timedTicksRecordEveryPhase() {
+    PhaseTimings.setEnabled(true);
+    PhaseTimings.reset();
+
+    play(newSession(), 1_000);
+
+    for (PhaseTimings.Phase phase : PhaseTimings.Phase.values()) {
+      LatencyHistogram histogram = PhaseTimings.getHistogram(phase);
+      assertTrue(histogram.getCount() >= 1_000, phase.name());
+      assertTrue(histogram.getPercentile(0.5) <= histogram.getMax(), phase.name());
+    }
+  }
+
+  @Test
+  void untimedTicksRecordNothing() {
+    PhaseTimings.setEnabled(false);
+    PhaseTimings.reset();
+
+    play(newSession(), 1_000);
+
+    for (PhaseTimings.Phase phase : PhaseTimings.Phase.values()) {
+      assertEquals(0, PhaseTimings.getHistogram(phase).getCount(), phase.name());
+    }
+  }
+
+  @Test
+  void timedTicksAllocateNothing() {
+    PhaseTimings.setEnabled(true);
+    GameSession session = newSession();
+
+    long allocated = AllocationMeter.bytesAllocatedBy(() -> play(session, 20_000));
+
+    assertEquals(0, allocated);
+  }
+
+  /**
+   * Build a session with the skater pushing into the boards and the puck shot.
+   */
+  private static GameSession newSession() {
+    Skater skater = new Skater();
+    GameSession session = new GameSession(skater);
+    skater.getMovementManagerPlayer().setKeyPressed(GameConfig.DIRECTION.LEFT, true);
+    skater.getMovementManagerPlayer().setKeyPressed(GameConfig.DIRECTION.UP, true);
+    session.getSessionPuck().getMovementManagerPuck().handleShot(0.3, 5);
+    return session;
+  }
+
+  private static void play(GameSession session, int ticks) {
+    for (int i = 0; i < ticks; i++) {
+      session.tick();
+    }
+  }
+}
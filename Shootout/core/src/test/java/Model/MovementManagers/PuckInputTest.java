@@ -0,0 +1,53 @@
+package Model.MovementManagers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import Model.GameSession;
+import Model.Skater;
+import org.junit.jupiter.api.Test;
+
+class PuckInputTest {
+
+  @Test
+  void shotOutsideTheStrengthRangeIsRejected() {
+    MovementManagerPuck puck = newPuck();
+
+    assertThrows(IllegalArgumentException.class, () -> puck.handleShot(0, -0.1));
+    assertThrows(IllegalArgumentException.class, () -> puck.handleShot(0, 5.1));
+    assertThrows(IllegalArgumentException.class, () -> puck.handleShot(0, Double.NaN));
+  }
+
+  @Test
+  void shotWithANonFiniteAngleIsRejected() {
+    MovementManagerPuck puck = newPuck();
+
+    assertThrows(IllegalArgumentException.class, () -> puck.handleShot(Double.NaN, 3));
+    assertThrows(IllegalArgumentException.class,
+        () -> puck.handleShot(Double.POSITIVE_INFINITY, 3));
+  }
+
+  @Test
+  void pokeCheckWithANonFiniteAngleIsRejected() {
+    MovementManagerPuck puck = newPuck();
+
+    assertThrows(IllegalArgumentException.class, () -> puck.handlePokeCheck(Double.NaN));
+    assertThrows(IllegalArgumentException.class,
+        () -> puck.handlePokeCheck(Double.NEGATIVE_INFINITY));
+  }
+
+  @Test
+  void rejectedInputsLeaveThePuckAlone() {
+    MovementManagerPuck puck = newPuck();
+
+    assertThrows(IllegalArgumentException.class, () -> puck.handleShot(1, Double.NaN));
+    assertThrows(IllegalArgumentException.class, () -> puck.handlePokeCheck(Double.NaN));
+
+    assertEquals(0, puck.getXVelocity());
+    assertEquals(0, puck.getYVelocity());
+  }
+
+  private static MovementManagerPuck newPuck() {
+    return new GameSession(new Skater()).getSessionPuck().getMovementManagerPuck();
+  }
+}
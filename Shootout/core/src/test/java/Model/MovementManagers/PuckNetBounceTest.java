@@ -0,0 +1,67 @@
+package Model.MovementManagers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import Model.BoardContact;
+import Model.GameConfig;
+import Model.GameSession;
+import Model.Net;
+import org.junit.jupiter.api.Test;
+
+class PuckNetBounceTest {
+  private static final double SPEED = 20;
+
+  private final GameSession session = new GameSession();
+  private final Net leftNet = session.getSessionNets()[0];
+  //The end of the left net's top post faces the rink along x = postEndX.
+  private final double postEndX = leftNet.getPosition().getXCoord();
+  private final double postMiddleY = leftNet.getPosition().getYCoord() + GameConfig.NET_THICKNESS
+      + GameConfig.NET_LENGTH + GameConfig.NET_THICKNESS / 2;
+
+  @Test
+  void postBouncesThePuckTheSameWhetherOrNotItStartsTouching() {
+    MovementManagerPuck clear = puckAt(postEndX + GameConfig.PUCK_RADIUS + 0.1, -SPEED);
+    MovementManagerPuck overlapping = puckAt(postEndX + GameConfig.PUCK_RADIUS - 0.5, -SPEED);
+
+    clear.updateMovement(session.getFixedDeltaTime());
+    overlapping.updateMovement(session.getFixedDeltaTime());
+
+    assertTrue(clear.getXVelocity() > 0, "the clear puck bounced");
+    assertEquals(clear.getXVelocity(), overlapping.getXVelocity(), 1e-9);
+    assertEquals(clear.getYVelocity(), overlapping.getYVelocity(), 1e-9);
+  }
+
+  @Test
+  void puckLeavingAPostIsOnlyPushedOut() {
+    MovementManagerPuck puck = puckAt(postEndX + GameConfig.PUCK_RADIUS - 0.5, SPEED);
+    double expectedXVelocity = SPEED * FrictionDecay.decayFactor(session.getFixedDeltaTime());
+
+    puck.updateMovement(session.getFixedDeltaTime());
+
+    assertEquals(expectedXVelocity, puck.getXVelocity(), 1e-12);
+    assertTrue(puck.getPosition().getXCoord() - GameConfig.PUCK_RADIUS > postEndX);
+  }
+
+  @Test
+  void contactQueryReportsTheWayOutOfAPost() {
+    BoardContact contact = new BoardContact();
+
+    assertTrue(leftNet.queryPuckContact(postEndX + 3, postMiddleY, GameConfig.PUCK_RADIUS,
+        contact));
+    assertEquals(1, contact.getPenetration(), 1e-12);
+    assertEquals(-1, contact.getNormalX());
+    assertEquals(0, contact.getNormalY());
+    assertFalse(leftNet.queryPuckContact(postEndX + 5, postMiddleY, GameConfig.PUCK_RADIUS,
+        contact));
+  }
+
+  private MovementManagerPuck puckAt(double x, double xVelocity) {
+    MovementManagerPuck puck = new MovementManagerPuck();
+    puck.setSessionContext(session);
+    puck.setPosition(x, postMiddleY);
+    puck.setXVelocity(xVelocity);
+    return puck;
+  }
+}
@@ -0,0 +1,104 @@
+package Model.MovementManagers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import Model.AllocationMeter;
+import Model.GameSession;
+import Model.Net;
+import Model.Puck;
+import org.junit.jupiter.api.Test;
+
+class PuckPredictionTest {
+  private static final double HORIZON = 3.0;
+
+  @Test
+  void everyPredictionNextStepIsWhereThePuckGoes() {
+    GameSession session = newSession();
+    Puck puck = session.getSessionPuck();
+    MovementManagerPuck manager = puck.getMovementManagerPuck();
+    int ticks = (int) Math.ceil(HORIZON / session.getFixedDeltaTime());
+
+    for (int tick = 1; tick <= ticks; tick++) {
+      PuckPrediction prediction = manager.predict(HORIZON);
+      double expectedX = prediction.getX(1);
+      double expectedY = prediction.getY(1);
+      session.tick();
+
+      assertEquals(expectedX, puck.getPosition().getXCoord(), "tick " + tick);
+      assertEquals(expectedY, puck.getPosition().getYCoord(), "tick " + tick);
+    }
+  }
+
+  @Test
+  void goalLineIsCrossedOnThePredictedTick() {
+    GameSession session = newSession();
+    Puck puck = session.getSessionPuck();
+    double timeStep = session.getFixedDeltaTime();
+    PuckPrediction prediction = puck.getMovementManagerPuck().predict(HORIZON);
+    assertTrue(prediction.hasGoalLineCrossing());
+    long predictedTick = (long) Math.ceil(prediction.getCrossingTime() / timeStep);
+
+    long crossingTick = -1;
+    int ticks = (int) Math.ceil(HORIZON / timeStep);
+    for (int tick = 1; tick <= ticks && crossingTick < 0; tick++) {
+      double before = puck.getPosition().getXCoord();
+      session.tick();
+      double after = puck.getPosition().getXCoord();
+      for (Net net : session.getSessionNets()) {
+        if (crosses(before, after, net)) {
+          crossingTick = tick;
+        }
+      }
+    }
+
+    assertEquals(predictedTick, crossingTick);
+  }
+
+  @Test
+  void cachedPredictionAllocatesNothing() {
+    GameSession session = newSession();
+    MovementManagerPuck manager = session.getSessionPuck().getMovementManagerPuck();
+    manager.predict(HORIZON);
+
+    long allocated = AllocationMeter.bytesAllocatedBy(() -> {
+      for (int i = 0; i < 5_000; i++) {
+        manager.predict(HORIZON);
+        session.tick();
+      }
+    });
+
+    assertEquals(0, allocated);
+  }
+
+  @Test
+  void recomputedPredictionAllocatesNothing() {
+    MovementManagerPuck manager = newSession().getSessionPuck().getMovementManagerPuck();
+    manager.predict(HORIZON);
+
+    long allocated = AllocationMeter.bytesAllocatedBy(() -> {
+      for (int i = 0; i < 1_000; i++) {
+        //Every change of velocity takes the puck off the cached path.
+        manager.setXVelocity(20 + (i & 7));
+        manager.predict(HORIZON);
+      }
+    });
+
+    assertEquals(0, allocated);
+  }
+
+  /**
+   * Build a session with the puck shot hard towards the right net.
+   */
+  private static GameSession newSession() {
+    GameSession session = new GameSession();
+    session.getSessionPuck().setPosition(140, 40);
+    session.getSessionPuck().getMovementManagerPuck().handleShot(0.05, 5);
+    return session;
+  }
+
+  private static boolean crosses(double fromX, double toX, Net net) {
+    double lineX = net.getPosition().getXCoord();
+    return (fromX < lineX) != (toX < lineX);
+  }
+}
@@ -0,0 +1,100 @@
+package Model.MovementManagers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import Model.GameConfig;
+import Model.GameSession;
+import Model.Position;
+import org.junit.jupiter.api.Test;
+
+class WorldStoreTest {
+  private static final double TOLERANCE = 1e-9;
+
+  private final GameSession session = new GameSession();
+  private final double deltaTime = session.getFixedDeltaTime();
+
+  @Test
+  void boundSkaterMovesLikeAnUnboundOne() {
+    MovementManagerSkater free = new MovementManagerSkater();
+    MovementManagerSkater bound = new MovementManagerSkater();
+    for (MovementManagerSkater skater : new MovementManagerSkater[] {free, bound}) {
+      skater.setSessionContext(session);
+      skater.setPosition(GameConfig.RINK_LENGTH / 2, GameConfig.RINK_HEIGHT / 2);
+      skater.setKeyPressed(GameConfig.DIRECTION.RIGHT, true);
+      skater.setKeyPressed(GameConfig.DIRECTION.UP, true);
+    }
+    WorldStore store = new WorldStore(1);
+    bound.bindToWorldStore(store);
+
+    for (int i = 0; i < 120; i++) {
+      free.updateMovement(deltaTime);
+      store.step(deltaTime);
+      assertSameState(free, bound);
+    }
+  }
+
+  @Test
+  void boundPuckSlidesLikeAnUnboundOne() {
+    MovementManagerPuck free = new MovementManagerPuck();
+    MovementManagerPuck bound = new MovementManagerPuck();
+    for (MovementManagerPuck puck : new MovementManagerPuck[] {free, bound}) {
+      puck.setSessionContext(session);
+      puck.handleShot(0.4, 2);
+    }
+    WorldStore store = new WorldStore(1);
+    bound.bindToWorldStore(store);
+
+    for (int i = 0; i < 30; i++) {
+      free.updateMovement(deltaTime);
+      store.step(deltaTime);
+      assertSameState(free, bound);
+    }
+  }
+
+  @Test
+  void boundGoalieStaysInsideItsCrease() {
+    Position spawn = session.getSessionLeftGoalie().getPosition();
+    MovementManagerGoalie free = new MovementManagerGoalie();
+    MovementManagerGoalie bound = new MovementManagerGoalie();
+    for (MovementManagerGoalie goalie : new MovementManagerGoalie[] {free, bound}) {
+      goalie.setSessionContext(session);
+      goalie.setPosition(spawn.getXCoord(), spawn.getYCoord());
+      goalie.setKeyPressed(GameConfig.DIRECTION.RIGHT, true);
+    }
+    WorldStore store = new WorldStore(1);
+    bound.bindToWorldStore(store);
+
+    for (int i = 0; i < 600; i++) {
+      free.updateMovement(deltaTime);
+      store.step(deltaTime);
+      assertSameState(free, bound);
+      Position position = bound.getPosition();
+      assertTrue(bound.acceptsPosition(position.getXCoord(), position.getYCoord()));
+    }
+    //Holding a key for ten seconds would carry the goalie far out of its crease if nothing held
+    //it back.
+    double crease = session.getSessionNets()[0].getCrease().getRadius();
+    assertTrue(bound.getPosition().getXCoord() - spawn.getXCoord() < crease);
+  }
+
+  @Test
+  void storeGrowsPastItsInitialCapacity() {
+    WorldStore store = new WorldStore(1);
+    for (int i = 0; i < 5; i++) {
+      MovementManagerPuck puck = new MovementManagerPuck();
+      puck.setSessionContext(session);
+      puck.setPosition(100 + i * 10, 50);
+      puck.bindToWorldStore(store);
+    }
+    assertEquals(5, store.size());
+    assertEquals(140, store.getX(4));
+  }
+
+  private static void assertSameState(MovementManager expected, MovementManager actual) {
+    assertEquals(expected.getPosition().getXCoord(), actual.getPosition().getXCoord(), TOLERANCE);
+    assertEquals(expected.getPosition().getYCoord(), actual.getPosition().getYCoord(), TOLERANCE);
+    assertEquals(expected.getXVelocity(), actual.getXVelocity(), TOLERANCE);
+    assertEquals(expected.getYVelocity(), actual.getYVelocity(), TOLERANCE);
+  }
+}
@@ -0,0 +1,40 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import Model.MovementManagers.MovementManagerSkater;
+import org.junit.jupiter.api.Test;
+
+class NetReachTest {
+  private final GameSession session = new GameSession();
+  private final Rink rink = session.getSessionRink();
+  private final Net leftNet = session.getSessionNets()[0];
+  private final double netX = leftNet.getPosition().getXCoord();
+  private final double netMiddleY =
+      leftNet.getPosition().getYCoord() + GameConfig.NET_THICKNESS + GameConfig.NET_LENGTH / 2;
+
+  @Test
+  void reachGrowsWithTheRadiusOfTheObject() {
+    double x = netX + GameConfig.GOALIE_RADIUS + 10;
+
+    assertFalse(leftNet.isNearNet(x, netMiddleY, GameConfig.GOALIE_RADIUS));
+    assertTrue(rink.isClearOfNets(x, GameConfig.GOALIE_RADIUS));
+    assertTrue(leftNet.isNearNet(x, netMiddleY, GameConfig.GOALIE_RADIUS + 10));
+    assertFalse(rink.isClearOfNets(x, GameConfig.GOALIE_RADIUS + 10));
+  }
+
+  @Test
+  void objectGrownAtRuntimeStillTouchesTheNet() {
+    MovementManagerSkater skater = new MovementManagerSkater();
+    skater.setSessionContext(session);
+    //Larger than any radius in GameConfig, reaching the front of the net.
+    double radius = GameConfig.GOALIE_RADIUS * 3;
+    skater.setRadius(radius);
+    skater.setPosition(netX + radius - 1, netMiddleY);
+
+    assertNotEquals(0, leftNet.netContactMask(skater));
+    assertNotEquals(0, skater.grabNetContactMask());
+  }
+}
@@ -0,0 +1,41 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class RinkZoneLookupTest {
+  private final Rink rink = new GameSession().getSessionRink();
+
+  @Test
+  void openIceIsInsideAndOutsideTheBoardsIsNot() {
+    assertTrue(rink.isInsideRink(GameConfig.RINK_LENGTH / 2, GameConfig.RINK_HEIGHT / 2));
+    assertTrue(rink.isInsideRink(GameConfig.LEFT_GOAL_LINE_X, GameConfig.RINK_HEIGHT / 2));
+    assertTrue(rink.isInsideRink(GameConfig.RIGHT_GOAL_LINE_X, GameConfig.RINK_HEIGHT / 2));
+    assertFalse(rink.isInsideRink(-1, GameConfig.RINK_HEIGHT / 2));
+    assertFalse(rink.isInsideRink(GameConfig.RINK_LENGTH + 1, GameConfig.RINK_HEIGHT / 2));
+    assertFalse(rink.isInsideRink(GameConfig.RINK_LENGTH / 2, GameConfig.RINK_HEIGHT + 1));
+  }
+
+  @Test
+  void roundedCornersAreOutsideTheRink() {
+    double inset = GameConfig.RINK_CORNER_RADIUS * 0.1;
+
+    assertFalse(rink.isInsideRink(inset, inset));
+    assertFalse(rink.isInsideRink(GameConfig.RINK_LENGTH - inset, GameConfig.RINK_HEIGHT - inset));
+    assertTrue(rink.isInsideRink(GameConfig.RINK_CORNER_RADIUS, GameConfig.RINK_CORNER_RADIUS));
+  }
+
+  @Test
+  void lookupAgreesWithTheBoardsEverywhere() {
+    BoardContact contact = new BoardContact();
+    for (double x = -2.25; x < GameConfig.RINK_LENGTH + 2; x += 0.5) {
+      for (double y = -2.25; y < GameConfig.RINK_HEIGHT + 2; y += 0.5) {
+        boolean pastBoards = rink.queryBoardContact(x, y, 0, contact);
+        assertEquals(!pastBoards, rink.isInsideRink(x, y), "at " + x + ", " + y);
+      }
+    }
+  }
+}
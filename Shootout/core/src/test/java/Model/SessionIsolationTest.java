@@ -0,0 +1,70 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class SessionIsolationTest {
+
+  @Test
+  void everySessionHasItsOwnWorld() {
+    GameSession first = new GameSession();
+    GameSession second = new GameSession();
+
+    assertNotSame(first.getSessionRink(), second.getSessionRink());
+    assertNotSame(first.getSessionNets()[0], second.getSessionNets()[0]);
+    assertNotSame(first.getSessionPuck(), second.getSessionPuck());
+  }
+
+  @Test
+  void tickingOneSessionLeavesAnotherAlone() {
+    GameSession first = new GameSession();
+    GameSession second = new GameSession();
+    Puck untouched = second.getSessionPuck();
+    double startX = untouched.getPosition().getXCoord();
+    double startY = untouched.getPosition().getYCoord();
+
+    first.getSessionPuck().getMovementManagerPuck().handleShot(0.3, 5);
+    for (int i = 0; i < 120; i++) {
+      first.tick();
+    }
+
+    assertEquals(startX, untouched.getPosition().getXCoord());
+    assertEquals(startY, untouched.getPosition().getYCoord());
+    assertEquals(0, second.getTickCount());
+  }
+
+  @Test
+  void goalInOneSessionIsNotSeenByAnother() {
+    GameSession first = new GameSession();
+    GameSession second = new GameSession();
+    Net net = first.getSessionNets()[0];
+    Puck puck = first.getSessionPuck();
+    puck.setPosition(net.getPosition().getXCoord() - GameConfig.NET_THICKNESS * 2,
+        net.getCrease().getCenterY());
+
+    first.tick();
+
+    assertEquals(true, net.getGoal());
+    assertEquals(false, second.getSessionNets()[0].getGoal());
+  }
+
+  @Test
+  void objectsAddedToASessionUseItsContext() {
+    GameSession session = new GameSession();
+    Skater extra = new Skater();
+    session.addMobileObject(extra);
+    extra.setPosition(GameConfig.RINK_LENGTH / 2, 1);
+    extra.getMovementManagerPlayer().setKeyPressed(GameConfig.DIRECTION.DOWN, true);
+
+    for (int i = 0; i < 60; i++) {
+      session.tick();
+    }
+
+    //Held against the bottom boards of the session's own rink.
+    assertSame(session.getMobileObjects()[session.getMobileObjects().length - 1], extra);
+    assertEquals(true, session.getSessionRink().isInsideRink(extra.getPosition()));
+  }
+}
@@ -0,0 +1,132 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class SleepTest {
+  private static final int REST_TICKS = 60 * 60;
+  private static final int TICKS = 20_000;
+
+  @Test
+  void everythingFallsAsleepAndStaysWhereItStopped() {
+    GameSession session = new GameSession(new Skater());
+    Puck puck = session.getSessionPuck();
+    puck.getMovementManagerPuck().handleShot(0.3, 5);
+    playToRest(session);
+    double restX = puck.getPosition().getXCoord();
+    double restY = puck.getPosition().getYCoord();
+
+    for (int i = 0; i < 100; i++) {
+      session.tick();
+    }
+
+    assertTrue(allAsleep(session));
+    assertEquals(restX, puck.getPosition().getXCoord());
+    assertEquals(restY, puck.getPosition().getYCoord());
+    assertEquals(0, puck.getXVelocity());
+    assertEquals(0, puck.getYVelocity());
+  }
+
+  @Test
+  void sleepingObjectsInterpolateToWhereTheyRest() {
+    GameSession session = new GameSession(new Skater());
+    session.getSessionPuck().getMovementManagerPuck().handleShot(0.3, 5);
+    playToRest(session);
+
+    session.tick();
+
+    for (MobileObject obj : session.getMobileObjects()) {
+      for (double alpha : new double[] {0, 0.5, 1}) {
+        assertEquals(obj.getPosition().getXCoord(), obj.getInterpolatedX(alpha));
+        assertEquals(obj.getPosition().getYCoord(), obj.getInterpolatedY(alpha));
+      }
+    }
+  }
+
+  @Test
+  void keyPressWakesTheSkater() {
+    Skater skater = new Skater();
+    GameSession session = new GameSession(skater);
+    playToRest(session);
+
+    skater.getMovementManagerPlayer().setKeyPressed(GameConfig.DIRECTION.RIGHT, true);
+
+    assertFalse(skater.isSleeping());
+  }
+
+  @Test
+  void shotWakesThePuck() {
+    GameSession session = new GameSession(new Skater());
+    Puck puck = session.getSessionPuck();
+    playToRest(session);
+
+    puck.getMovementManagerPuck().handleShot(0, 1);
+
+    assertFalse(puck.isSleeping());
+  }
+
+  @Test
+  void contactWithAnAwakeSkaterWakesASleeper() {
+    GameSession session = new GameSession(new Skater());
+    Skater bumped = new Skater();
+    Skater bumper = new Skater();
+    session.addMobileObject(bumped);
+    session.addMobileObject(bumper);
+    bumped.setPosition(50, 20);
+    bumper.setPosition(20, 20);
+    bumper.getMovementManagerPlayer().setKeyPressed(GameConfig.DIRECTION.RIGHT, true);
+    for (int i = 0; i < 45; i++) {
+      session.tick();
+    }
+    assertTrue(bumped.isSleeping());
+    double restX = bumped.getPosition().getXCoord();
+
+    int ticks = 0;
+    while (bumped.isSleeping() && ticks < 60 * 10) {
+      session.tick();
+      ticks++;
+    }
+
+    assertFalse(bumped.isSleeping());
+    assertEquals(restX, bumped.getInterpolatedX(0));
+  }
+
+  @Test
+  void sleepingTicksAllocateNothing() {
+    GameSession session = new GameSession();
+    for (int i = 0; i < 64; i++) {
+      Skater idle = new Skater();
+      session.addMobileObject(idle);
+      idle.setPosition(20 + (i % 16) * 10, 10 + (i / 16) * 15);
+    }
+    playToRest(session);
+
+    long allocated = AllocationMeter.bytesAllocatedBy(() -> {
+      for (int i = 0; i < TICKS; i++) {
+        session.tick();
+      }
+    });
+
+    assertTrue(allAsleep(session));
+    assertEquals(0, allocated);
+  }
+
+  private static void playToRest(GameSession session) {
+    for (int i = 0; i < REST_TICKS && !allAsleep(session); i++) {
+      session.tick();
+    }
+    assertTrue(allAsleep(session), "still moving after " + REST_TICKS + " ticks");
+  }
+
+  private static boolean allAsleep(GameSession session) {
+    for (MobileObject obj : session.getMobileObjects()) {
+      if (!obj.isSleeping()) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
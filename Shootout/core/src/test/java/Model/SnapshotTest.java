@@ -0,0 +1,115 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import Model.MovementManagers.MovementManagerPlayer;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class SnapshotTest {
+  private static final int WARMUP_TICKS = 1_000;
+  private static final int FORK_TICKS = 500;
+
+  @Test
+  void rollbackAndForkPlayOnToTheSameState() {
+    GameSession session = playedSession();
+    ByteBuffer checkpoint = session.allocateSnapshotBuffer();
+    session.saveSnapshot(checkpoint);
+
+    ByteBuffer expected = playOn(session);
+
+    checkpoint.flip();
+    session.restoreSnapshot(checkpoint);
+    ByteBuffer rolledBack = playOn(session);
+
+    GameSession fork = new GameSession(new Skater());
+    checkpoint.flip();
+    fork.restoreSnapshot(checkpoint);
+    ByteBuffer forked = playOn(fork);
+
+    assertEquals(expected, rolledBack);
+    assertEquals(expected, forked);
+  }
+
+  @Test
+  void restoreBringsBackTheTickCount() {
+    GameSession session = playedSession();
+    ByteBuffer checkpoint = session.allocateSnapshotBuffer();
+    session.saveSnapshot(checkpoint);
+    session.tick();
+
+    checkpoint.flip();
+    session.restoreSnapshot(checkpoint);
+
+    assertEquals(WARMUP_TICKS, session.getTickCount());
+  }
+
+  @Test
+  void saveAndRestoreAllocateNothing() {
+    GameSession session = playedSession();
+    ByteBuffer buffer = session.allocateSnapshotBuffer();
+
+    long allocated = AllocationMeter.bytesAllocatedBy(() -> {
+      for (int i = 0; i < 10_000; i++) {
+        buffer.clear();
+        session.saveSnapshot(buffer);
+        buffer.flip();
+        session.restoreSnapshot(buffer);
+      }
+    });
+
+    assertEquals(0, allocated);
+  }
+
+  @Test
+  void snapshotOfAnotherLayoutIsRejected() {
+    GameSession session = new GameSession(new Skater());
+    GameSession larger = new GameSession(new Skater());
+    larger.addMobileObject(new Skater());
+    ByteBuffer snapshot = larger.allocateSnapshotBuffer();
+    larger.saveSnapshot(snapshot);
+    snapshot.flip();
+
+    assertThrows(IllegalArgumentException.class, () -> session.restoreSnapshot(snapshot));
+  }
+
+  @Test
+  void bufferTooSmallIsRejected() {
+    GameSession session = new GameSession(new Skater());
+    ByteBuffer small = ByteBuffer.allocate(session.getSnapshotSize() - 1);
+
+    assertThrows(IllegalArgumentException.class, () -> session.saveSnapshot(small));
+  }
+
+  /**
+   * Build a session with the skater and puck moving and play it for WARMUP_TICKS ticks.
+   */
+  private static GameSession playedSession() {
+    GameSession session = new GameSession(new Skater());
+    MovementManagerPlayer skater = session.getSessionSkater().getMovementManagerPlayer();
+    skater.setKeyPressed(GameConfig.DIRECTION.RIGHT, true);
+    session.getSessionPuck().getMovementManagerPuck().handleShot(0.7, 4);
+    for (int i = 0; i < WARMUP_TICKS; i++) {
+      session.tick();
+    }
+    return session;
+  }
+
+  /**
+   * Release the skater's key, hold another, and play on for FORK_TICKS ticks.
+   * @return a flipped snapshot of the session afterwards.
+   */
+  private static ByteBuffer playOn(GameSession session) {
+    MovementManagerPlayer skater = session.getSessionSkater().getMovementManagerPlayer();
+    skater.setKeyPressed(GameConfig.DIRECTION.RIGHT, false);
+    skater.setKeyPressed(GameConfig.DIRECTION.DOWN, true);
+    for (int i = 0; i < FORK_TICKS; i++) {
+      session.tick();
+    }
+    ByteBuffer snapshot = session.allocateSnapshotBuffer();
+    session.saveSnapshot(snapshot);
+    snapshot.flip();
+    return snapshot;
+  }
+}
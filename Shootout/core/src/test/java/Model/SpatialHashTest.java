@@ -0,0 +1,77 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SpatialHashTest {
+
+  @Test
+  void findsEveryOverlappingPairExactlyOnce() {
+    Random random = new Random(42);
+    SpatialHash hash = new SpatialHash();
+    int count = 200;
+    double[] xs = new double[count];
+    double[] ys = new double[count];
+    double[] radii = new double[count];
+    for (int round = 0; round < 5; round++) {
+      hash.clear();
+      for (int i = 0; i < count; i++) {
+        xs[i] = random.nextDouble() * GameConfig.RINK_LENGTH;
+        ys[i] = random.nextDouble() * GameConfig.RINK_HEIGHT;
+        radii[i] = 1 + random.nextDouble() * (GameConfig.GOALIE_RADIUS - 1);
+        hash.insert(i, xs[i], ys[i], radii[i]);
+      }
+
+      Set<Long> found = new HashSet<Long>();
+      int pairs = hash.findPairs();
+      for (int pair = 0; pair < pairs; pair++) {
+        int a = Math.min(hash.getPairFirst(pair), hash.getPairSecond(pair));
+        int b = Math.max(hash.getPairFirst(pair), hash.getPairSecond(pair));
+        assertTrue(found.add((long) a * count + b), "pair reported twice");
+      }
+      for (int a = 0; a < count; a++) {
+        for (int b = a + 1; b < count; b++) {
+          boolean overlapping = Math.abs(xs[a] - xs[b]) <= radii[a] + radii[b]
+              && Math.abs(ys[a] - ys[b]) <= radii[a] + radii[b];
+          if (overlapping) {
+            assertTrue(found.contains((long) a * count + b), "missed " + a + ", " + b);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void clearForgetsEveryObject() {
+    SpatialHash hash = new SpatialHash();
+    hash.insert(0, 50, 50, 5);
+    hash.insert(1, 52, 50, 5);
+    assertEquals(1, hash.findPairs());
+
+    hash.clear();
+    hash.insert(2, 150, 50, 5);
+
+    assertEquals(0, hash.findPairs());
+  }
+
+  @Test
+  void objectsOffTheGridStillPair() {
+    SpatialHash hash = new SpatialHash();
+    hash.insert(0, -5, -5, 4);
+    hash.insert(1, 1, 1, 4);
+
+    assertEquals(1, hash.findPairs());
+  }
+
+  @Test
+  void dimensionsMustBePositive() {
+    assertThrows(IllegalArgumentException.class, () -> new SpatialHash(0, 0, 0, 10, 1));
+    assertThrows(IllegalArgumentException.class, () -> new SpatialHash(0, 0, 10, 10, 0));
+  }
+}
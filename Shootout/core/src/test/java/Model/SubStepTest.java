@@ -0,0 +1,121 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import Model.MovementManagers.MovementManagerPuck;
+import Model.MovementManagers.PuckPrediction;
+import org.junit.jupiter.api.Test;
+
+class SubStepTest {
+  private static final int MAX_TICKS = 60 * 60;
+
+  //Results of the last playFastPuck, kept in fields so that measuring it allocates nothing.
+  private int splitTicks;
+  private int maxSplitSteps;
+  private int singleStepTick;
+
+  @Test
+  void restAndANormalShotRunOneStepPerTick() {
+    GameSession session = new GameSession(new Skater());
+    session.tick();
+    assertEquals(1, session.getLastSubSteps());
+
+    session.getSessionPuck().getMovementManagerPuck().handleShot(0.3, 5);
+    session.tick();
+
+    assertEquals(1, session.getLastSubSteps());
+  }
+
+  @Test
+  void puckAtItsSpeedLimitSplitsTicksUntilFrictionSlowsIt() {
+    GameSession session = new GameSession(new Skater());
+
+    playFastPuck(session);
+
+    assertTrue(splitTicks > 0);
+    assertTrue(maxSplitSteps > 1);
+    assertTrue(maxSplitSteps <= GameConfig.MAX_SUBSTEPS);
+    assertTrue(singleStepTick < MAX_TICKS, "never went back to one step per tick");
+  }
+
+  @Test
+  void splitTicksAllocateNothing() {
+    GameSession session = new GameSession(new Skater());
+
+    long allocated = AllocationMeter.bytesAllocatedBy(() -> playFastPuck(session));
+
+    assertEquals(0, allocated);
+  }
+
+  @Test
+  void fastPuckLandsWhereItWasPredicted() {
+    GameSession session = new GameSession(new Skater());
+    Puck puck = session.getSessionPuck();
+    MovementManagerPuck puckManager = puck.getMovementManagerPuck();
+    puck.setPosition(GameConfig.RINK_LENGTH / 2, GameConfig.RINK_HEIGHT / 2);
+    puckManager.setXVelocity(GameConfig.PUCK_MAX_VELOCITY * 0.6);
+    puckManager.setYVelocity(GameConfig.PUCK_MAX_VELOCITY * 0.8);
+    int horizon = 60;
+    PuckPrediction prediction = puckManager.predict(horizon / session.getTickRate());
+
+    for (int i = 0; i < horizon; i++) {
+      session.tick();
+    }
+
+    assertEquals(prediction.getX(horizon), puck.getPosition().getXCoord());
+    assertEquals(prediction.getY(horizon), puck.getPosition().getYCoord());
+  }
+
+  @Test
+  void lowTickRateSplitsTicksDuringANormalShot() {
+    double tickRate = 15;
+    GameSession session = new GameSession(new Skater(), tickRate, GameConfig.MAX_CATCH_UP_TICKS);
+    session.getSessionPuck().getMovementManagerPuck().handleShot(0.3, 5);
+
+    int maxSteps = 0;
+    for (int i = 0; i < tickRate * 5; i++) {
+      session.tick();
+      maxSteps = Math.max(maxSteps, session.getLastSubSteps());
+    }
+
+    assertTrue(maxSteps > 1);
+    assertTrue(session.getTotalSubSteps() > session.getTickCount());
+  }
+
+  @Test
+  void stepCountGrowsWithSpeedUpToTheLimit() {
+    double deltaTime = 1 / GameConfig.TICK_RATE;
+
+    assertEquals(1, GameSession.subStepsFor(0, deltaTime));
+    assertTrue(GameSession.subStepsFor(GameConfig.PUCK_MAX_VELOCITY, deltaTime) > 1);
+    assertEquals(GameConfig.MAX_SUBSTEPS, GameSession.subStepsFor(1e9, deltaTime));
+  }
+
+  /**
+   * Send the session's puck sliding along the rink at its speed limit and tick until it is back
+   * to one step per tick, recording the ticks that were split, the most steps in one tick and
+   * the tick it went back to one step.
+   */
+  private void playFastPuck(GameSession session) {
+    Puck puck = session.getSessionPuck();
+    MovementManagerPuck puckManager = puck.getMovementManagerPuck();
+    puck.setPosition(GameConfig.RINK_LENGTH / 4, GameConfig.RINK_HEIGHT / 2);
+    puckManager.setXVelocity(GameConfig.PUCK_MAX_VELOCITY);
+    puckManager.setYVelocity(0);
+    splitTicks = 0;
+    maxSplitSteps = 0;
+    int tick = 0;
+    while (tick < MAX_TICKS) {
+      session.tick();
+      tick++;
+      int steps = session.getLastSubSteps();
+      if (steps == 1) {
+        break;
+      }
+      splitTicks++;
+      maxSplitSteps = Math.max(maxSplitSteps, steps);
+    }
+    singleStepTick = tick;
+  }
+}
@@ -0,0 +1,47 @@
+package Model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import Model.MovementManagers.MovementManagerPlayer;
+import org.junit.jupiter.api.Test;
+
+class TickAllocationTest {
+  private static final int TICKS = 20_000;
+
+  @Test
+  void steadyStateTickAllocatesNothing() {
+    Skater skater = new Skater();
+    GameSession session = new GameSession(skater);
+    //Keep everything moving: the skater holds a direction into the boards and the puck is shot.
+    MovementManagerPlayer skaterManager = skater.getMovementManagerPlayer();
+    skaterManager.setKeyPressed(GameConfig.DIRECTION.LEFT, true);
+    skaterManager.setKeyPressed(GameConfig.DIRECTION.UP, true);
+    session.getSessionPuck().getMovementManagerPuck().handleShot(0.3, 5);
+
+    long allocated = AllocationMeter.bytesAllocatedBy(() -> {
+      for (int i = 0; i < TICKS; i++) {
+        session.tick();
+      }
+    });
+
+    assertEquals(0, allocated);
+  }
+
+  @Test
+  void contactMaskQueriesAllocateNothing() {
+    GameSession session = new GameSession();
+    Puck puck = session.getSessionPuck();
+    Net net = session.getSessionNets()[0];
+    //In contact with the net, so that the net query does all of its work.
+    puck.setPosition(net.getPosition().getXCoord(), net.getPosition().getYCoord());
+
+    long allocated = AllocationMeter.bytesAllocatedBy(() -> {
+      for (int i = 0; i < TICKS; i++) {
+        puck.getMovementManagerPuck().grabBoardContactMask();
+        puck.getMovementManagerPuck().grabNetContactMask();
+      }
+    });
+
+    assertEquals(0, allocated);
+  }
+}
@@ -0,0 +1,210 @@
+package Controller;
+
+import Engine.InputRecorder;
+import Model.GameConfig;
+import Model.GameSession;
+import Model.InputSource;
+import Model.MovementManagers.MovementManagerPlayer;
+import Model.MovementManagers.MovementManagerPuck;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * The Controller carries user input from the thread that receives it, such as the UI or network
+ * thread, to the thread that ticks the session. Input methods only stamp the event with the time
+ * it happened and place it on a lock-free single-producer, single-consumer ring; nothing in the
+ * session is touched. The Controller is the session's InputSource, so the session drains the ring
+ * itself at the start of every tick, on whichever thread runs the tick, and that is the only
+ * place the movement managers are changed.
+ *
+ * <p>Every event is applied exactly once, on the first tick whose time is not earlier than the
+ * event's timestamp, so the tick an input lands on depends only on when it happened and not on
+ * when the tick thread got around to draining the ring. Ticks that advance runs to catch up are
+ * each given the inputs of their own moment. One thread may produce and one thread may consume;
+ * using more of either is not supported.
+ *
+ * <p>A Controller built on an InputRecorder applies the drained inputs through the recorder, so a
+ * session fed from another thread can still be replayed exactly.
+ */
+public class Controller implements InputSource {
+  /**
+   * Default number of events the ring holds: several seconds of very busy input.
+   */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  private static final GameConfig.DIRECTION[] DIRECTIONS = GameConfig.DIRECTION.values();
+
+  private final InputRing ring;
+  private final MovementManagerPlayer skater;
+  private final MovementManagerPuck puck;
+  private final InputRecorder recorder;
+
+  /**
+   * Constructor for a Controller feeding the given session, with the default capacity.
+   * @param session session whose skater and puck receive the inputs. Must not have an input
+   *                source yet.
+   * @throws IllegalStateException if the session already has an input source.
+   */
+  public Controller(GameSession session) throws IllegalStateException {
+    this(session, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructor for a Controller feeding the given session. The Controller becomes the session's
+   * input source.
+   * @param session  session whose skater and puck receive the inputs. Must not have an input
+   *                 source yet.
+   * @param capacity number of events that can wait to be applied, rounded up to a power of two.
+   * @throws IllegalStateException if the session already has an input source.
+   */
+  public Controller(GameSession session, int capacity) throws IllegalStateException {
+    if (session.getInputSource() != null) {
+      throw new IllegalStateException("Session already has an input source!");
+    }
+    this.ring = new InputRing(capacity);
+    this.skater = session.getSessionSkater().getMovementManagerPlayer();
+    this.puck = session.getSessionPuck().getMovementManagerPuck();
+    this.recorder = null;
+    session.setInputSource(this);
+  }
+
+  /**
+   * Constructor for a Controller feeding a recorded session through its recorder, with the default
+   * capacity.
+   * @param recorder recorder of the session that receives the inputs.
+   */
+  public Controller(InputRecorder recorder) {
+    this(recorder, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructor for a Controller feeding a recorded session through its recorder. The Controller
+   * becomes the recorder's input source.
+   * @param recorder recorder of the session that receives the inputs.
+   * @param capacity number of events that can wait to be applied, rounded up to a power of two.
+   */
+  public Controller(InputRecorder recorder, int capacity) {
+    this.ring = new InputRing(capacity);
+    this.skater = null;
+    this.puck = null;
+    this.recorder = recorder;
+    recorder.setInputSource(this);
+  }
+
+  /**
+   * Queue a key press or release. Producer thread only.
+   * @param direction the direction matching the associated key.
+   * @param pressed   is this key being pressed or no?
+   * @return false if the queue is full and the input was not accepted.
+   */
+  public boolean setKeyPressed(GameConfig.DIRECTION direction, boolean pressed) {
+    int key = direction.ordinal() << 1 | (pressed ? 1 : 0);
+    return ring.offer(System.nanoTime(), InputRing.KEY, key, 0, 0);
+  }
+
+  /**
+   * Queue a shot. Producer thread only.
+   * @param angle    angle of the shot, as passed to MovementManagerPuck.handleShot.
+   * @param strength strength of the shot, as passed to MovementManagerPuck.handleShot.
+   * @return false if the queue is full and the input was not accepted.
+   * @throws IllegalArgumentException if the angle is not finite or the strength is out of range.
+   */
+  public boolean handleShot(double angle, double strength) throws IllegalArgumentException {
+    //Checked here so that a bad shot fails on the thread that asked for it.
+    if (!Double.isFinite(angle) || !(strength >= 0.0 && strength <= 5.0)) {
+      throw new IllegalArgumentException("Shot needs a finite angle and a strength between 0.0 "
+          + "and 5.0!");
+    }
+    return ring.offer(System.nanoTime(), InputRing.SHOT, 0, angle, strength);
+  }
+
+  /**
+   * Queue a poke check. Producer thread only.
+   * @param angle angle of the stick, as passed to MovementManagerPuck.handlePokeCheck.
+   * @return false if the queue is full and the input was not accepted.
+   * @throws IllegalArgumentException if the angle is not finite.
+   */
+  public boolean handlePokeCheck(double angle) throws IllegalArgumentException {
+    if (!Double.isFinite(angle)) {
+      throw new IllegalArgumentException("Poke check needs a finite angle!");
+    }
+    return ring.offer(System.nanoTime(), InputRing.POKE_CHECK, 0, angle, 0);
+  }
+
+  /**
+   * Apply the inputs of the tick the session is about to run. Called by the session, on the tick
+   * thread.
+   * @param lag seconds the tick trails the present by.
+   * @throws UncheckedIOException if the inputs go through a recorder that could not write them.
+   */
+  @Override
+  public void beforeTick(double lag) throws UncheckedIOException {
+    applyInputs(System.nanoTime() - (long) (lag * 1e9));
+  }
+
+  /**
+   * Apply, in order, every queued input that happened no later than the given time. The session
+   * calls this through beforeTick at the start of each tick. Tick thread only.
+   * @param tickTime System.nanoTime() value that the coming tick represents.
+   * @return number of inputs applied.
+   * @throws UncheckedIOException if the inputs go through a recorder that could not write them.
+   */
+  public int applyInputs(long tickTime) throws UncheckedIOException {
+    int applied = 0;
+    try {
+      while (ring.next(tickTime)) {
+        apply();
+        applied++;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      if (applied > 0) {
+        ring.release();
+      }
+    }
+    return applied;
+  }
+
+  /**
+   * Get the number of inputs that can wait to be applied at once.
+   * @return capacity of the input queue.
+   */
+  public int getCapacity() {
+    return ring.capacity();
+  }
+
+  /**
+   * Apply the event the ring has just moved to, through the recorder if there is one.
+   */
+  private void apply() throws IOException {
+    switch (ring.type()) {
+      case InputRing.KEY:
+        int key = ring.key();
+        GameConfig.DIRECTION direction = DIRECTIONS[key >>> 1];
+        boolean pressed = (key & 1) != 0;
+        if (recorder != null) {
+          recorder.setKeyPressed(direction, pressed);
+        } else {
+          skater.setKeyPressed(direction, pressed);
+        }
+        break;
+      case InputRing.SHOT:
+        if (recorder != null) {
+          recorder.handleShot(ring.first(), ring.second());
+        } else {
+          puck.handleShot(ring.first(), ring.second());
+        }
+        break;
+      case InputRing.POKE_CHECK:
+        if (recorder != null) {
+          recorder.handlePokeCheck(ring.first());
+        } else {
+          puck.handlePokeCheck(ring.first());
+        }
+        break;
+      default:
+        throw new IllegalStateException("Unknown input event: " + ring.type());
+    }
+  }
+}
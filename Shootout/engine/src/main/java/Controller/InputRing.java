@@ -0,0 +1,127 @@
+package Controller;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-producer, single-consumer ring buffer of timestamped input events. Events are stored
+ * field by field in parallel arrays, so offering and draining an event allocates nothing, and the
+ * two threads hand events over through a pair of sequence counters instead of locks.
+ *
+ * <p>The producer writes an event's fields and then publishes it by advancing head. The consumer
+ * reads events up to head and then releases their slots by advancing tail. Each side caches the
+ * other side's counter and only rereads it when the ring looks full or empty.
+ */
+class InputRing {
+  static final byte KEY = 1;
+  static final byte SHOT = 2;
+  static final byte POKE_CHECK = 3;
+
+  private final int mask;
+  private final long[] timestamps;
+  private final byte[] types;
+  private final int[] keys;
+  private final double[] firsts;
+  private final double[] seconds;
+
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+  //Only touched by the producer.
+  private long cachedTail;
+  //Only touched by the consumer.
+  private long cachedHead;
+  private long readPosition;
+
+  /**
+   * Constructor for a ring holding up to capacity events.
+   * @param capacity number of events the ring holds, rounded up to a power of two.
+   * @throws IllegalArgumentException if the capacity is not positive or too large.
+   */
+  InputRing(int capacity) throws IllegalArgumentException {
+    if (capacity <= 0 || capacity > (1 << 30)) {
+      throw new IllegalArgumentException("Input ring capacity must be between 1 and 2^30!");
+    }
+    int size = Integer.highestOneBit(capacity - 1) << 1;
+    if (capacity == 1) {
+      size = 1;
+    }
+    this.mask = size - 1;
+    this.timestamps = new long[size];
+    this.types = new byte[size];
+    this.keys = new int[size];
+    this.firsts = new double[size];
+    this.seconds = new double[size];
+  }
+
+  /**
+   * Add an event to the ring. Producer thread only.
+   * @return false if the ring is full and the event was not added.
+   */
+  boolean offer(long timestamp, byte type, int key, double first, double second) {
+    long position = head.get();
+    if (position - cachedTail > mask) {
+      cachedTail = tail.get();
+      if (position - cachedTail > mask) {
+        return false;
+      }
+    }
+    int slot = (int) position & mask;
+    timestamps[slot] = timestamp;
+    types[slot] = type;
+    keys[slot] = key;
+    firsts[slot] = first;
+    seconds[slot] = second;
+    head.lazySet(position + 1);
+    return true;
+  }
+
+  /**
+   * Move to the next unread event if there is one stamped no later than the given time. Consumer
+   * thread only. The event's fields can then be read until the next call.
+   * @param upTo latest timestamp to accept.
+   * @return true if an event was moved to.
+   */
+  boolean next(long upTo) {
+    if (readPosition == cachedHead) {
+      cachedHead = head.get();
+      if (readPosition == cachedHead) {
+        return false;
+      }
+    }
+    if (timestamps[(int) readPosition & mask] - upTo > 0) {
+      return false;
+    }
+    readPosition++;
+    return true;
+  }
+
+  /**
+   * Hand the slots of every event read so far back to the producer. Consumer thread only.
+   */
+  void release() {
+    tail.lazySet(readPosition);
+  }
+
+  byte type() {
+    return types[(int) (readPosition - 1) & mask];
+  }
+
+  int key() {
+    return keys[(int) (readPosition - 1) & mask];
+  }
+
+  double first() {
+    return firsts[(int) (readPosition - 1) & mask];
+  }
+
+  double second() {
+    return seconds[(int) (readPosition - 1) & mask];
+  }
+
+  /**
+   * Get the number of events the ring can hold.
+   * @return capacity of the ring.
+   */
+  int capacity() {
+    return mask + 1;
+  }
+}
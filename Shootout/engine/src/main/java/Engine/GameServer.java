@@ -0,0 +1,407 @@
+package Engine;
+
+import Controller.Controller;
+import Model.GameConfig;
+import Model.GameSession;
+import Model.Skater;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Headless server that hosts one shootout session per connected client. All sockets are
+ * non-blocking and served by a single selector thread, which also paces the ticks: between ticks
+ * it reads client inputs and queues them on the Controller of their session, and on every tick it
+ * ticks all sessions in parallel on a SessionScheduler, then sends each client a state stream frame
+ * of its session. Each session drains its Controller at the start of its own tick, on the worker
+ * thread, so sessions need no locking.
+ * A session that fails to tick, or a client that sends a malformed input, only disconnects that
+ * client.
+ *
+ * <p>A client that cannot keep up has frames dropped rather than queued, and gets a keyframe once
+ * it has room again. Tick latency, from the moment a tick was due until every frame of that tick
+ * was handed to the sockets, is summarised once per second of ticks.
+ */
+public class GameServer implements Closeable {
+  private static final int OUTBOUND_BUFFER_BYTES = 8 * 1024;
+  private static final int KEYFRAME_INTERVAL = 60;
+
+  /**
+   * Ticks that may be missed before the server stops trying to catch up and resets its schedule.
+   */
+  private static final int MAX_LATE_TICKS = 5;
+
+  private final Selector selector;
+  private final ServerSocketChannel serverChannel;
+  private final SessionScheduler scheduler;
+  private final List<Connection> connections;
+  private final long tickNanos;
+  private final long[] windowLatencies;
+  private int windowSize;
+  private volatile boolean running;
+  private volatile long tickCount;
+  private volatile long droppedFrames;
+  private volatile long failedSessions;
+  private volatile long windowP50;
+  private volatile long windowP99;
+  private volatile long windowMax;
+  private volatile long maxLatency;
+
+  /**
+   * A connected client and the session it plays in.
+   */
+  private static final class Connection {
+    private final SocketChannel channel;
+    private final GameSession session;
+    private final Controller controller;
+    private final StateStreamEncoder encoder;
+    private final ByteBuffer inbound;
+    private final ByteBuffer outbound;
+    private final SelectionKey key;
+
+    private Connection(SocketChannel channel, Selector selector) throws IOException {
+      this.channel = channel;
+      this.session = new GameSession(new Skater());
+      this.controller = new Controller(session);
+      this.encoder = new StateStreamEncoder(KEYFRAME_INTERVAL);
+      this.inbound = ByteBuffer.allocate(ServerProtocol.MAX_INPUT_BYTES * 16);
+      this.outbound = ByteBuffer.allocateDirect(OUTBOUND_BUFFER_BYTES);
+      this.key = channel.register(selector, SelectionKey.OP_READ, this);
+    }
+  }
+
+  /**
+   * Constructor for a server listening on the given address. Nothing is served until run is
+   * called.
+   * @param address     address to listen on. Port 0 picks a free port.
+   * @param workerCount number of threads that tick the sessions.
+   * @param tickRate    ticks per second, for every session.
+   * @throws IOException if the server socket could not be opened.
+   */
+  public GameServer(InetSocketAddress address, int workerCount, double tickRate)
+      throws IOException {
+    if (tickRate <= 0) {
+      throw new IllegalArgumentException("Tick rate must be positive!");
+    }
+    this.selector = Selector.open();
+    this.serverChannel = ServerSocketChannel.open();
+    serverChannel.bind(address, 1024);
+    serverChannel.configureBlocking(false);
+    serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    this.scheduler = new SessionScheduler(workerCount);
+    this.connections = new ArrayList<Connection>();
+    this.tickNanos = (long) (1e9 / tickRate);
+    this.windowLatencies = new long[(int) Math.ceil(tickRate)];
+    this.windowSize = 0;
+    this.running = true;
+  }
+
+  /**
+   * Serve clients and tick their sessions until close is called. Runs on the calling thread.
+   * @throws IOException if the selector fails.
+   */
+  public void run() throws IOException {
+    long nextTick = System.nanoTime() + tickNanos;
+    try {
+      while (running) {
+        long wait = nextTick - System.nanoTime();
+        if (wait > 0) {
+          selector.select(Math.max(1, wait / 1_000_000));
+        } else {
+          selector.selectNow();
+        }
+        handleSelectedKeys();
+
+        long now = System.nanoTime();
+        if (now >= nextTick) {
+          tick();
+          recordLatency(System.nanoTime() - nextTick);
+          nextTick += tickNanos;
+          if (now - nextTick > tickNanos * MAX_LATE_TICKS) {
+            nextTick = now + tickNanos;
+          }
+        }
+      }
+    } finally {
+      closeAll();
+    }
+  }
+
+  /**
+   * Ask the server to stop. Safe to call from any thread; run returns shortly after.
+   */
+  @Override
+  public void close() {
+    running = false;
+    selector.wakeup();
+  }
+
+  /**
+   * Get the address the server is listening on.
+   * @return the bound address, including the chosen port.
+   * @throws IOException if the address could not be read.
+   */
+  public InetSocketAddress getLocalAddress() throws IOException {
+    return (InetSocketAddress) serverChannel.getLocalAddress();
+  }
+
+  /**
+   * Get the number of ticks the server has run.
+   * @return ticks run so far.
+   */
+  public long getTickCount() {
+    return tickCount;
+  }
+
+  /**
+   * Get the number of frames that were dropped because a client could not keep up.
+   * @return frames dropped so far.
+   */
+  public long getDroppedFrames() {
+    return droppedFrames;
+  }
+
+  /**
+   * Get the number of sessions whose tick threw, each of which disconnected its client.
+   * @return sessions failed so far.
+   */
+  public long getFailedSessions() {
+    return failedSessions;
+  }
+
+  /**
+   * Get the median tick latency of the last completed second of ticks.
+   * @return latency in nanoseconds.
+   */
+  public long getWindowP50Nanos() {
+    return windowP50;
+  }
+
+  /**
+   * Get the 99th percentile tick latency of the last completed second of ticks.
+   * @return latency in nanoseconds.
+   */
+  public long getWindowP99Nanos() {
+    return windowP99;
+  }
+
+  /**
+   * Get the highest tick latency of the last completed second of ticks.
+   * @return latency in nanoseconds.
+   */
+  public long getWindowMaxNanos() {
+    return windowMax;
+  }
+
+  /**
+   * Get the highest tick latency since the server started.
+   * @return latency in nanoseconds.
+   */
+  public long getMaxLatencyNanos() {
+    return maxLatency;
+  }
+
+  private void handleSelectedKeys() {
+    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+    while (keys.hasNext()) {
+      SelectionKey key = keys.next();
+      keys.remove();
+      if (!key.isValid()) {
+        continue;
+      }
+      if (key.isAcceptable()) {
+        accept();
+        continue;
+      }
+      Connection connection = (Connection) key.attachment();
+      try {
+        if (key.isReadable()) {
+          read(connection);
+        }
+        if (key.isValid() && key.isWritable()) {
+          flush(connection);
+        }
+      } catch (IOException | IllegalArgumentException e) {
+        disconnect(connection);
+      }
+    }
+  }
+
+  private void accept() {
+    try {
+      SocketChannel channel;
+      while ((channel = serverChannel.accept()) != null) {
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        Connection connection = new Connection(channel, selector);
+        connections.add(connection);
+        scheduler.addSession(connection.session);
+      }
+    } catch (IOException e) {
+      //A failed accept only affects the client that was connecting.
+    }
+  }
+
+  /**
+   * Read whatever the client sent and apply every complete input message.
+   * @throws IOException              if the connection failed or was closed by the client.
+   * @throws IllegalArgumentException if the client sent a malformed message.
+   */
+  private void read(Connection connection) throws IOException, IllegalArgumentException {
+    ByteBuffer inbound = connection.inbound;
+    if (connection.channel.read(inbound) < 0) {
+      throw new IOException("Client closed the connection");
+    }
+    inbound.flip();
+    while (inbound.hasRemaining()) {
+      int size = ServerProtocol.inputSize(inbound.get(inbound.position()));
+      if (size < 0) {
+        throw new IllegalArgumentException("Unknown input message");
+      }
+      if (inbound.remaining() < size) {
+        break;
+      }
+      applyInput(connection, inbound);
+    }
+    inbound.compact();
+  }
+
+  /**
+   * Queue one input message on the Controller of the client's session.
+   * @throws IOException              if the client sent more input than its session can queue.
+   * @throws IllegalArgumentException if the message is unknown or holds a value that is not
+   *                                  finite or out of range.
+   */
+  private void applyInput(Connection connection, ByteBuffer inbound)
+      throws IOException, IllegalArgumentException {
+    Controller controller = connection.controller;
+    byte opcode = inbound.get();
+    boolean queued;
+    switch (opcode) {
+      case ServerProtocol.KEYS:
+        int keys = inbound.get();
+        queued = queueKey(controller, GameConfig.DIRECTION.UP, keys, ServerProtocol.KEY_UP)
+            && queueKey(controller, GameConfig.DIRECTION.DOWN, keys, ServerProtocol.KEY_DOWN)
+            && queueKey(controller, GameConfig.DIRECTION.LEFT, keys, ServerProtocol.KEY_LEFT)
+            && queueKey(controller, GameConfig.DIRECTION.RIGHT, keys, ServerProtocol.KEY_RIGHT);
+        break;
+      case ServerProtocol.SHOT:
+        double angle = inbound.getDouble();
+        double strength = inbound.getDouble();
+        queued = controller.handleShot(angle, strength);
+        break;
+      case ServerProtocol.POKE_CHECK:
+        queued = controller.handlePokeCheck(inbound.getDouble());
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown input message: " + opcode);
+    }
+    if (!queued) {
+      throw new IOException("Client sent more input than its session can queue");
+    }
+  }
+
+  private static boolean queueKey(Controller controller, GameConfig.DIRECTION direction, int keys,
+      int bit) {
+    return controller.setKeyPressed(direction, (keys & bit) != 0);
+  }
+
+  /**
+   * Tick every session, then queue and send each client a frame of its session. A client whose
+   * session failed is disconnected instead.
+   */
+  private void tick() {
+    boolean anyFailed = scheduler.tickAll() > 0;
+    tickCount++;
+    for (int i = connections.size() - 1; i >= 0; i--) {
+      Connection connection = connections.get(i);
+      if (anyFailed && scheduler.getFailure(connection.session) != null) {
+        failedSessions++;
+        disconnect(connection);
+        continue;
+      }
+      try {
+        send(connection);
+      } catch (IOException e) {
+        disconnect(connection);
+      }
+    }
+  }
+
+  private void send(Connection connection) throws IOException {
+    ByteBuffer outbound = connection.outbound;
+    int frameStart = outbound.position();
+    int room = outbound.remaining() - ServerProtocol.FRAME_HEADER_BYTES;
+    if (room < StateStreamEncoder.maxFrameSize(connection.session)) {
+      droppedFrames++;
+      connection.encoder.requestKeyframe();
+    } else {
+      outbound.position(frameStart + ServerProtocol.FRAME_HEADER_BYTES);
+      int length = connection.encoder.encode(connection.session, outbound);
+      outbound.putShort(frameStart, (short) length);
+    }
+    flush(connection);
+  }
+
+  /**
+   * Write as much of the queued output as the socket takes, and only ask to be told when the
+   * socket is writable again if some output is left over.
+   */
+  private void flush(Connection connection) throws IOException {
+    ByteBuffer outbound = connection.outbound;
+    outbound.flip();
+    connection.channel.write(outbound);
+    outbound.compact();
+    int interest = outbound.position() > 0
+        ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+    if (connection.key.interestOps() != interest) {
+      connection.key.interestOps(interest);
+    }
+  }
+
+  private void disconnect(Connection connection) {
+    connections.remove(connection);
+    scheduler.removeSession(connection.session);
+    connection.key.cancel();
+    try {
+      connection.channel.close();
+    } catch (IOException e) {
+      //Already disconnected; nothing left to release.
+    }
+  }
+
+  /**
+   * Add a tick's latency to the current window, and summarise the window once it is full.
+   */
+  private void recordLatency(long latency) {
+    if (latency > maxLatency) {
+      maxLatency = latency;
+    }
+    windowLatencies[windowSize++] = latency;
+    if (windowSize == windowLatencies.length) {
+      Arrays.sort(windowLatencies);
+      windowP50 = windowLatencies[windowSize / 2];
+      windowP99 = windowLatencies[(int) Math.ceil(windowSize * 0.99) - 1];
+      windowMax = windowLatencies[windowSize - 1];
+      windowSize = 0;
+    }
+  }
+
+  private void closeAll() throws IOException {
+    for (int i = connections.size() - 1; i >= 0; i--) {
+      disconnect(connections.get(i));
+    }
+    scheduler.shutdown();
+    serverChannel.close();
+    selector.close();
+  }
+}
@@ -0,0 +1,220 @@
+package Engine;
+
+import Model.GameConfig;
+import Model.GameSession;
+import Model.MovementManagers.GoalieTable;
+import Model.Net;
+import Model.Puck;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Offline builder of a GoalieTable. For every cell of the table, a number of puck states are
+ * drawn from inside the cell and the puck is slid from each of them against the rink and the
+ * right net, with the same movement code as a session, for a short horizon. Every trajectory that
+ * ends up in the net is a threat, and the y-coordinate at which it crosses the goalie's line is
+ * noted. The cell's target is the spot on that line, inside the crease, that covers the most
+ * threats, and its save probability is the share of all the drawn states that do not score
+ * against a goalie standing there.
+ *
+ * <p>Work is spread over a ForkJoinPool in blocks of cells. Each block draws from its own seed,
+ * so the same seed builds the same table on any number of threads.
+ */
+public class GoalieTableBuilder {
+  /**
+   * Seconds each trajectory is followed for. Beyond that a goalie has time to react anew.
+   */
+  private static final double HORIZON_SECONDS = 2.0;
+
+  /**
+   * Cells simulated by each leaf task.
+   */
+  private static final int BLOCK_CELLS = 256;
+
+  /**
+   * Depth in front of the goal line that the goalie stands at, the middle of the crease.
+   */
+  private static final double GOALIE_DEPTH = GameConfig.GOALIE_CREASE_RADIUS / 2;
+
+  /**
+   * How far from the middle of the net the goalie can stand at GOALIE_DEPTH while keeping a
+   * margin inside the crease.
+   */
+  private static final double MAX_LATERAL = 0.9 * Math.sqrt(
+      GameConfig.GOALIE_CREASE_RADIUS * GameConfig.GOALIE_CREASE_RADIUS
+          - GOALIE_DEPTH * GOALIE_DEPTH);
+
+  private final GoalieTable table;
+  private final int samplesPerCell;
+  private final long seed;
+
+  /**
+   * Constructor for a builder that fills in the given empty table.
+   * @param table          table made by GoalieTable.create.
+   * @param samplesPerCell number of puck states drawn from every cell.
+   * @param seed           seed that every block of cells draws from.
+   * @throws IllegalArgumentException if samplesPerCell is not positive.
+   */
+  public GoalieTableBuilder(GoalieTable table, int samplesPerCell, long seed)
+      throws IllegalArgumentException {
+    if (samplesPerCell <= 0) {
+      throw new IllegalArgumentException("Samples per cell must be positive!");
+    }
+    this.table = table;
+    this.samplesPerCell = samplesPerCell;
+    this.seed = seed;
+  }
+
+  /**
+   * Fill in every cell of the table on the given pool, and wait for it to finish.
+   * @param pool pool to spread the cells across.
+   * @return the filled in table.
+   */
+  public GoalieTable build(ForkJoinPool pool) {
+    pool.invoke(new BlockTask(0, table.getCellCount()));
+    return table;
+  }
+
+  /**
+   * Splits a range of cells in half until a block is left, and simulates that block.
+   */
+  private final class BlockTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int from;
+    private final int to;
+
+    BlockTask(int from, int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > BLOCK_CELLS) {
+        int middle = (from + to) >>> 1;
+        invokeAll(new BlockTask(from, middle), new BlockTask(middle, to));
+      } else {
+        new Simulator(from).simulateBlock(from, to);
+      }
+    }
+  }
+
+  /**
+   * A session owned by one task, which follows pucks at the right net.
+   */
+  private final class Simulator {
+    private final GameSession session;
+    private final ByteBuffer start;
+    private final Puck puck;
+    private final Net net;
+    private final double deltaTime;
+    private final int maxTicks;
+    private final double goalLine;
+    private final double netMiddleY;
+    private final double coverage;
+    private final SplittableRandom random;
+    private final double[] crossings;
+
+    Simulator(int block) {
+      session = new GameSession();
+      start = session.allocateSnapshotBuffer();
+      session.saveSnapshot(start);
+      puck = session.getSessionPuck();
+      net = session.getSessionNets()[1];
+      deltaTime = session.getFixedDeltaTime();
+      maxTicks = (int) Math.ceil(HORIZON_SECONDS / deltaTime);
+      goalLine = net.getPosition().getXCoord();
+      netMiddleY = net.getPosition().getYCoord() + net.getLength() / 2;
+      coverage = GameConfig.GOALIE_RADIUS + GameConfig.PUCK_RADIUS;
+      random = new SplittableRandom(seed ^ (block * 0x9E3779B97F4A7C15L));
+      crossings = new double[samplesPerCell];
+    }
+
+    void simulateBlock(int from, int to) {
+      for (int cell = from; cell < to; cell++) {
+        simulateCell(cell);
+      }
+    }
+
+    private void simulateCell(int cell) {
+      double depth = table.getCellDepth(cell);
+      double y = table.getCellY(cell);
+      double speed = table.getCellSpeed(cell);
+      double heading = table.getCellHeading(cell);
+      int threats = 0;
+      for (int i = 0; i < samplesPerCell; i++) {
+        double sampleDepth = depth + (random.nextDouble() - 0.5) * table.getCellSize(0);
+        double sampleY = y + (random.nextDouble() - 0.5) * table.getCellSize(1);
+        double sampleSpeed = speed + (random.nextDouble() - 0.5) * table.getCellSize(2);
+        double sampleHeading = heading + (random.nextDouble() - 0.5) * table.getCellSize(3);
+        double crossing = follow(goalLine - sampleDepth, sampleY,
+            -sampleSpeed * Math.cos(sampleHeading), sampleSpeed * Math.sin(sampleHeading));
+        if (!Double.isNaN(crossing)) {
+          crossings[threats++] = crossing;
+        }
+      }
+
+      double bestY = netMiddleY;
+      int bestCovered = covered(bestY, threats);
+      for (int i = 0; i < threats; i++) {
+        double candidate = Math.max(netMiddleY - MAX_LATERAL,
+            Math.min(netMiddleY + MAX_LATERAL, crossings[i]));
+        int candidateCovered = covered(candidate, threats);
+        if (candidateCovered > bestCovered) {
+          bestY = candidate;
+          bestCovered = candidateCovered;
+        }
+      }
+      double saveProbability = 1 - (double) (threats - bestCovered) / samplesPerCell;
+      table.setCell(cell, GOALIE_DEPTH, bestY, saveProbability);
+    }
+
+    private int covered(double goalieY, int threats) {
+      int count = 0;
+      for (int i = 0; i < threats; i++) {
+        if (Math.abs(crossings[i] - goalieY) <= coverage) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+    /**
+     * Slide the puck from the given state until it scores or the horizon passes.
+     * @return the y-coordinate at which a scoring puck last crossed the goalie's line, or where it
+     *         entered the net if it never crossed it; NaN if the puck did not score.
+     */
+    private double follow(double x, double y, double xVelocity, double yVelocity) {
+      if (x <= 0 || x >= GameConfig.RINK_LENGTH || y <= 0 || y >= GameConfig.RINK_HEIGHT) {
+        return Double.NaN;
+      }
+      start.rewind();
+      session.restoreSnapshot(start);
+      puck.setPosition(x, y);
+      puck.getMovementManagerPuck().setXVelocity(xVelocity);
+      puck.getMovementManagerPuck().setYVelocity(yVelocity);
+      double line = goalLine - GOALIE_DEPTH;
+      double crossing = Double.NaN;
+      double previousX = x;
+      double previousY = y;
+      for (int tick = 0; tick < maxTicks; tick++) {
+        puck.update(deltaTime);
+        double puckX = puck.getPosition().getXCoord();
+        double puckY = puck.getPosition().getYCoord();
+        if (previousX < line && puckX >= line) {
+          double t = (line - previousX) / (puckX - previousX);
+          crossing = previousY + (puckY - previousY) * t;
+        }
+        if (net.isInsideGoal(puckX, puckY)) {
+          return Double.isNaN(crossing) ? puckY : crossing;
+        }
+        previousX = puckX;
+        previousY = puckY;
+      }
+      return Double.NaN;
+    }
+  }
+}
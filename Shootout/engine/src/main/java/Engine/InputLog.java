@@ -0,0 +1,38 @@
+package Engine;
+
+/**
+ * Binary layout shared by InputRecorder and InputReplayer. A log is a header followed by a stream
+ * of records, each starting with one opcode byte:
+ * <ul>
+ * <li> Header: MAGIC (int), VERSION (byte), tick rate of the session (double), kind of the
+ *      session's player as a PLAYER_* byte, so the replay builds the same kind of player.
+ * <li> KEYS: one byte holding the held direction keys as KEY_* bits. Written before a tick only
+ *      when the held keys differ from the last KEYS record.
+ * <li> SHOT: angle and strength (two doubles) passed to MovementManagerPuck.handleShot.
+ * <li> POKE_CHECK: angle (double) passed to MovementManagerPuck.handlePokeCheck.
+ * <li> TICKS: a run of ticks with no input in between, as an unsigned variable-length count.
+ * <li> END: the end of the log.
+ * </ul>
+ * Doubles are written as their raw bits, so a replay sees exactly the values that were recorded.
+ */
+final class InputLog {
+  static final int MAGIC = 0x53484950; //"SHIP": SHootout Input Playback
+  static final byte VERSION = 2;
+
+  static final byte PLAYER_SKATER = 0;
+  static final byte PLAYER_GOALIE = 1;
+
+  static final byte END = 0;
+  static final byte KEYS = 1;
+  static final byte SHOT = 2;
+  static final byte POKE_CHECK = 3;
+  static final byte TICKS = 4;
+
+  static final int KEY_UP = 1;
+  static final int KEY_DOWN = 1 << 1;
+  static final int KEY_LEFT = 1 << 2;
+  static final int KEY_RIGHT = 1 << 3;
+
+  private InputLog() {
+  }
+}
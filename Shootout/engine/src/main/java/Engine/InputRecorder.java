@@ -0,0 +1,277 @@
+package Engine;
+
+import Model.GameConfig;
+import Model.GameSession;
+import Model.Goalie;
+import Model.InputSource;
+import Model.MovementManagers.MovementManagerPlayer;
+import Model.MovementManagers.MovementManagerPuck;
+import Model.Player;
+import Model.Skater;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * This class records every input that drives a GameSession into a compact binary log, so that
+ * InputReplayer can re-run the session tick for tick from the log alone. Inputs must go through
+ * the recorder instead of straight to the movement managers, and the session has to be fresh,
+ * since the replay starts from a newly built session.
+ *
+ * <p>The recorder is the session's InputSource, so every tick is recorded however it is run: by
+ * the recorder, by the session's own advance or by a SessionScheduler. Input queued on another
+ * thread reaches the session through a Controller set as the recorder's input source, which
+ * drains its queue into the recorder at the start of every tick.
+ *
+ * <p>Held keys are only written when they change, and ticks with no input in between are written
+ * as a single run, so a quiet stretch of play costs a few bytes no matter how long it lasts.
+ */
+public class InputRecorder implements InputSource, Closeable {
+  private final GameSession session;
+  private final MovementManagerPlayer skaterManager;
+  private final MovementManagerPuck puckManager;
+  private final DataOutputStream out;
+  private InputSource inputSource;
+  private int heldKeys;
+  private int pressedKeys;
+  private int recordedKeys;
+  private long pendingTicks;
+  private boolean closed;
+
+  /**
+   * Constructor for a recorder of the given session. Becomes the session's input source and writes
+   * the log header straight away.
+   * @param session the session whose inputs are recorded. Must not have been ticked yet, nor have
+   *                an input source.
+   * @param out     stream to write the log to. Closed when the recorder is closed.
+   * @throws IllegalStateException    if the session has already been ticked or has an input
+   *                                  source.
+   * @throws IllegalArgumentException if the session's player is neither a Skater nor a Goalie.
+   * @throws IOException              if the header could not be written.
+   */
+  public InputRecorder(GameSession session, OutputStream out)
+      throws IllegalStateException, IllegalArgumentException, IOException {
+    if (session.getTickCount() != 0) {
+      throw new IllegalStateException("Only a session that has not been ticked can be recorded!");
+    }
+    if (session.getInputSource() != null) {
+      throw new IllegalStateException("Session already has an input source; set it on the "
+          + "recorder instead!");
+    }
+    byte playerKind = playerKind(session.getSessionSkater());
+    this.session = session;
+    this.skaterManager = session.getSessionSkater().getMovementManagerPlayer();
+    this.puckManager = session.getSessionPuck().getMovementManagerPuck();
+    this.out = new DataOutputStream(new BufferedOutputStream(out));
+    this.heldKeys = 0;
+    this.pressedKeys = 0;
+    this.recordedKeys = 0;
+    this.pendingTicks = 0;
+    this.closed = false;
+
+    session.setInputSource(this);
+    this.out.writeInt(InputLog.MAGIC);
+    this.out.writeByte(InputLog.VERSION);
+    this.out.writeDouble(session.getTickRate());
+    this.out.writeByte(playerKind);
+  }
+
+  /**
+   * Set a source whose inputs are applied through this recorder, and so recorded, at the start of
+   * every tick. This is how a Controller's queue is recorded.
+   * @param inputSource the source, or null for none.
+   */
+  public void setInputSource(InputSource inputSource) {
+    this.inputSource = inputSource;
+  }
+
+  /**
+   * Press or release a movement key of the skater. The key state is written at the next tick.
+   * @param direction the direction matching the associated key.
+   * @param pressed   is this key being pressed or no?
+   */
+  public void setKeyPressed(GameConfig.DIRECTION direction, boolean pressed) {
+    int bit = keyBit(direction);
+    heldKeys = pressed ? heldKeys | bit : heldKeys & ~bit;
+    if (pressed) {
+      pressedKeys |= bit;
+    }
+    skaterManager.setKeyPressed(direction, pressed);
+  }
+
+  /**
+   * Shoot the puck, recording the shot before it is applied.
+   * @param angle    angle of the shot, as passed to MovementManagerPuck.handleShot.
+   * @param strength strength of the shot, as passed to MovementManagerPuck.handleShot.
+   * @throws IOException if the shot could not be written.
+   */
+  public void handleShot(double angle, double strength) throws IOException {
+    //Applied first, so a shot the puck rejects never makes it into the log.
+    puckManager.handleShot(angle, strength);
+    if (closed) {
+      return;
+    }
+    flushTicks();
+    out.writeByte(InputLog.SHOT);
+    out.writeDouble(angle);
+    out.writeDouble(strength);
+  }
+
+  /**
+   * Poke check the puck, recording the poke check before it is applied.
+   * @param angle angle of the stick, as passed to MovementManagerPuck.handlePokeCheck.
+   * @throws IOException if the poke check could not be written.
+   */
+  public void handlePokeCheck(double angle) throws IOException {
+    puckManager.handlePokeCheck(angle);
+    if (closed) {
+      return;
+    }
+    flushTicks();
+    out.writeByte(InputLog.POKE_CHECK);
+    out.writeDouble(angle);
+  }
+
+  /**
+   * Run one fixed tick of the session and record it.
+   * @throws IOException if the inputs of the tick could not be written.
+   */
+  public void tick() throws IOException {
+    try {
+      session.tick();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Advance the session by the real time since the last frame and record the ticks it ran. Only
+   * the ticks are recorded; a replay does not need the frame times to reproduce them.
+   * @param frameTime seconds of real time since the previous call.
+   * @return number of ticks that were simulated during this call.
+   * @throws IOException if the inputs of a tick could not be written.
+   */
+  public int advance(double frameTime) throws IOException {
+    try {
+      return session.advance(frameTime);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Apply the inputs of the input source, then record the held keys and the tick about to run.
+   * Called by the session at the start of every tick.
+   * @param lag seconds the tick trails the present by, passed on to the input source.
+   * @throws UncheckedIOException if the inputs could not be written.
+   */
+  @Override
+  public void beforeTick(double lag) throws UncheckedIOException {
+    if (inputSource != null) {
+      inputSource.beforeTick(lag);
+    }
+    if (closed) {
+      return;
+    }
+    try {
+      recordKeys();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    pendingTicks++;
+  }
+
+  /**
+   * Get the session being recorded.
+   * @return the recorded session.
+   */
+  public GameSession getSession() {
+    return session;
+  }
+
+  /**
+   * Write the end of the log and close the underlying stream. The session takes its input straight
+   * from the recorder's input source afterwards; inputs still given to the recorder are applied
+   * without being recorded.
+   * @throws IOException if the log could not be finished.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    session.setInputSource(inputSource);
+    try {
+      flushTicks();
+      out.writeByte(InputLog.END);
+    } finally {
+      out.close();
+    }
+  }
+
+  /**
+   * Write the held keys if they changed since they were last written. A press wakes the skater,
+   * so a key that was pressed and released again since then is first written as held, for the
+   * replay to wake the skater too.
+   */
+  private void recordKeys() throws IOException {
+    int releasedPresses = pressedKeys & ~heldKeys;
+    pressedKeys = 0;
+    if (releasedPresses != 0) {
+      flushTicks();
+      out.writeByte(InputLog.KEYS);
+      out.writeByte(heldKeys | releasedPresses);
+      recordedKeys = heldKeys | releasedPresses;
+    }
+    if (heldKeys == recordedKeys) {
+      return;
+    }
+    flushTicks();
+    out.writeByte(InputLog.KEYS);
+    out.writeByte(heldKeys);
+    recordedKeys = heldKeys;
+  }
+
+  private void flushTicks() throws IOException {
+    if (pendingTicks == 0) {
+      return;
+    }
+    out.writeByte(InputLog.TICKS);
+    long remaining = pendingTicks;
+    while ((remaining & ~0x7FL) != 0) {
+      out.writeByte((int) ((remaining & 0x7F) | 0x80));
+      remaining >>>= 7;
+    }
+    out.writeByte((int) remaining);
+    pendingTicks = 0;
+  }
+
+  private static int keyBit(GameConfig.DIRECTION direction) {
+    switch (direction) {
+      case UP:
+        return InputLog.KEY_UP;
+      case DOWN:
+        return InputLog.KEY_DOWN;
+      case LEFT:
+        return InputLog.KEY_LEFT;
+      case RIGHT:
+        return InputLog.KEY_RIGHT;
+      default:
+        throw new IllegalArgumentException("Unknown Direction: " + direction);
+    }
+  }
+
+  private static byte playerKind(Player player) {
+    if (player instanceof Skater) {
+      return InputLog.PLAYER_SKATER;
+    }
+    if (player instanceof Goalie) {
+      return InputLog.PLAYER_GOALIE;
+    }
+    throw new IllegalArgumentException("Cannot record a session played by: " + player);
+  }
+}
@@ -0,0 +1,170 @@
+package Engine;
+
+import Model.GameConfig;
+import Model.GameSession;
+import Model.Goalie;
+import Model.MovementManagers.MovementManagerPlayer;
+import Model.MovementManagers.MovementManagerPuck;
+import Model.Player;
+import Model.Skater;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * This class re-runs a session from a log written by InputRecorder. It builds a fresh session with
+ * the recorded tick rate and kind of player, and feeds it the recorded inputs in order, ticking as
+ * fast as the simulation allows rather than in real time. Replaying the same log always ends in
+ * the same state, bit for bit.
+ */
+public class InputReplayer implements Closeable {
+  private final DataInputStream in;
+  private final GameSession session;
+  private final MovementManagerPlayer skaterManager;
+  private final MovementManagerPuck puckManager;
+  private long pendingTicks;
+  private boolean finished;
+
+  /**
+   * Constructor for a replayer of the given log. Reads the log header and builds the session.
+   * @param in stream to read the log from. Closed when the replayer is closed.
+   * @throws IOException if the header could not be read or is not an input log.
+   */
+  public InputReplayer(InputStream in) throws IOException {
+    this.in = new DataInputStream(new BufferedInputStream(in));
+    if (this.in.readInt() != InputLog.MAGIC) {
+      throw new IOException("Not a recorded input log!");
+    }
+    byte version = this.in.readByte();
+    if (version != InputLog.VERSION) {
+      throw new IOException("Unsupported input log version: " + version);
+    }
+    double tickRate = this.in.readDouble();
+    Player player = readPlayer();
+
+    this.session = new GameSession(player, tickRate, GameConfig.MAX_CATCH_UP_TICKS);
+    this.skaterManager = session.getSessionSkater().getMovementManagerPlayer();
+    this.puckManager = session.getSessionPuck().getMovementManagerPuck();
+    this.pendingTicks = 0;
+    this.finished = false;
+  }
+
+  /**
+   * Replay the whole log.
+   * @return the number of ticks replayed by this call.
+   * @throws IOException if the log could not be read or is malformed.
+   */
+  public long replayAll() throws IOException {
+    return replayUntil(Long.MAX_VALUE);
+  }
+
+  /**
+   * Replay the log until the session reaches the given tick or the log ends, whichever comes
+   * first. Useful to stop just before a tick of interest and inspect the session.
+   * @param tick the tick count to stop at.
+   * @return the number of ticks replayed by this call.
+   * @throws IOException if the log could not be read or is malformed.
+   */
+  public long replayUntil(long tick) throws IOException {
+    long start = session.getTickCount();
+    while (session.getTickCount() < tick) {
+      if (pendingTicks > 0) {
+        session.tick();
+        pendingTicks--;
+      } else if (!readRecord()) {
+        break;
+      }
+    }
+    return session.getTickCount() - start;
+  }
+
+  /**
+   * Has the replay reached the end of the log?
+   * @return true once every recorded tick has been replayed.
+   */
+  public boolean isFinished() {
+    return finished && pendingTicks == 0;
+  }
+
+  /**
+   * Get the session being replayed.
+   * @return the replayed session.
+   */
+  public GameSession getSession() {
+    return session;
+  }
+
+  /**
+   * Close the underlying stream.
+   * @throws IOException if the stream could not be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  /**
+   * Read and apply the next record.
+   * @return false if the log has ended.
+   */
+  private boolean readRecord() throws IOException {
+    if (finished) {
+      return false;
+    }
+    byte opcode = in.readByte();
+    switch (opcode) {
+      case InputLog.KEYS:
+        applyKeys(in.readUnsignedByte());
+        return true;
+      case InputLog.SHOT:
+        double shotAngle = in.readDouble();
+        double strength = in.readDouble();
+        puckManager.handleShot(shotAngle, strength);
+        return true;
+      case InputLog.POKE_CHECK:
+        puckManager.handlePokeCheck(in.readDouble());
+        return true;
+      case InputLog.TICKS:
+        pendingTicks = readTickCount();
+        return true;
+      case InputLog.END:
+        finished = true;
+        return false;
+      default:
+        throw new IOException("Unknown input log record: " + opcode);
+    }
+  }
+
+  private Player readPlayer() throws IOException {
+    byte kind = in.readByte();
+    switch (kind) {
+      case InputLog.PLAYER_SKATER:
+        return new Skater();
+      case InputLog.PLAYER_GOALIE:
+        return new Goalie();
+      default:
+        throw new IOException("Unknown player in input log: " + kind);
+    }
+  }
+
+  private void applyKeys(int keys) {
+    skaterManager.setKeyPressed(GameConfig.DIRECTION.UP, (keys & InputLog.KEY_UP) != 0);
+    skaterManager.setKeyPressed(GameConfig.DIRECTION.DOWN, (keys & InputLog.KEY_DOWN) != 0);
+    skaterManager.setKeyPressed(GameConfig.DIRECTION.LEFT, (keys & InputLog.KEY_LEFT) != 0);
+    skaterManager.setKeyPressed(GameConfig.DIRECTION.RIGHT, (keys & InputLog.KEY_RIGHT) != 0);
+  }
+
+  private long readTickCount() throws IOException {
+    long count = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int part = in.readUnsignedByte();
+      count |= (long) (part & 0x7F) << shift;
+      if ((part & 0x80) == 0) {
+        return count;
+      }
+    }
+    throw new IOException("Malformed tick count in input log!");
+  }
+}
@@ -0,0 +1,87 @@
+package Engine;
+
+import Model.GameSession;
+import Model.TickListener;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Triple buffer that hands RenderFrames from the tick thread to a render thread without locks,
+ * without allocation and without either thread ever waiting for the other. There are three
+ * frames: one the tick thread is filling, one the render thread is drawing, and the latest
+ * complete frame in between.
+ *
+ * <p>Publishing fills the tick thread's frame and swaps it with the one in between. Reading the
+ * latest frame is a single volatile read when nothing new was published, and a single atomic swap
+ * when something was. Since a frame is only ever owned by one thread at a time, the render thread
+ * can never see a frame that is half written. Only one thread may publish and only one may read.
+ *
+ * <p>A buffer built for a session is that session's TickListener, so the session publishes a frame
+ * itself at the end of every tick, on whichever thread runs the tick.
+ */
+public class RenderBuffer implements TickListener {
+  private static final int INDEX_MASK = 3;
+  private static final int FRESH = 4;
+
+  private final RenderFrame[] frames;
+  //Index of the frame in between, plus FRESH if it has not been read yet.
+  private final AtomicInteger middle;
+  //Only touched by the tick thread.
+  private int back;
+  //Only touched by the render thread.
+  private int front;
+
+  /**
+   * Constructor for a buffer whose first frame is empty until something is published.
+   */
+  public RenderBuffer() {
+    this.frames = new RenderFrame[] {new RenderFrame(), new RenderFrame(), new RenderFrame()};
+    this.back = 0;
+    this.middle = new AtomicInteger(1);
+    this.front = 2;
+  }
+
+  /**
+   * Constructor for a buffer that the given session publishes to at the end of every tick. The
+   * buffer becomes the session's tick listener.
+   * @param session session to publish. Must not have a tick listener yet.
+   * @throws IllegalStateException if the session already has a tick listener.
+   */
+  public RenderBuffer(GameSession session) throws IllegalStateException {
+    this();
+    if (session.getTickListener() != null) {
+      throw new IllegalStateException("Session already has a tick listener!");
+    }
+    session.setTickListener(this);
+  }
+
+  /**
+   * Capture the session and make it the latest frame. Tick thread only; call at the end of a
+   * tick.
+   * @param session session to capture.
+   */
+  public void publish(GameSession session) {
+    frames[back].capture(session);
+    back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+  }
+
+  /**
+   * Publish the session that has just ticked. Called by the session, on the tick thread.
+   * @param session session to capture.
+   */
+  @Override
+  public void afterTick(GameSession session) {
+    publish(session);
+  }
+
+  /**
+   * Get the most recently published frame. Render thread only. The frame stays untouched until
+   * the next call to this method, so it can be drawn at leisure.
+   * @return the latest complete frame.
+   */
+  public RenderFrame latest() {
+    if ((middle.get() & FRESH) != 0) {
+      front = middle.getAndSet(front) & INDEX_MASK;
+    }
+    return frames[front];
+  }
+}
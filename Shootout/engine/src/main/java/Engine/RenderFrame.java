@@ -0,0 +1,207 @@
+package Engine;
+
+import Model.GameSession;
+import Model.Goalie;
+import Model.MobileObject;
+import Model.Net;
+import Model.Puck;
+
+/**
+ * Everything a renderer needs to draw one tick of a session: the position, previous position,
+ * radius and angle of every mobile object, plus the goal state of each net. A frame is filled on
+ * the tick thread and handed to the render thread by a RenderBuffer; while the render thread holds
+ * it, nothing writes to it, so every value in a frame comes from the same tick.
+ *
+ * <p>The perimeter points of an object are not copied, since a renderer can draw the circle from
+ * the position and radius alone.
+ */
+public class RenderFrame {
+
+  /**
+   * What kind of object a slot in the frame holds, to pick how it is drawn.
+   */
+  public enum Kind {
+    SKATER, GOALIE, PUCK
+  }
+
+  private long tick;
+  private double interpolationAlpha;
+  private int objectCount;
+  private Kind[] kinds;
+  private double[] xs;
+  private double[] ys;
+  private double[] previousXs;
+  private double[] previousYs;
+  private double[] radii;
+  private double[] angles;
+  private boolean[] goals;
+
+  RenderFrame() {
+    ensureCapacity(4, 2);
+  }
+
+  /**
+   * Copy the renderable state of the session into this frame. Allocates only when the session
+   * has more objects or nets than any earlier frame held.
+   * @param session session to copy.
+   */
+  void capture(GameSession session) {
+    MobileObject[] objects = session.getMobileObjects();
+    Net[] nets = session.getSessionNets();
+    ensureCapacity(objects.length, nets.length);
+
+    tick = session.getTickCount();
+    interpolationAlpha = session.getInterpolationAlpha();
+    objectCount = objects.length;
+    for (int i = 0; i < objects.length; i++) {
+      MobileObject obj = objects[i];
+      if (obj instanceof Puck) {
+        kinds[i] = Kind.PUCK;
+      } else if (obj instanceof Goalie) {
+        kinds[i] = Kind.GOALIE;
+      } else {
+        kinds[i] = Kind.SKATER;
+      }
+      xs[i] = obj.getPosition().getXCoord();
+      ys[i] = obj.getPosition().getYCoord();
+      previousXs[i] = obj.getInterpolatedX(0);
+      previousYs[i] = obj.getInterpolatedY(0);
+      radii[i] = obj.getRadius();
+      angles[i] = obj.getAngle();
+    }
+    for (int i = 0; i < nets.length; i++) {
+      goals[i] = nets[i].getGoal();
+    }
+  }
+
+  private void ensureCapacity(int objects, int nets) {
+    if (xs == null || xs.length < objects) {
+      kinds = new Kind[objects];
+      xs = new double[objects];
+      ys = new double[objects];
+      previousXs = new double[objects];
+      previousYs = new double[objects];
+      radii = new double[objects];
+      angles = new double[objects];
+    }
+    if (goals == null || goals.length < nets) {
+      goals = new boolean[nets];
+    }
+  }
+
+  /**
+   * Get the tick this frame was captured after.
+   * @return tick count of the session.
+   */
+  public long getTick() {
+    return tick;
+  }
+
+  /**
+   * Get the session's interpolation alpha when this frame was captured.
+   * @return fraction of a tick, from 0 to 1, to blend previous and current positions by.
+   */
+  public double getInterpolationAlpha() {
+    return interpolationAlpha;
+  }
+
+  /**
+   * Get the number of objects in this frame, in the order of the session's mobile objects.
+   * @return number of objects.
+   */
+  public int getObjectCount() {
+    return objectCount;
+  }
+
+  /**
+   * Get what kind of object is in the given slot.
+   * @param object index of the object.
+   * @return kind of the object.
+   */
+  public Kind getKind(int object) {
+    return kinds[object];
+  }
+
+  /**
+   * Get the x-coordinate of an object at the end of the tick.
+   * @param object index of the object.
+   * @return x-coordinate of the object.
+   */
+  public double getX(int object) {
+    return xs[object];
+  }
+
+  /**
+   * Get the y-coordinate of an object at the end of the tick.
+   * @param object index of the object.
+   * @return y-coordinate of the object.
+   */
+  public double getY(int object) {
+    return ys[object];
+  }
+
+  /**
+   * Get the x-coordinate of an object at the end of the tick before.
+   * @param object index of the object.
+   * @return previous x-coordinate of the object.
+   */
+  public double getPreviousX(int object) {
+    return previousXs[object];
+  }
+
+  /**
+   * Get the y-coordinate of an object at the end of the tick before.
+   * @param object index of the object.
+   * @return previous y-coordinate of the object.
+   */
+  public double getPreviousY(int object) {
+    return previousYs[object];
+  }
+
+  /**
+   * Get the x-coordinate of an object blended between the previous and current tick.
+   * @param object index of the object.
+   * @param alpha  fraction of a tick, from 0 to 1.
+   * @return interpolated x-coordinate.
+   */
+  public double getInterpolatedX(int object, double alpha) {
+    return previousXs[object] + (xs[object] - previousXs[object]) * alpha;
+  }
+
+  /**
+   * Get the y-coordinate of an object blended between the previous and current tick.
+   * @param object index of the object.
+   * @param alpha  fraction of a tick, from 0 to 1.
+   * @return interpolated y-coordinate.
+   */
+  public double getInterpolatedY(int object, double alpha) {
+    return previousYs[object] + (ys[object] - previousYs[object]) * alpha;
+  }
+
+  /**
+   * Get the radius of an object.
+   * @param object index of the object.
+   * @return radius of the object.
+   */
+  public double getRadius(int object) {
+    return radii[object];
+  }
+
+  /**
+   * Get the angle an object is facing.
+   * @param object index of the object.
+   * @return angle of the object.
+   */
+  public double getAngle(int object) {
+    return angles[object];
+  }
+
+  /**
+   * Has a goal been scored on the given net?
+   * @param net index of the net, 0 for the left net and 1 for the right.
+   * @return the goal state of the net.
+   */
+  public boolean isGoal(int net) {
+    return goals[net];
+  }
+}
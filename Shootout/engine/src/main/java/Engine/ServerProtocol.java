@@ -0,0 +1,89 @@
+package Engine;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Messages exchanged between GameServer and its clients.
+ *
+ * <p>Clients send fixed-size input messages, each starting with an opcode byte:
+ * <ul>
+ * <li> KEYS: one byte holding the held direction keys as KEY_* bits.
+ * <li> SHOT: angle and strength (two doubles) of a shot.
+ * <li> POKE_CHECK: angle (double) of a poke check.
+ * </ul>
+ * The server sends one state stream frame (see StateStreamEncoder) per tick, each preceded by its
+ * length as an unsigned short.
+ */
+public final class ServerProtocol {
+  public static final byte KEYS = 1;
+  public static final byte SHOT = 2;
+  public static final byte POKE_CHECK = 3;
+
+  public static final int KEY_UP = 1;
+  public static final int KEY_DOWN = 1 << 1;
+  public static final int KEY_LEFT = 1 << 2;
+  public static final int KEY_RIGHT = 1 << 3;
+
+  /**
+   * Size of the frame length that precedes every state stream frame.
+   */
+  public static final int FRAME_HEADER_BYTES = Short.BYTES;
+
+  /**
+   * Size of the largest input message, to size the buffers that hold them.
+   */
+  public static final int MAX_INPUT_BYTES = 1 + Double.BYTES * 2;
+
+  private ServerProtocol() {
+  }
+
+  /**
+   * Write a message holding the keys a client has pressed.
+   * @param buffer buffer to write the message to.
+   * @param keys   held keys, as KEY_* bits.
+   */
+  public static void putKeys(ByteBuffer buffer, int keys) {
+    buffer.put(KEYS);
+    buffer.put((byte) keys);
+  }
+
+  /**
+   * Write a message asking for a shot.
+   * @param buffer   buffer to write the message to.
+   * @param angle    angle of the shot.
+   * @param strength strength of the shot, from 0 to 5.
+   */
+  public static void putShot(ByteBuffer buffer, double angle, double strength) {
+    buffer.put(SHOT);
+    buffer.putDouble(angle);
+    buffer.putDouble(strength);
+  }
+
+  /**
+   * Write a message asking for a poke check.
+   * @param buffer buffer to write the message to.
+   * @param angle  angle of the poke check.
+   */
+  public static void putPokeCheck(ByteBuffer buffer, double angle) {
+    buffer.put(POKE_CHECK);
+    buffer.putDouble(angle);
+  }
+
+  /**
+   * Get the size of the input message starting with the given opcode.
+   * @param opcode first byte of the message.
+   * @return size of the whole message in bytes, or -1 if the opcode is unknown.
+   */
+  static int inputSize(byte opcode) {
+    switch (opcode) {
+      case KEYS:
+        return 2;
+      case SHOT:
+        return 1 + Double.BYTES * 2;
+      case POKE_CHECK:
+        return 1 + Double.BYTES;
+      default:
+        return -1;
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package Engine;
+
+import Model.GameSession;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class ticks many independent GameSessions at once on a fixed pool of worker threads.
+ * Sessions share no mutable state with each other, so the sessions are split into one contiguous
+ * slice per worker and every slice is ticked without any locking. A call to tickAll returns once
+ * every session has finished its tick.
+ */
+public class SessionScheduler {
+  private final List<GameSession> sessions;
+  private final ExecutorService workers;
+  private final int workerCount;
+  private final List<Callable<Void>> slices;
+  private final Map<GameSession, RuntimeException> failures;
+  private double frameTime;
+
+  /**
+   * Constructor for a scheduler that ticks its sessions with the given number of threads.
+   * @param workerCount number of worker threads to spread the sessions across.
+   * @throws IllegalArgumentException if workerCount is not positive.
+   */
+  public SessionScheduler(int workerCount) throws IllegalArgumentException {
+    if (workerCount <= 0) {
+      throw new IllegalArgumentException("A scheduler needs at least one worker thread!");
+    }
+    this.workerCount = workerCount;
+    this.sessions = new ArrayList<GameSession>();
+    this.slices = new ArrayList<Callable<Void>>();
+    this.failures = new ConcurrentHashMap<GameSession, RuntimeException>();
+    this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+      Thread thread = new Thread(runnable, "session-worker");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Add a session to be ticked by this scheduler. Must not be called while a tick is running.
+   * @param session the session to add.
+   */
+  public void addSession(GameSession session) {
+    sessions.add(session);
+    rebuildSlices();
+  }
+
+  /**
+   * Remove a session from this scheduler. Must not be called while a tick is running.
+   * @param session the session to remove.
+   * @return was the session part of this scheduler?
+   */
+  public boolean removeSession(GameSession session) {
+    boolean removed = sessions.remove(session);
+    failures.remove(session);
+    if (removed) {
+      rebuildSlices();
+    }
+    return removed;
+  }
+
+  /**
+   * Run exactly one fixed tick of every session that has not failed, in parallel.
+   * @return number of failed sessions still held by this scheduler.
+   */
+  public int tickAll() {
+    return run(-1);
+  }
+
+  /**
+   * Advance every session that has not failed by the real time that passed since the last frame,
+   * in parallel. Each session applies its own fixed timestep and catch-up budget.
+   * @param frameTime seconds of real time since the previous call.
+   * @return number of failed sessions still held by this scheduler.
+   */
+  public int advanceAll(double frameTime) {
+    return run(frameTime);
+  }
+
+  /**
+   * Get the exception a session threw while ticking. A failed session stays failed until it is
+   * removed from this scheduler.
+   * @param session the session to look up.
+   * @return the exception that failed the session, or null if it has not failed.
+   */
+  public RuntimeException getFailure(GameSession session) {
+    return failures.get(session);
+  }
+
+  /**
+   * Stop the worker threads. The scheduler cannot be used afterwards.
+   */
+  public void shutdown() {
+    workers.shutdownNow();
+  }
+
+  /**
+   * Get the number of sessions being ticked by this scheduler.
+   * @return number of sessions.
+   */
+  public int getSessionCount() {
+    return sessions.size();
+  }
+
+  /**
+   * Get the number of worker threads this scheduler ticks with.
+   * @return number of worker threads.
+   */
+  public int getWorkerCount() {
+    return workerCount;
+  }
+
+  /**
+   * Hand every slice to the workers and wait for all of them to finish.
+   * @param frameTime seconds to advance each session by, or a negative value to run a single tick.
+   * @return number of failed sessions.
+   */
+  private int run(double frameTime) {
+    this.frameTime = frameTime;
+    try {
+      for (Future<Void> future : workers.invokeAll(slices)) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while ticking sessions", e);
+    } catch (ExecutionException e) {
+      //Sessions are failed one by one in tickRange, so only an Error gets this far.
+      throw new IllegalStateException("A worker failed to tick its sessions", e.getCause());
+    }
+    return failures.size();
+  }
+
+  /**
+   * Split the sessions into at most workerCount contiguous slices of nearly equal size.
+   */
+  private void rebuildSlices() {
+    slices.clear();
+    int count = sessions.size();
+    int sliceCount = Math.min(workerCount, count);
+    for (int i = 0; i < sliceCount; i++) {
+      int start = (int) ((long) count * i / sliceCount);
+      int end = (int) ((long) count * (i + 1) / sliceCount);
+      slices.add(() -> {
+        tickRange(start, end);
+        return null;
+      });
+    }
+  }
+
+  /**
+   * Tick the sessions between the given indices on the calling thread.
+   * @param start first index of the slice, inclusive.
+   * @param end   last index of the slice, exclusive.
+   */
+  private void tickRange(int start, int end) {
+    for (int i = start; i < end; i++) {
+      GameSession session = sessions.get(i);
+      if (failures.containsKey(session)) {
+        continue;
+      }
+      try {
+        if (frameTime < 0) {
+          session.tick();
+        } else {
+          session.advance(frameTime);
+        }
+      } catch (RuntimeException e) {
+        failures.put(session, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package Engine;
+
+import java.io.PrintStream;
+
+/**
+ * Grid of shot outcomes produced by a ShotSimulator. Each cell covers an equal part of the
+ * shooting area and counts the shots taken from inside it, and how many of those were goals and
+ * saves. Column 0 is at the smallest x, and row 0 at the smallest y.
+ */
+public class ShotHeatmap {
+  private final int columns;
+  private final int rows;
+  private final int[] shots;
+  private final int[] goals;
+  private final int[] saves;
+
+  /**
+   * Constructor for an empty heatmap.
+   * @param columns number of cells along the x-axis.
+   * @param rows    number of cells along the y-axis.
+   */
+  ShotHeatmap(int columns, int rows) {
+    this.columns = columns;
+    this.rows = rows;
+    this.shots = new int[columns * rows];
+    this.goals = new int[columns * rows];
+    this.saves = new int[columns * rows];
+  }
+
+  /**
+   * Store the totals of one cell. Every cell is written by exactly one task, so no locking is
+   * needed; joining the tasks publishes the counts.
+   */
+  void setCell(int cell, int shotCount, int goalCount, int saveCount) {
+    shots[cell] = shotCount;
+    goals[cell] = goalCount;
+    saves[cell] = saveCount;
+  }
+
+  /**
+   * Get the number of cells along the x-axis.
+   * @return columns of the heatmap.
+   */
+  public int getColumns() {
+    return columns;
+  }
+
+  /**
+   * Get the number of cells along the y-axis.
+   * @return rows of the heatmap.
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Get the number of shots taken from a cell.
+   * @param column column of the cell.
+   * @param row    row of the cell.
+   * @return shots simulated from that cell.
+   */
+  public int getShots(int column, int row) {
+    return shots[row * columns + column];
+  }
+
+  /**
+   * Get the number of shots from a cell that ended up in the net.
+   * @param column column of the cell.
+   * @param row    row of the cell.
+   * @return goals scored from that cell.
+   */
+  public int getGoals(int column, int row) {
+    return goals[row * columns + column];
+  }
+
+  /**
+   * Get the number of shots from a cell that were stopped by the goalie.
+   * @param column column of the cell.
+   * @param row    row of the cell.
+   * @return saves made on shots from that cell.
+   */
+  public int getSaves(int column, int row) {
+    return saves[row * columns + column];
+  }
+
+  /**
+   * Get the share of shots from a cell that were goals.
+   * @param column column of the cell.
+   * @param row    row of the cell.
+   * @return goal probability from 0 to 1, or 0 if no shots were taken from the cell.
+   */
+  public double getGoalProbability(int column, int row) {
+    int cell = row * columns + column;
+    return shots[cell] == 0 ? 0 : (double) goals[cell] / shots[cell];
+  }
+
+  /**
+   * Get the number of shots simulated over the whole heatmap.
+   * @return total shots.
+   */
+  public long getTotalShots() {
+    return sum(shots);
+  }
+
+  /**
+   * Get the number of goals scored over the whole heatmap.
+   * @return total goals.
+   */
+  public long getTotalGoals() {
+    return sum(goals);
+  }
+
+  /**
+   * Get the number of saves made over the whole heatmap.
+   * @return total saves.
+   */
+  public long getTotalSaves() {
+    return sum(saves);
+  }
+
+  /**
+   * Print the goal probability of every cell as a whole percentage, with the highest row first so
+   * that the output is laid out like the rink. Cells without any shots are printed as a dot.
+   * @param out stream to print to.
+   */
+  public void print(PrintStream out) {
+    for (int row = rows - 1; row >= 0; row--) {
+      StringBuilder line = new StringBuilder(columns * 4);
+      for (int column = 0; column < columns; column++) {
+        if (getShots(column, row) == 0) {
+          line.append("   .");
+        } else {
+          line.append(String.format("%4d", Math.round(getGoalProbability(column, row) * 100)));
+        }
+      }
+      out.println(line);
+    }
+  }
+
+  private static long sum(int[] counts) {
+    long total = 0;
+    for (int count : counts) {
+      total += count;
+    }
+    return total;
+  }
+}
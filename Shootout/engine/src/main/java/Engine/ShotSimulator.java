@@ -0,0 +1,224 @@
+package Engine;
+
+import Model.BoardContact;
+import Model.GameConfig;
+import Model.GameSession;
+import Model.Goalie;
+import Model.Net;
+import Model.Puck;
+import Model.Rink;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Monte Carlo simulator of shots on the right net. The attacking half of the rink is split into a
+ * grid of cells, and from each cell a number of shots are taken from random spots, aimed within a
+ * spread around the middle of the net, at a random strength from 0 to 5. Spots inside the net, and
+ * spots where the puck would not fit inside the boards, such as beyond the rounded corners, are
+ * skipped and not counted. Only the puck is stepped: it slides against the rink and both nets,
+ * using the same movement code as a session, until it ends up in the net (a goal), reaches the
+ * right goalie (a save), or slows to a stop or runs out of time (a miss). The goalie does not
+ * move.
+ *
+ * <p>Cells are spread over a ForkJoinPool, and each task works on its own GameSession, forking
+ * every shot from a snapshot of the session's starting state. Every cell draws its shots from its
+ * own seed, so the same seed gives the same heatmap no matter how many threads run it.
+ */
+public class ShotSimulator {
+  /**
+   * The result of a single shot.
+   */
+  public enum Outcome {
+    GOAL, SAVE, MISS
+  }
+
+  /**
+   * A puck slower than this has stopped, in units per second.
+   */
+  private static final double STOP_SPEED = 2.0;
+
+  /**
+   * The longest a single shot is followed, in seconds.
+   */
+  private static final double MAX_SHOT_SECONDS = 10.0;
+
+  private static final double MAX_STRENGTH = 5.0;
+
+  private final int columns;
+  private final int rows;
+  private final int shotsPerCell;
+  private final double aimSpread;
+  private final long seed;
+  private final double minX;
+  private final double cellWidth;
+  private final double cellHeight;
+
+  /**
+   * Constructor for a simulator over the given grid.
+   * @param columns      number of cells along the x-axis of the attacking half.
+   * @param rows         number of cells along the y-axis.
+   * @param shotsPerCell number of shots to take from every cell.
+   * @param aimSpread    the most a shot's angle strays from the middle of the net, in radians.
+   * @param seed         seed that every cell's shots are drawn from.
+   * @throws IllegalArgumentException if the grid or the number of shots is not positive, or the
+   *                                  spread is negative.
+   */
+  public ShotSimulator(int columns, int rows, int shotsPerCell, double aimSpread, long seed)
+      throws IllegalArgumentException {
+    if (columns <= 0 || rows <= 0 || shotsPerCell <= 0) {
+      throw new IllegalArgumentException("Grid and shots per cell must be positive!");
+    }
+    if (aimSpread < 0) {
+      throw new IllegalArgumentException("Aim spread can't be negative!");
+    }
+    this.columns = columns;
+    this.rows = rows;
+    this.shotsPerCell = shotsPerCell;
+    this.aimSpread = aimSpread;
+    this.seed = seed;
+    this.minX = GameConfig.RINK_LENGTH / 2;
+    this.cellWidth = (GameConfig.RINK_LENGTH - minX) / columns;
+    this.cellHeight = GameConfig.RINK_HEIGHT / rows;
+  }
+
+  /**
+   * Simulate every shot of the grid on the given pool, and wait for them all.
+   * @param pool pool to spread the cells across.
+   * @return heatmap of the outcomes.
+   */
+  public ShotHeatmap run(ForkJoinPool pool) {
+    ShotHeatmap heatmap = new ShotHeatmap(columns, rows);
+    pool.invoke(new CellTask(heatmap, 0, columns * rows));
+    return heatmap;
+  }
+
+  /**
+   * Get the number of shots that run draws. Spots that fall inside the net are drawn but not
+   * shot, so the heatmap may hold fewer.
+   * @return cells times shots per cell.
+   */
+  public long getShotCount() {
+    return (long) columns * rows * shotsPerCell;
+  }
+
+  /**
+   * Splits a range of cells in half until a single cell is left, and simulates that cell.
+   */
+  private final class CellTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final ShotHeatmap heatmap;
+    private final int from;
+    private final int to;
+
+    CellTask(ShotHeatmap heatmap, int from, int to) {
+      this.heatmap = heatmap;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > 1) {
+        int middle = (from + to) >>> 1;
+        invokeAll(new CellTask(heatmap, from, middle), new CellTask(heatmap, middle, to));
+      } else {
+        new Shooter().simulateCell(heatmap, from);
+      }
+    }
+  }
+
+  /**
+   * A session owned by one task, with everything a shot needs worked out once.
+   */
+  private final class Shooter {
+    private final GameSession session;
+    private final ByteBuffer start;
+    private final Puck puck;
+    private final Net net;
+    private final Rink rink;
+    private final BoardContact boardContact;
+    private final double deltaTime;
+    private final int maxTicks;
+    private final double goalieX;
+    private final double goalieY;
+    private final double saveDistanceSquared;
+    private final double targetX;
+    private final double targetY;
+
+    Shooter() {
+      session = new GameSession();
+      start = session.allocateSnapshotBuffer();
+      session.saveSnapshot(start);
+      puck = session.getSessionPuck();
+      net = session.getSessionNets()[1];
+      rink = session.getSessionRink();
+      boardContact = new BoardContact();
+      deltaTime = session.getFixedDeltaTime();
+      maxTicks = (int) Math.ceil(MAX_SHOT_SECONDS / deltaTime);
+      Goalie goalie = session.getSessionRightGoalie();
+      goalieX = goalie.getPosition().getXCoord();
+      goalieY = goalie.getPosition().getYCoord();
+      double saveDistance = goalie.getRadius() + puck.getRadius();
+      saveDistanceSquared = saveDistance * saveDistance;
+      targetX = net.getPosition().getXCoord();
+      targetY = net.getPosition().getYCoord() + net.getLength() / 2;
+    }
+
+    void simulateCell(ShotHeatmap heatmap, int cell) {
+      SplittableRandom random = new SplittableRandom(seed ^ (cell * 0x9E3779B97F4A7C15L));
+      double cellX = minX + (cell % columns) * cellWidth;
+      double cellY = (cell / columns) * cellHeight;
+      int shots = 0;
+      int goals = 0;
+      int saves = 0;
+      for (int i = 0; i < shotsPerCell; i++) {
+        double x = cellX + random.nextDouble() * cellWidth;
+        double y = cellY + random.nextDouble() * cellHeight;
+        double aim = Math.atan2(targetY - y, targetX - x);
+        double angle = aim + (random.nextDouble() * 2 - 1) * aimSpread;
+        double strength = random.nextDouble() * MAX_STRENGTH;
+        if (net.isInsideGoal(x, y) || !rink.isInsideRink(x, y)
+            || rink.queryBoardContact(x, y, puck.getRadius(), boardContact)) {
+          continue;
+        }
+        shots++;
+        Outcome outcome = shoot(x, y, angle, strength);
+        if (outcome == Outcome.GOAL) {
+          goals++;
+        } else if (outcome == Outcome.SAVE) {
+          saves++;
+        }
+      }
+      heatmap.setCell(cell, shots, goals, saves);
+    }
+
+    Outcome shoot(double x, double y, double angle, double strength) {
+      start.rewind();
+      session.restoreSnapshot(start);
+      puck.setPosition(x, y);
+      puck.getMovementManagerPuck().handleShot(angle, strength);
+      for (int tick = 0; tick < maxTicks; tick++) {
+        puck.update(deltaTime);
+        double puckX = puck.getPosition().getXCoord();
+        double puckY = puck.getPosition().getYCoord();
+        if (net.isInsideGoal(puckX, puckY)) {
+          return Outcome.GOAL;
+        }
+        double dx = puckX - goalieX;
+        double dy = puckY - goalieY;
+        if (dx * dx + dy * dy <= saveDistanceSquared) {
+          return Outcome.SAVE;
+        }
+        double xVelocity = puck.getXVelocity();
+        double yVelocity = puck.getYVelocity();
+        if (xVelocity * xVelocity + yVelocity * yVelocity < STOP_SPEED * STOP_SPEED) {
+          return Outcome.MISS;
+        }
+      }
+      return Outcome.MISS;
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package Engine;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Wire format shared by StateStreamEncoder and StateStreamDecoder. Every frame starts with one
+ * type byte:
+ * <ul>
+ * <li> KEYFRAME: tick (varint), object count (byte), then the quantized x, y, x velocity and y
+ *      velocity of every object as zigzag varints.
+ * <li> DELTA: ticks since the previous frame (varint), then a varint bitmask of the objects that
+ *      changed. Each changed object is followed by a byte marking which of its four fields
+ *      changed, and the zigzag varint difference of each changed field.
+ * </ul>
+ * Values are quantized before they are compared, and deltas are taken against the values the
+ * decoder already holds, so rounding error never builds up between keyframes. An object whose
+ * quantized state did not change costs nothing in a delta.
+ */
+final class StateStream {
+  static final byte KEYFRAME = 1;
+  static final byte DELTA = 2;
+
+  /**
+   * Deltas mark changed objects in a 64-bit mask, so this is the most objects a stream can carry.
+   */
+  static final int MAX_OBJECTS = 64;
+
+  /**
+   * Number of quantized fields per object: x, y, x velocity and y velocity.
+   */
+  static final int FIELDS = 4;
+
+  /**
+   * Quantization steps per foot for positions and per foot per second for velocities.
+   */
+  static final double POSITION_SCALE = 256.0;
+  static final double VELOCITY_SCALE = 256.0;
+
+  private StateStream() {
+  }
+
+  static void putVarLong(ByteBuffer buffer, long value) {
+    while ((value & ~0x7FL) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  static long getVarLong(ByteBuffer buffer) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int part = buffer.get() & 0xFF;
+      value |= (long) (part & 0x7F) << shift;
+      if ((part & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint in state stream!");
+  }
+
+  static void putZigZag(ByteBuffer buffer, long value) {
+    putVarLong(buffer, (value << 1) ^ (value >> 63));
+  }
+
+  static long getZigZag(ByteBuffer buffer) {
+    long raw = getVarLong(buffer);
+    return (raw >>> 1) ^ -(raw & 1);
+  }
+}
@@ -0,0 +1,138 @@
+package Engine;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class rebuilds the state of a session from frames written by StateStreamEncoder. Frames
+ * must be decoded in the order they were encoded, starting from a keyframe; deltas that arrive
+ * before the first keyframe are rejected. Decoding allocates nothing.
+ */
+public class StateStreamDecoder {
+  private final long[] state;
+  private int objectCount;
+  private long tick;
+  private boolean synced;
+
+  /**
+   * Constructor for a decoder waiting for its first keyframe.
+   */
+  public StateStreamDecoder() {
+    this.state = new long[StateStream.MAX_OBJECTS * StateStream.FIELDS];
+    this.objectCount = 0;
+    this.tick = 0;
+    this.synced = false;
+  }
+
+  /**
+   * Decode the next frame, starting at the buffer's position, and apply it to the held state.
+   * @param in buffer holding the frame.
+   * @throws IllegalStateException    if the frame is a delta and no keyframe has been decoded.
+   * @throws IllegalArgumentException if the frame is malformed.
+   */
+  public void decode(ByteBuffer in) throws IllegalStateException, IllegalArgumentException {
+    byte type = in.get();
+    switch (type) {
+      case StateStream.KEYFRAME:
+        readKeyframe(in);
+        break;
+      case StateStream.DELTA:
+        if (!synced) {
+          throw new IllegalStateException("A state stream must start with a keyframe!");
+        }
+        readDelta(in);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown state stream frame: " + type);
+    }
+  }
+
+  private void readKeyframe(ByteBuffer in) {
+    tick = StateStream.getVarLong(in);
+    objectCount = in.get() & 0xFF;
+    if (objectCount > StateStream.MAX_OBJECTS) {
+      throw new IllegalArgumentException("Keyframe holds too many objects: " + objectCount);
+    }
+    int fields = objectCount * StateStream.FIELDS;
+    for (int i = 0; i < fields; i++) {
+      state[i] = StateStream.getZigZag(in);
+    }
+    synced = true;
+  }
+
+  private void readDelta(ByteBuffer in) {
+    tick += StateStream.getVarLong(in);
+    long changedObjects = StateStream.getVarLong(in);
+    for (int i = 0; i < objectCount; i++) {
+      if ((changedObjects & (1L << i)) == 0) {
+        continue;
+      }
+      int mask = in.get();
+      int base = i * StateStream.FIELDS;
+      for (int field = 0; field < StateStream.FIELDS; field++) {
+        if ((mask & (1 << field)) != 0) {
+          state[base + field] += StateStream.getZigZag(in);
+        }
+      }
+    }
+  }
+
+  /**
+   * Has a keyframe been decoded yet? Until then the held state is meaningless.
+   * @return true once the decoder holds a full state.
+   */
+  public boolean isSynced() {
+    return synced;
+  }
+
+  /**
+   * Get the tick of the last decoded frame.
+   * @return tick count of the session when the frame was encoded.
+   */
+  public long getTick() {
+    return tick;
+  }
+
+  /**
+   * Get the number of objects in the stream.
+   * @return number of objects, in the order of the session's mobile objects.
+   */
+  public int getObjectCount() {
+    return objectCount;
+  }
+
+  /**
+   * Get the x-coordinate of an object, accurate to the stream's quantization step.
+   * @param object index of the object.
+   * @return x-coordinate of the object.
+   */
+  public double getX(int object) {
+    return state[object * StateStream.FIELDS] / StateStream.POSITION_SCALE;
+  }
+
+  /**
+   * Get the y-coordinate of an object, accurate to the stream's quantization step.
+   * @param object index of the object.
+   * @return y-coordinate of the object.
+   */
+  public double getY(int object) {
+    return state[object * StateStream.FIELDS + 1] / StateStream.POSITION_SCALE;
+  }
+
+  /**
+   * Get the x velocity of an object, accurate to the stream's quantization step.
+   * @param object index of the object.
+   * @return x velocity of the object.
+   */
+  public double getXVelocity(int object) {
+    return state[object * StateStream.FIELDS + 2] / StateStream.VELOCITY_SCALE;
+  }
+
+  /**
+   * Get the y velocity of an object, accurate to the stream's quantization step.
+   * @param object index of the object.
+   * @return y velocity of the object.
+   */
+  public double getYVelocity(int object) {
+    return state[object * StateStream.FIELDS + 3] / StateStream.VELOCITY_SCALE;
+  }
+}
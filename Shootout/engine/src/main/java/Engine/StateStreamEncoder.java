@@ -0,0 +1,151 @@
+package Engine;
+
+import Model.GameSession;
+import Model.MobileObject;
+import java.nio.ByteBuffer;
+
+/**
+ * This class turns the state of a GameSession into a compact stream of frames for spectators and
+ * remote clients. A full keyframe of every MobileObject's position and velocity is sent every
+ * keyframeInterval frames, and quantized deltas are sent in between, so a goalie standing still
+ * or a puck at rest adds nothing to a frame. The wire format is described in StateStream.
+ *
+ * <p>The encoder keeps the quantized values that the decoder holds, and writes into a buffer the
+ * caller provides, so encoding a frame allocates nothing.
+ */
+public class StateStreamEncoder {
+  private final int keyframeInterval;
+  private final long[] sent;
+  private final long[] current;
+  private int framesSinceKeyframe;
+  private long lastTick;
+  private boolean keyframeRequested;
+
+  /**
+   * Constructor for an encoder that sends a keyframe every keyframeInterval frames.
+   * @param keyframeInterval frames between keyframes, including the keyframe itself.
+   * @throws IllegalArgumentException if the interval is not positive.
+   */
+  public StateStreamEncoder(int keyframeInterval) throws IllegalArgumentException {
+    if (keyframeInterval <= 0) {
+      throw new IllegalArgumentException("Keyframe interval must be positive!");
+    }
+    this.keyframeInterval = keyframeInterval;
+    this.sent = new long[StateStream.MAX_OBJECTS * StateStream.FIELDS];
+    this.current = new long[StateStream.MAX_OBJECTS * StateStream.FIELDS];
+    this.framesSinceKeyframe = 0;
+    this.lastTick = 0;
+    this.keyframeRequested = true;
+  }
+
+  /**
+   * Make the next frame a keyframe, for example when a new spectator joins the stream.
+   */
+  public void requestKeyframe() {
+    keyframeRequested = true;
+  }
+
+  /**
+   * Get the largest number of bytes a single frame of the given session can take, to size the
+   * buffer handed to encode.
+   * @param session session to be encoded.
+   * @return upper bound on the size of one frame, in bytes.
+   */
+  public static int maxFrameSize(GameSession session) {
+    int objects = session.getMobileObjects().length;
+    return 1 + 10 + 10 + objects * (1 + StateStream.FIELDS * 10);
+  }
+
+  /**
+   * Encode the current state of the session as the next frame of the stream.
+   * @param session session to encode. Must hold the same objects for the whole stream.
+   * @param out     buffer to write the frame to, with at least maxFrameSize bytes remaining.
+   * @return number of bytes written.
+   * @throws IllegalArgumentException if the session holds more objects than a stream can carry.
+   */
+  public int encode(GameSession session, ByteBuffer out) throws IllegalArgumentException {
+    MobileObject[] objects = session.getMobileObjects();
+    if (objects.length > StateStream.MAX_OBJECTS) {
+      throw new IllegalArgumentException("A state stream carries at most "
+          + StateStream.MAX_OBJECTS + " objects!");
+    }
+    int start = out.position();
+    quantize(objects);
+
+    long tick = session.getTickCount();
+    if (keyframeRequested || framesSinceKeyframe >= keyframeInterval - 1) {
+      writeKeyframe(out, tick, objects.length);
+      keyframeRequested = false;
+      framesSinceKeyframe = 0;
+    } else {
+      writeDelta(out, tick - lastTick, objects.length);
+      framesSinceKeyframe++;
+    }
+    lastTick = tick;
+    return out.position() - start;
+  }
+
+  private void quantize(MobileObject[] objects) {
+    for (int i = 0; i < objects.length; i++) {
+      MobileObject obj = objects[i];
+      int base = i * StateStream.FIELDS;
+      current[base] = Math.round(obj.getPosition().getXCoord() * StateStream.POSITION_SCALE);
+      current[base + 1] = Math.round(obj.getPosition().getYCoord() * StateStream.POSITION_SCALE);
+      current[base + 2] = Math.round(obj.getXVelocity() * StateStream.VELOCITY_SCALE);
+      current[base + 3] = Math.round(obj.getYVelocity() * StateStream.VELOCITY_SCALE);
+    }
+  }
+
+  private void writeKeyframe(ByteBuffer out, long tick, int objectCount) {
+    out.put(StateStream.KEYFRAME);
+    StateStream.putVarLong(out, tick);
+    out.put((byte) objectCount);
+    int fields = objectCount * StateStream.FIELDS;
+    for (int i = 0; i < fields; i++) {
+      StateStream.putZigZag(out, current[i]);
+      sent[i] = current[i];
+    }
+  }
+
+  private void writeDelta(ByteBuffer out, long ticks, int objectCount) {
+    out.put(StateStream.DELTA);
+    StateStream.putVarLong(out, ticks);
+
+    long changedObjects = 0;
+    for (int i = 0; i < objectCount; i++) {
+      if (fieldMask(i) != 0) {
+        changedObjects |= 1L << i;
+      }
+    }
+    StateStream.putVarLong(out, changedObjects);
+
+    for (int i = 0; i < objectCount; i++) {
+      if ((changedObjects & (1L << i)) == 0) {
+        continue;
+      }
+      int mask = fieldMask(i);
+      out.put((byte) mask);
+      int base = i * StateStream.FIELDS;
+      for (int field = 0; field < StateStream.FIELDS; field++) {
+        if ((mask & (1 << field)) != 0) {
+          StateStream.putZigZag(out, current[base + field] - sent[base + field]);
+          sent[base + field] = current[base + field];
+        }
+      }
+    }
+  }
+
+  /**
+   * Bitmask of the fields of the given object whose quantized value differs from what was sent.
+   */
+  private int fieldMask(int object) {
+    int base = object * StateStream.FIELDS;
+    int mask = 0;
+    for (int field = 0; field < StateStream.FIELDS; field++) {
+      if (current[base + field] != sent[base + field]) {
+        mask |= 1 << field;
+      }
+    }
+    return mask;
+  }
+}
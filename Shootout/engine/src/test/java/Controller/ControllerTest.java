@@ -0,0 +1,177 @@
+package Controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import Engine.InputRecorder;
+import Engine.InputReplayer;
+import Model.AllocationMeter;
+import Model.GameConfig;
+import Model.GameSession;
+import Model.MobileObject;
+import Model.Skater;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ControllerTest {
+
+  @Test
+  void everyInputFromAnotherThreadIsAppliedExactlyOnce() throws InterruptedException {
+    long events = 1_000_000;
+    Controller controller = new Controller(new GameSession(new Skater()));
+    GameConfig.DIRECTION[] directions = GameConfig.DIRECTION.values();
+    Thread producer = new Thread(() -> {
+      for (long i = 0; i < events; i++) {
+        while (!controller.setKeyPressed(directions[(int) (i & 3)], (i & 4) == 0)) {
+          Thread.yield();
+        }
+      }
+    }, "input-producer");
+
+    producer.start();
+    long applied = 0;
+    while (applied < events) {
+      int count = controller.applyInputs(System.nanoTime());
+      if (count == 0) {
+        Thread.yield();
+      }
+      applied += count;
+    }
+    producer.join();
+
+    assertEquals(events, applied);
+    assertEquals(0, controller.applyInputs(Long.MAX_VALUE));
+  }
+
+  @Test
+  void sessionDrainsItsControllerAtTheStartOfATick() {
+    GameSession session = new GameSession(new Skater());
+    Controller controller = new Controller(session);
+    controller.setKeyPressed(GameConfig.DIRECTION.RIGHT, true);
+
+    session.tick();
+
+    assertSame(controller, session.getInputSource());
+    assertTrue(session.getSessionSkater().getXVelocity() > 0);
+    assertEquals(0, controller.applyInputs(Long.MAX_VALUE));
+  }
+
+  @Test
+  void catchUpTicksOnlyTakeTheInputsOfTheirOwnMoment() {
+    double tickRate = 10;
+    GameSession session = new GameSession(new Skater(), tickRate, 10);
+    Controller controller = new Controller(session);
+    //The reference session has the key pressed just before its last tick.
+    GameSession reference = new GameSession(new Skater(), tickRate, 10);
+    for (int i = 0; i < 9; i++) {
+      reference.tick();
+    }
+    reference.getSessionSkater().getMovementManagerPlayer()
+        .setKeyPressed(GameConfig.DIRECTION.RIGHT, true);
+    reference.tick();
+
+    //Ten ticks of catching up: all but the last trail the key press by at least a tick.
+    controller.setKeyPressed(GameConfig.DIRECTION.RIGHT, true);
+    assertEquals(10, session.advance(10 / tickRate + 1e-6));
+
+    assertEquals(reference.getSessionSkater().getPosition().getXCoord(),
+        session.getSessionSkater().getPosition().getXCoord());
+    assertEquals(reference.getSessionSkater().getXVelocity(),
+        session.getSessionSkater().getXVelocity());
+  }
+
+  @Test
+  void inputsDrainedThroughARecorderReplayExactly() throws IOException {
+    GameSession recorded = new GameSession(new Skater());
+    ByteArrayOutputStream log = new ByteArrayOutputStream();
+    Random random = new Random(7L);
+    GameConfig.DIRECTION[] directions = GameConfig.DIRECTION.values();
+    try (InputRecorder recorder = new InputRecorder(recorded, log)) {
+      Controller controller = new Controller(recorder);
+      while (recorded.getTickCount() < 5_000) {
+        if (random.nextInt(10) == 0) {
+          controller.setKeyPressed(directions[random.nextInt(directions.length)],
+              random.nextBoolean());
+        }
+        if (random.nextInt(150) == 0) {
+          controller.handleShot(random.nextDouble() * Math.PI * 2, random.nextDouble() * 5);
+        }
+        if (random.nextInt(250) == 0) {
+          controller.handlePokeCheck(random.nextDouble() * Math.PI * 2);
+        }
+        //The session ticks itself, catching up now and then; the recorder sees every tick.
+        recorded.advance(recorded.getFixedDeltaTime() * random.nextDouble() * 3);
+      }
+    }
+
+    GameSession replayed;
+    try (InputReplayer replayer = new InputReplayer(new ByteArrayInputStream(log.toByteArray()))) {
+      replayer.replayAll();
+      replayed = replayer.getSession();
+    }
+
+    assertEquals(recorded.getTickCount(), replayed.getTickCount());
+    MobileObject[] expected = recorded.getMobileObjects();
+    MobileObject[] actual = replayed.getMobileObjects();
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i].getPosition().getXCoord(), actual[i].getPosition().getXCoord());
+      assertEquals(expected[i].getPosition().getYCoord(), actual[i].getPosition().getYCoord());
+      assertEquals(expected[i].getXVelocity(), actual[i].getXVelocity());
+      assertEquals(expected[i].getYVelocity(), actual[i].getYVelocity());
+    }
+  }
+
+  @Test
+  void queueingAndDrainingAllocateNothing() {
+    Controller controller = new Controller(new GameSession(new Skater()), 256);
+
+    long allocated = AllocationMeter.bytesAllocatedBy(() -> {
+      for (int round = 0; round < 100; round++) {
+        for (int i = 0; i < 64; i++) {
+          controller.setKeyPressed(GameConfig.DIRECTION.UP, (i & 1) == 0);
+          controller.handleShot(0.5, 2);
+          controller.handlePokeCheck(1.5);
+        }
+        controller.applyInputs(Long.MAX_VALUE);
+      }
+    });
+
+    assertEquals(0, allocated);
+  }
+
+  @Test
+  void fullQueueRefusesInput() {
+    Controller controller = new Controller(new GameSession(new Skater()), 4);
+
+    for (int i = 0; i < controller.getCapacity(); i++) {
+      assertTrue(controller.setKeyPressed(GameConfig.DIRECTION.UP, true));
+    }
+
+    assertFalse(controller.setKeyPressed(GameConfig.DIRECTION.UP, false));
+  }
+
+  @Test
+  void badShotsFailOnTheThreadThatQueuesThem() {
+    Controller controller = new Controller(new GameSession(new Skater()));
+
+    assertThrows(IllegalArgumentException.class, () -> controller.handleShot(0.5, Double.NaN));
+    assertThrows(IllegalArgumentException.class, () -> controller.handleShot(Double.NaN, 2));
+    assertThrows(IllegalArgumentException.class, () -> controller.handleShot(0.5, 6));
+    assertThrows(IllegalArgumentException.class,
+        () -> controller.handlePokeCheck(Double.NEGATIVE_INFINITY));
+  }
+
+  @Test
+  void sessionTakesOnlyOneInputSource() {
+    GameSession session = new GameSession(new Skater());
+    new Controller(session);
+
+    assertThrows(IllegalStateException.class, () -> new Controller(session));
+  }
+}
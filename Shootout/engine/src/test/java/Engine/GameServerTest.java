@@ -0,0 +1,130 @@
+package Engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameServerTest {
+  private static final int TIMEOUT_MILLIS = 5_000;
+
+  private GameServer server;
+  private Thread serverThread;
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2, 60);
+    serverThread = new Thread(() -> {
+      try {
+        server.run();
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }, "game-server");
+    serverThread.start();
+  }
+
+  @AfterEach
+  void stopServer() throws InterruptedException {
+    server.close();
+    serverThread.join(TIMEOUT_MILLIS);
+  }
+
+  @Test
+  void shotThatIsNotFiniteDisconnectsOnlyThatClient() throws IOException {
+    try (Socket bad = connect(); Socket good = connect()) {
+      ByteBuffer message = ByteBuffer.allocate(ServerProtocol.MAX_INPUT_BYTES);
+      ServerProtocol.putShot(message, 0.5, Double.NaN);
+      bad.getOutputStream().write(message.array(), 0, message.position());
+      message.clear();
+      ServerProtocol.putShot(message, 0.5, 3);
+      good.getOutputStream().write(message.array(), 0, message.position());
+
+      assertTrue(readsUntilClosed(bad));
+      assertTrue(stillReceivesFrames(good));
+    }
+  }
+
+  @Test
+  void pokeCheckThatIsNotFiniteDisconnectsTheClient() throws IOException {
+    try (Socket bad = connect()) {
+      ByteBuffer message = ByteBuffer.allocate(ServerProtocol.MAX_INPUT_BYTES);
+      ServerProtocol.putPokeCheck(message, Double.POSITIVE_INFINITY);
+      bad.getOutputStream().write(message.array(), 0, message.position());
+
+      assertTrue(readsUntilClosed(bad));
+      assertEquals(0, server.getFailedSessions());
+    }
+  }
+
+  private Socket connect() throws IOException {
+    Socket socket = new Socket(server.getLocalAddress().getAddress(),
+        server.getLocalAddress().getPort());
+    socket.setSoTimeout(TIMEOUT_MILLIS);
+    return socket;
+  }
+
+  /**
+   * Read frames until the server closes the connection.
+   * @return true if it was closed, false if the server kept sending until the timeout.
+   */
+  private static boolean readsUntilClosed(Socket socket) throws IOException {
+    InputStream in = socket.getInputStream();
+    byte[] buffer = new byte[4096];
+    try {
+      while (in.read(buffer) >= 0) {
+        //Frames of the ticks before the input was read.
+      }
+      return true;
+    } catch (SocketTimeoutException e) {
+      return false;
+    } catch (IOException e) {
+      //A reset also means the server dropped the connection.
+      return true;
+    }
+  }
+
+  /**
+   * Read a second's worth of ticks from the server.
+   * @return true if that much arrived without the connection closing.
+   */
+  private static boolean stillReceivesFrames(Socket socket) throws IOException {
+    InputStream in = socket.getInputStream();
+    byte[] buffer = new byte[4096];
+    int frames = 0;
+    while (frames < 60) {
+      int length = readFrameLength(in);
+      if (length < 0) {
+        return false;
+      }
+      int read = 0;
+      while (read < length) {
+        int count = in.read(buffer, 0, length - read);
+        if (count < 0) {
+          return false;
+        }
+        read += count;
+      }
+      frames++;
+    }
+    return true;
+  }
+
+  private static int readFrameLength(InputStream in) throws IOException {
+    int high = in.read();
+    int low = in.read();
+    if (high < 0 || low < 0) {
+      return -1;
+    }
+    return (high << 8) | low;
+  }
+}
@@ -0,0 +1,59 @@
+package Engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import Model.GameConfig;
+import Model.MovementManagers.GoalieTable;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class GoalieTableBuilderTest {
+  private static final int SAMPLES = 8;
+
+  @Test
+  void sameSeedBuildsTheSameTableOnAnyNumberOfThreads() {
+    GoalieTable single = build(3L, 1);
+    GoalieTable several = build(3L, 3);
+
+    for (int cell = 0; cell < single.getCellCount(); cell++) {
+      assertEquals(single.getTargetDepth(cell), several.getTargetDepth(cell));
+      assertEquals(single.getTargetY(cell), several.getTargetY(cell));
+      assertEquals(single.getSaveProbability(cell), several.getSaveProbability(cell));
+    }
+  }
+
+  @Test
+  void everyTargetIsInsideTheCrease() {
+    GoalieTable table = build(5L, 2);
+    double middle = GameConfig.RINK_HEIGHT / 2;
+    double radius = GameConfig.GOALIE_CREASE_RADIUS;
+
+    for (int cell = 0; cell < table.getCellCount(); cell++) {
+      double depth = table.getTargetDepth(cell);
+      double offset = table.getTargetY(cell) - middle;
+      assertTrue(depth >= 0 && depth * depth + offset * offset <= radius * radius,
+          "cell " + cell);
+      double saveProbability = table.getSaveProbability(cell);
+      assertTrue(saveProbability >= 0 && saveProbability <= 1, "cell " + cell);
+    }
+  }
+
+  @Test
+  void builderNeedsSamples() {
+    GoalieTable table = GoalieTable.create(2, 2, 2, 2);
+
+    assertThrows(IllegalArgumentException.class, () -> new GoalieTableBuilder(table, 0, 1L));
+  }
+
+  private static GoalieTable build(long seed, int threads) {
+    GoalieTable table = GoalieTable.create(4, 4, 3, 8);
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      return new GoalieTableBuilder(table, SAMPLES, seed).build(pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package Engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import Model.GameConfig;
+import Model.GameSession;
+import Model.Goalie;
+import Model.MobileObject;
+import Model.MovementManagers.MovementManagerPlayer;
+import Model.MovementManagers.MovementManagerPuck;
+import Model.Skater;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class InputReplayTest {
+
+  @Test
+  void replayMatchesTheRecordedSessionBitForBit() throws IOException {
+    GameSession recorded = new GameSession(new Skater());
+    ByteArrayOutputStream log = new ByteArrayOutputStream();
+    try (InputRecorder recorder = new InputRecorder(recorded, log)) {
+      play(recorder, 20_000);
+    }
+
+    GameSession replayed = replay(log);
+
+    assertEquals(recorded.getTickCount(), replayed.getTickCount());
+    assertSameState(recorded, replayed);
+  }
+
+  @Test
+  void replayBuildsTheRecordedKindOfPlayer() throws IOException {
+    GameSession recorded = new GameSession(new Goalie(), 30, GameConfig.MAX_CATCH_UP_TICKS);
+    ByteArrayOutputStream log = new ByteArrayOutputStream();
+    try (InputRecorder recorder = new InputRecorder(recorded, log)) {
+      play(recorder, 600);
+    }
+
+    GameSession replayed = replay(log);
+
+    assertInstanceOf(Goalie.class, replayed.getSessionSkater());
+    assertEquals(30, replayed.getTickRate());
+    assertSameState(recorded, replayed);
+  }
+
+  @Test
+  void recordingAnAlreadyTickedSessionIsRejected() {
+    GameSession session = new GameSession(new Skater());
+    session.tick();
+
+    assertThrows(IllegalStateException.class,
+        () -> new InputRecorder(session, new ByteArrayOutputStream()));
+  }
+
+  @Test
+  void somethingOtherThanAnInputLogIsRejected() {
+    byte[] notALog = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14};
+
+    assertThrows(IOException.class, () -> new InputReplayer(new ByteArrayInputStream(notALog)));
+  }
+
+  @Test
+  void keyPressedAndReleasedWithinATickWakesTheReplayedSkater() throws IOException {
+    GameSession recorded = new GameSession(new Skater());
+    ByteArrayOutputStream log = new ByteArrayOutputStream();
+    try (InputRecorder recorder = new InputRecorder(recorded, log)) {
+      while (!recorded.getSessionSkater().isSleeping()) {
+        recorder.tick();
+      }
+      recorder.setKeyPressed(GameConfig.DIRECTION.UP, true);
+      recorder.setKeyPressed(GameConfig.DIRECTION.UP, false);
+      recorder.tick();
+    }
+
+    GameSession replayed = replay(log);
+
+    assertFalse(recorded.getSessionSkater().isSleeping());
+    assertFalse(replayed.getSessionSkater().isSleeping());
+  }
+
+  @Test
+  void replayStopsAtTheRequestedTick() throws IOException {
+    GameSession recorded = new GameSession(new Skater());
+    ByteArrayOutputStream log = new ByteArrayOutputStream();
+    try (InputRecorder recorder = new InputRecorder(recorded, log)) {
+      play(recorder, 1_000);
+    }
+
+    try (InputReplayer replayer = new InputReplayer(new ByteArrayInputStream(log.toByteArray()))) {
+      assertEquals(400, replayer.replayUntil(400));
+      assertEquals(400, replayer.getSession().getTickCount());
+      replayer.replayAll();
+      assertTrue(replayer.isFinished());
+      assertEquals(recorded.getTickCount(), replayer.getSession().getTickCount());
+    }
+  }
+
+  /**
+   * Drive the recorder with a seeded script of inputs, changing what the player does every so
+   * often and shooting or poke checking now and then. The first half runs in fixed ticks and the
+   * second half in jittery frame times.
+   */
+  private static void play(InputRecorder recorder, int ticks) throws IOException {
+    Random random = new Random(2024L);
+    GameSession session = recorder.getSession();
+    GameConfig.DIRECTION[] directions = GameConfig.DIRECTION.values();
+    while (session.getTickCount() < ticks) {
+      if (random.nextInt(20) == 0) {
+        recorder.setKeyPressed(directions[random.nextInt(directions.length)],
+            random.nextBoolean());
+      }
+      if (random.nextInt(200) == 0) {
+        recorder.handleShot(random.nextDouble() * Math.PI * 2, random.nextDouble() * 5);
+      }
+      if (random.nextInt(300) == 0) {
+        recorder.handlePokeCheck(random.nextDouble() * Math.PI * 2);
+      }
+      if (session.getTickCount() < ticks / 2) {
+        recorder.tick();
+      } else {
+        recorder.advance(session.getFixedDeltaTime() * random.nextDouble() * 3);
+      }
+    }
+  }
+
+  private static GameSession replay(ByteArrayOutputStream log) throws IOException {
+    try (InputReplayer replayer = new InputReplayer(new ByteArrayInputStream(log.toByteArray()))) {
+      replayer.replayAll();
+      assertTrue(replayer.isFinished());
+      return replayer.getSession();
+    }
+  }
+
+  private static void assertSameState(GameSession expected, GameSession actual) {
+    MobileObject[] expectedObjects = expected.getMobileObjects();
+    MobileObject[] actualObjects = actual.getMobileObjects();
+    assertEquals(expectedObjects.length, actualObjects.length);
+    for (int i = 0; i < expectedObjects.length; i++) {
+      assertSameBits(expectedObjects[i].getPosition().getXCoord(),
+          actualObjects[i].getPosition().getXCoord());
+      assertSameBits(expectedObjects[i].getPosition().getYCoord(),
+          actualObjects[i].getPosition().getYCoord());
+    }
+    MovementManagerPlayer expectedPlayer = expected.getSessionSkater().getMovementManagerPlayer();
+    MovementManagerPlayer actualPlayer = actual.getSessionSkater().getMovementManagerPlayer();
+    MovementManagerPuck expectedPuck = expected.getSessionPuck().getMovementManagerPuck();
+    MovementManagerPuck actualPuck = actual.getSessionPuck().getMovementManagerPuck();
+    assertSameBits(expectedPlayer.getXVelocity(), actualPlayer.getXVelocity());
+    assertSameBits(expectedPlayer.getYVelocity(), actualPlayer.getYVelocity());
+    assertSameBits(expectedPuck.getXVelocity(), actualPuck.getXVelocity());
+    assertSameBits(expectedPuck.getYVelocity(), actualPuck.getYVelocity());
+  }
+
+  private static void assertSameBits(double expected, double actual) {
+    assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(actual));
+  }
+}
@@ -0,0 +1,126 @@
+package Engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import Model.AllocationMeter;
+import Model.GameConfig;
+import Model.GameSession;
+import Model.MobileObject;
+import Model.Skater;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class RenderBufferTest {
+
+  @Test
+  void publishedFrameMatchesTheSession() {
+    GameSession session = newSession();
+    RenderBuffer buffer = new RenderBuffer();
+    for (int i = 0; i < 100; i++) {
+      session.tick();
+    }
+
+    buffer.publish(session);
+
+    RenderFrame frame = buffer.latest();
+    assertEquals(100, frame.getTick());
+    assertMatches(session, frame);
+  }
+
+  @Test
+  void sessionPublishesAFrameAtTheEndOfEveryTick() {
+    GameSession session = newSession();
+    RenderBuffer buffer = new RenderBuffer(session);
+
+    session.tick();
+    assertEquals(1, buffer.latest().getTick());
+    session.advance(3.25 * session.getFixedDeltaTime());
+
+    RenderFrame frame = buffer.latest();
+    assertEquals(4, frame.getTick());
+    assertEquals(session.getInterpolationAlpha(), frame.getInterpolationAlpha());
+    assertMatches(session, frame);
+  }
+
+  @Test
+  void sessionWithATickListenerIsRejected() {
+    GameSession session = newSession();
+    new RenderBuffer(session);
+
+    assertThrows(IllegalStateException.class, () -> new RenderBuffer(session));
+  }
+
+  @Test
+  void renderThreadNeverSeesATornFrame() throws InterruptedException {
+    int ticks = 100_000;
+    RenderBuffer buffer = new RenderBuffer();
+    AtomicReference<Throwable> tickFailure = new AtomicReference<Throwable>();
+    Thread ticker = new Thread(() -> {
+      GameSession session = newSession();
+      for (int i = 0; i < ticks; i++) {
+        session.tick();
+        buffer.publish(session);
+      }
+    }, "tick-thread");
+    ticker.setUncaughtExceptionHandler((thread, e) -> tickFailure.set(e));
+
+    //The session is deterministic, so the render side replays its own copy up to each frame.
+    GameSession reference = newSession();
+    long lastTick = 0;
+    ticker.start();
+    while (lastTick < ticks && (ticker.isAlive() || buffer.latest().getTick() != lastTick)) {
+      RenderFrame frame = buffer.latest();
+      if (frame.getTick() == lastTick) {
+        Thread.yield();
+        continue;
+      }
+      assertTrue(frame.getTick() > lastTick, "frame went back in time");
+      while (reference.getTickCount() < frame.getTick()) {
+        reference.tick();
+      }
+      assertMatches(reference, frame);
+      lastTick = frame.getTick();
+    }
+    ticker.join();
+
+    assertNull(tickFailure.get());
+    assertEquals(ticks, lastTick);
+  }
+
+  @Test
+  void publishingAllocatesNothing() {
+    GameSession session = newSession();
+    RenderBuffer buffer = new RenderBuffer();
+
+    long allocated = AllocationMeter.bytesAllocatedBy(() -> {
+      for (int i = 0; i < 10_000; i++) {
+        session.tick();
+        buffer.publish(session);
+      }
+    });
+
+    assertEquals(0, allocated);
+  }
+
+  private static GameSession newSession() {
+    GameSession session = new GameSession(new Skater());
+    session.getSessionSkater().getMovementManagerPlayer()
+        .setKeyPressed(GameConfig.DIRECTION.LEFT, true);
+    session.getSessionPuck().getMovementManagerPuck().handleShot(0.3, 5);
+    return session;
+  }
+
+  private static void assertMatches(GameSession session, RenderFrame frame) {
+    MobileObject[] objects = session.getMobileObjects();
+    assertEquals(objects.length, frame.getObjectCount());
+    for (int i = 0; i < objects.length; i++) {
+      assertEquals(objects[i].getPosition().getXCoord(), frame.getX(i));
+      assertEquals(objects[i].getPosition().getYCoord(), frame.getY(i));
+      assertEquals(objects[i].getInterpolatedX(0), frame.getPreviousX(i));
+      assertEquals(objects[i].getInterpolatedY(0), frame.getPreviousY(i));
+    }
+  }
+}
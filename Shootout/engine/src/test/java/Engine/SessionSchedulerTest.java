@@ -0,0 +1,125 @@
+package Engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import Model.GameSession;
+import Model.MobileObject;
+import Model.Skater;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SessionSchedulerTest {
+  private SessionScheduler scheduler;
+
+  @BeforeEach
+  void startScheduler() {
+    scheduler = new SessionScheduler(4);
+  }
+
+  @AfterEach
+  void stopScheduler() {
+    scheduler.shutdown();
+  }
+
+  @Test
+  void parallelTicksMatchTickingEachSessionInTurn() {
+    GameSession[] parallel = new GameSession[16];
+    GameSession[] serial = new GameSession[parallel.length];
+    for (int i = 0; i < parallel.length; i++) {
+      parallel[i] = shotSession(i);
+      serial[i] = shotSession(i);
+      scheduler.addSession(parallel[i]);
+    }
+
+    for (int tick = 0; tick < 300; tick++) {
+      assertEquals(0, scheduler.tickAll());
+      for (GameSession session : serial) {
+        session.tick();
+      }
+    }
+
+    for (int i = 0; i < parallel.length; i++) {
+      MobileObject[] expected = serial[i].getMobileObjects();
+      MobileObject[] actual = parallel[i].getMobileObjects();
+      for (int j = 0; j < expected.length; j++) {
+        assertEquals(expected[j].getPosition().getXCoord(), actual[j].getPosition().getXCoord());
+        assertEquals(expected[j].getPosition().getYCoord(), actual[j].getPosition().getYCoord());
+      }
+    }
+  }
+
+  @Test
+  void failingSessionDoesNotStopTheOthers() {
+    IllegalStateException failure = new IllegalStateException("Broken session");
+    FailingSession broken = new FailingSession(failure);
+    GameSession[] healthy = new GameSession[7];
+    for (int i = 0; i < healthy.length; i++) {
+      healthy[i] = shotSession(i);
+      scheduler.addSession(healthy[i]);
+    }
+    scheduler.addSession(broken);
+
+    for (int tick = 0; tick < 10; tick++) {
+      assertEquals(1, scheduler.tickAll());
+    }
+
+    assertSame(failure, scheduler.getFailure(broken));
+    assertEquals(1, broken.attempts);
+    for (GameSession session : healthy) {
+      assertNull(scheduler.getFailure(session));
+      assertEquals(10, session.getTickCount());
+    }
+  }
+
+  @Test
+  void removingAFailedSessionClearsItsFailure() {
+    FailingSession broken = new FailingSession(new IllegalStateException("Broken session"));
+    scheduler.addSession(broken);
+    scheduler.advanceAll(0.1);
+
+    scheduler.removeSession(broken);
+
+    assertNull(scheduler.getFailure(broken));
+    assertEquals(0, scheduler.tickAll());
+  }
+
+  @Test
+  void schedulerNeedsAWorker() {
+    assertThrows(IllegalArgumentException.class, () -> new SessionScheduler(0));
+  }
+
+  private static GameSession shotSession(int seed) {
+    GameSession session = new GameSession(new Skater());
+    session.getSessionPuck().getMovementManagerPuck().handleShot(seed * 0.37, 1 + (seed % 4));
+    return session;
+  }
+
+  /**
+   * A session whose every tick throws.
+   */
+  private static final class FailingSession extends GameSession {
+    private final RuntimeException failure;
+    private int attempts;
+
+    private FailingSession(RuntimeException failure) {
+      super(new Skater());
+      this.failure = failure;
+    }
+
+    @Override
+    public void tick() {
+      attempts++;
+      throw failure;
+    }
+
+    @Override
+    public int advance(double frameTime) {
+      attempts++;
+      throw failure;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package Engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class ShotSimulatorTest {
+
+  @Test
+  void sameSeedGivesTheSameHeatmapOnAnyNumberOfThreads() {
+    ShotSimulator simulator = new ShotSimulator(6, 5, 40, 0.3, 42L);
+
+    ShotHeatmap single = run(simulator, 1);
+    ShotHeatmap several = run(simulator, 3);
+
+    for (int column = 0; column < 6; column++) {
+      for (int row = 0; row < 5; row++) {
+        assertEquals(single.getShots(column, row), several.getShots(column, row));
+        assertEquals(single.getGoals(column, row), several.getGoals(column, row));
+        assertEquals(single.getSaves(column, row), several.getSaves(column, row));
+      }
+    }
+  }
+
+  @Test
+  void everyShotEndsUpAsOneOutcome() {
+    ShotSimulator simulator = new ShotSimulator(8, 6, 50, 0.2, 7L);
+
+    ShotHeatmap heatmap = run(simulator, 2);
+
+    assertTrue(heatmap.getTotalShots() <= simulator.getShotCount());
+    assertTrue(heatmap.getTotalShots() > simulator.getShotCount() * 3 / 4);
+    assertTrue(heatmap.getTotalGoals() > 0);
+    assertTrue(heatmap.getTotalSaves() > 0);
+    assertTrue(heatmap.getTotalGoals() + heatmap.getTotalSaves() <= heatmap.getTotalShots());
+  }
+
+  @Test
+  void spotsOutsideTheBoardsAreNotShotFrom() {
+    ShotSimulator simulator = new ShotSimulator(8, 6, 50, 0.2, 7L);
+
+    ShotHeatmap heatmap = run(simulator, 1);
+
+    //The far corner cell is partly cut off by the rounded corner, the middle of the half is not.
+    assertTrue(heatmap.getShots(7, 5) < 50);
+    assertTrue(heatmap.getShots(7, 0) < 50);
+    assertEquals(50, heatmap.getShots(3, 2));
+  }
+
+  @Test
+  void anotherSeedGivesOtherShots() {
+    ShotHeatmap first = run(new ShotSimulator(4, 4, 100, 0.3, 1L), 1);
+    ShotHeatmap second = run(new ShotSimulator(4, 4, 100, 0.3, 2L), 1);
+
+    boolean differs = false;
+    for (int column = 0; column < 4; column++) {
+      for (int row = 0; row < 4; row++) {
+        differs |= first.getGoals(column, row) != second.getGoals(column, row)
+            || first.getSaves(column, row) != second.getSaves(column, row);
+      }
+    }
+    assertTrue(differs);
+  }
+
+  @Test
+  void emptyGridIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new ShotSimulator(0, 4, 10, 0.1, 1L));
+    assertThrows(IllegalArgumentException.class, () -> new ShotSimulator(4, 4, 10, -0.1, 1L));
+  }
+
+  private static ShotHeatmap run(ShotSimulator simulator, int threads) {
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      return simulator.run(pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
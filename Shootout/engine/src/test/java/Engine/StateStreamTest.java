@@ -0,0 +1,140 @@
+package Engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import Model.AllocationMeter;
+import Model.GameConfig;
+import Model.GameSession;
+import Model.MobileObject;
+import Model.MovementManagers.MovementManagerPlayer;
+import Model.MovementManagers.MovementManagerPuck;
+import Model.Skater;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class StateStreamTest {
+  //Half a quantization step, plus room for the rounding of the scale itself.
+  private static final double TOLERANCE = 0.5 / StateStream.POSITION_SCALE + 1e-9;
+
+  @Test
+  void decodedStateStaysWithinAQuantizationStepOfTheSession() {
+    GameSession session = new GameSession(new Skater());
+    StateStreamEncoder encoder = new StateStreamEncoder(60);
+    StateStreamDecoder decoder = new StateStreamDecoder();
+    ByteBuffer frame = ByteBuffer.allocate(StateStreamEncoder.maxFrameSize(session));
+    Random random = new Random(2024L);
+    MovementManagerPlayer skater = session.getSessionSkater().getMovementManagerPlayer();
+    MovementManagerPuck puck = session.getSessionPuck().getMovementManagerPuck();
+    GameConfig.DIRECTION[] directions = GameConfig.DIRECTION.values();
+
+    for (int i = 0; i < 10_000; i++) {
+      if (random.nextInt(20) == 0) {
+        skater.setKeyPressed(directions[random.nextInt(directions.length)], random.nextBoolean());
+      }
+      if (random.nextInt(600) == 0) {
+        puck.handleShot(random.nextDouble() * Math.PI * 2, random.nextDouble() * 5);
+      }
+      session.tick();
+      frame.clear();
+      encoder.encode(session, frame);
+      frame.flip();
+      decoder.decode(frame);
+
+      assertEquals(session.getTickCount(), decoder.getTick());
+      assertMatches(session, decoder);
+    }
+  }
+
+  @Test
+  void keyframeIsSentEveryInterval() {
+    GameSession session = new GameSession(new Skater());
+    StateStreamEncoder encoder = new StateStreamEncoder(4);
+    ByteBuffer frame = ByteBuffer.allocate(StateStreamEncoder.maxFrameSize(session));
+
+    for (int i = 0; i < 12; i++) {
+      session.tick();
+      frame.clear();
+      encoder.encode(session, frame);
+      byte expected = i % 4 == 0 ? StateStream.KEYFRAME : StateStream.DELTA;
+      assertEquals(expected, frame.get(0), "frame " + i);
+    }
+  }
+
+  @Test
+  void sessionAtRestCostsThreeBytesPerDelta() {
+    GameSession session = new GameSession(new Skater());
+    StateStreamEncoder encoder = new StateStreamEncoder(60);
+    ByteBuffer frame = ByteBuffer.allocate(StateStreamEncoder.maxFrameSize(session));
+    session.tick();
+    encoder.encode(session, frame);
+
+    session.tick();
+    frame.clear();
+
+    //Frame type, one tick since the last frame and an empty mask of changed objects.
+    assertEquals(3, encoder.encode(session, frame));
+  }
+
+  @Test
+  void requestedKeyframeResyncsANewDecoder() {
+    GameSession session = new GameSession(new Skater());
+    StateStreamEncoder encoder = new StateStreamEncoder(1_000);
+    ByteBuffer frame = ByteBuffer.allocate(StateStreamEncoder.maxFrameSize(session));
+    session.getSessionPuck().getMovementManagerPuck().handleShot(0.4, 5);
+    for (int i = 0; i < 30; i++) {
+      session.tick();
+      frame.clear();
+      encoder.encode(session, frame);
+    }
+
+    StateStreamDecoder late = new StateStreamDecoder();
+    encoder.requestKeyframe();
+    session.tick();
+    frame.clear();
+    encoder.encode(session, frame);
+    frame.flip();
+    late.decode(frame);
+
+    assertTrue(late.isSynced());
+    assertMatches(session, late);
+  }
+
+  @Test
+  void deltaBeforeAnyKeyframeIsRejected() {
+    ByteBuffer delta = ByteBuffer.wrap(new byte[] {StateStream.DELTA, 1, 0});
+
+    assertThrows(IllegalStateException.class, () -> new StateStreamDecoder().decode(delta));
+  }
+
+  @Test
+  void encodingAllocatesNothing() {
+    GameSession session = new GameSession(new Skater());
+    session.getSessionPuck().getMovementManagerPuck().handleShot(0.4, 5);
+    StateStreamEncoder encoder = new StateStreamEncoder(60);
+    ByteBuffer frame = ByteBuffer.allocateDirect(StateStreamEncoder.maxFrameSize(session));
+
+    long allocated = AllocationMeter.bytesAllocatedBy(() -> {
+      for (int i = 0; i < 5_000; i++) {
+        session.tick();
+        frame.clear();
+        encoder.encode(session, frame);
+      }
+    });
+
+    assertEquals(0, allocated);
+  }
+
+  private static void assertMatches(GameSession session, StateStreamDecoder decoder) {
+    MobileObject[] objects = session.getMobileObjects();
+    assertEquals(objects.length, decoder.getObjectCount());
+    for (int i = 0; i < objects.length; i++) {
+      assertEquals(objects[i].getPosition().getXCoord(), decoder.getX(i), TOLERANCE);
+      assertEquals(objects[i].getPosition().getYCoord(), decoder.getY(i), TOLERANCE);
+      assertEquals(objects[i].getXVelocity(), decoder.getXVelocity(i), TOLERANCE);
+      assertEquals(objects[i].getYVelocity(), decoder.getYVelocity(i), TOLERANCE);
+    }
+  }
+}
@@ -1,4 +0,0 @@
-package Controller;
-
-public class Controller {
-}
@@ -1,5 +0,0 @@
-package Model;
-
-public class Goalie {
-
-}
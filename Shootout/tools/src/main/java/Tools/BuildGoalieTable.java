@@ -0,0 +1,46 @@
+package Tools;
+
+import Engine.GoalieTableBuilder;
+import Model.MovementManagers.GoalieTable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Offline build of the table that positions AI goalies, written to a file that servers
+ * memory-map at startup.
+ *
+ * <p>Usage: BuildGoalieTable [file] [samplesPerCell] [threads]
+ */
+public class BuildGoalieTable {
+  private static final int DEPTH_CELLS = 32;
+  private static final int Y_CELLS = 16;
+  private static final int SPEED_CELLS = 12;
+  private static final int HEADING_CELLS = 32;
+  private static final long SEED = 42;
+
+  public static void main(String[] args) throws IOException {
+    Path file = Paths.get(args.length > 0 ? args[0] : "goalie-table.bin");
+    int samples = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+    int threads = args.length > 2 ? Integer.parseInt(args[2])
+        : Runtime.getRuntime().availableProcessors();
+
+    GoalieTable table = GoalieTable.create(DEPTH_CELLS, Y_CELLS, SPEED_CELLS, HEADING_CELLS);
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    long start = System.nanoTime();
+    new GoalieTableBuilder(table, samples, SEED).build(pool);
+    double seconds = (System.nanoTime() - start) / 1e9;
+    pool.shutdown();
+    table.write(file);
+
+    double saveProbability = 0;
+    for (int cell = 0; cell < table.getCellCount(); cell++) {
+      saveProbability += table.getSaveProbability(cell);
+    }
+    System.out.printf("%d cells x %d samples in %.1f s on %d threads%n", table.getCellCount(),
+        samples, seconds, threads);
+    System.out.printf("mean save probability %.3f, written to %s%n",
+        saveProbability / table.getCellCount(), file.toAbsolutePath());
+  }
+}
@@ -0,0 +1,187 @@
+package Tools;
+
+import Engine.GameServer;
+import Engine.ServerProtocol;
+import Engine.StateStreamDecoder;
+import Model.GameConfig;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Random;
+
+/**
+ * Load generator for GameServer. Opens many client connections from one selector thread. Every
+ * client changes its held keys and shoots now and then, and decodes every state frame it is sent.
+ * Given no address, a server is started in this process on a loopback port, so the whole setup
+ * can be tested on one machine, and the server's tick latency is reported along with the client
+ * side numbers.
+ *
+ * <p>Usage: LoadGenerator [clients] [seconds] [worker threads | host port]
+ */
+public class LoadGenerator {
+  private static final long INPUT_INTERVAL_NANOS = 50_000_000L;
+
+  private final Random random = new Random(2024L);
+  private long framesReceived;
+  private long bytesReceived;
+
+  /**
+   * One simulated player.
+   */
+  private static final class Client {
+    private final SocketChannel channel;
+    private final StateStreamDecoder decoder = new StateStreamDecoder();
+    private final ByteBuffer inbound = ByteBuffer.allocateDirect(16 * 1024);
+    private final ByteBuffer outbound = ByteBuffer.allocate(ServerProtocol.MAX_INPUT_BYTES * 4);
+
+    private Client(SocketChannel channel) {
+      this.channel = channel;
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    int clients = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+    int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+    GameServer server = null;
+    Thread serverThread = null;
+    InetSocketAddress address;
+    if (args.length > 3) {
+      address = new InetSocketAddress(args[2], Integer.parseInt(args[3]));
+    } else {
+      int workers = args.length > 2 ? Integer.parseInt(args[2])
+          : Runtime.getRuntime().availableProcessors();
+      server = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), workers,
+          GameConfig.TICK_RATE);
+      GameServer running = server;
+      serverThread = new Thread(() -> {
+        try {
+          running.run();
+        } catch (IOException e) {
+          e.printStackTrace();
+        }
+      }, "game-server");
+      serverThread.start();
+      address = server.getLocalAddress();
+    }
+
+    new LoadGenerator().run(address, clients, seconds, server);
+
+    if (server != null) {
+      server.close();
+      serverThread.join();
+      System.out.printf("Server: %d ticks, max tick latency %.2f ms, %d dropped frames%n",
+          server.getTickCount(), server.getMaxLatencyNanos() / 1e6, server.getDroppedFrames());
+    }
+  }
+
+  private void run(InetSocketAddress address, int clientCount, int seconds, GameServer server)
+      throws IOException {
+    try (Selector selector = Selector.open()) {
+      Client[] clients = new Client[clientCount];
+      for (int i = 0; i < clientCount; i++) {
+        SocketChannel channel = SocketChannel.open(address);
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        clients[i] = new Client(channel);
+        channel.register(selector, SelectionKey.OP_READ, clients[i]);
+      }
+      System.out.printf("Connected %d clients to %s%n", clientCount, address);
+
+      long start = System.nanoTime();
+      long end = start + seconds * 1_000_000_000L;
+      long nextInput = start;
+      long nextReport = start + 1_000_000_000L;
+      long lastFrames = 0;
+      while (System.nanoTime() < end) {
+        selector.select(5);
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+          SelectionKey key = keys.next();
+          keys.remove();
+          readFrames((Client) key.attachment());
+        }
+
+        long now = System.nanoTime();
+        if (now >= nextInput) {
+          sendInputs(clients);
+          nextInput += INPUT_INTERVAL_NANOS;
+        }
+        if (now >= nextReport) {
+          System.out.printf("frames/s %d", framesReceived - lastFrames);
+          if (server != null) {
+            System.out.print(" | ");
+            ShootoutServer.printStats(server);
+          } else {
+            System.out.println();
+          }
+          lastFrames = framesReceived;
+          nextReport += 1_000_000_000L;
+        }
+      }
+
+      double elapsed = (System.nanoTime() - start) / 1e9;
+      System.out.printf("Received %d frames (%.0f/s), %.1f bytes per frame%n", framesReceived,
+          framesReceived / elapsed, (double) bytesReceived / Math.max(1, framesReceived));
+      for (Client client : clients) {
+        client.channel.close();
+      }
+    }
+  }
+
+  /**
+   * Give roughly one client in ten a new set of held keys, and have a few of them shoot.
+   */
+  private void sendInputs(Client[] clients) throws IOException {
+    for (Client client : clients) {
+      int roll = random.nextInt(100);
+      if (roll >= 10) {
+        continue;
+      }
+      ByteBuffer outbound = client.outbound;
+      outbound.clear();
+      ServerProtocol.putKeys(outbound, random.nextInt(16));
+      if (roll == 0) {
+        ServerProtocol.putShot(outbound, random.nextDouble() * Math.PI * 2,
+            random.nextDouble() * 5);
+      }
+      outbound.flip();
+      while (outbound.hasRemaining()) {
+        client.channel.write(outbound);
+      }
+    }
+  }
+
+  /**
+   * Read what the server sent and decode every complete length-prefixed frame.
+   */
+  private void readFrames(Client client) throws IOException {
+    ByteBuffer inbound = client.inbound;
+    int read = client.channel.read(inbound);
+    if (read < 0) {
+      throw new IOException("Server closed the connection");
+    }
+    bytesReceived += read;
+    inbound.flip();
+    while (inbound.remaining() >= ServerProtocol.FRAME_HEADER_BYTES) {
+      int length = inbound.getShort(inbound.position()) & 0xFFFF;
+      if (inbound.remaining() < ServerProtocol.FRAME_HEADER_BYTES + length) {
+        break;
+      }
+      int frameEnd = inbound.position() + ServerProtocol.FRAME_HEADER_BYTES + length;
+      int limit = inbound.limit();
+      inbound.position(inbound.position() + ServerProtocol.FRAME_HEADER_BYTES);
+      inbound.limit(frameEnd);
+      client.decoder.decode(inbound);
+      inbound.limit(limit);
+      inbound.position(frameEnd);
+      framesReceived++;
+    }
+    inbound.compact();
+  }
+}
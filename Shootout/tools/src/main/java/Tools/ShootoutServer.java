@@ -0,0 +1,49 @@
+package Tools;
+
+import Engine.GameServer;
+import Model.GameConfig;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * Runs a GameServer and prints its tick count and tick latency once a second.
+ *
+ * <p>Usage: ShootoutServer [port] [worker threads] [tick rate]
+ */
+public class ShootoutServer {
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : 7777;
+    int workers = args.length > 1 ? Integer.parseInt(args[1])
+        : Runtime.getRuntime().availableProcessors();
+    double tickRate = args.length > 2 ? Double.parseDouble(args[2]) : GameConfig.TICK_RATE;
+
+    GameServer server = new GameServer(new InetSocketAddress(port), workers, tickRate);
+    Thread serverThread = new Thread(() -> {
+      try {
+        server.run();
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+    }, "game-server");
+    serverThread.start();
+    System.out.printf("Listening on %s with %d workers at %.0f ticks/s%n",
+        server.getLocalAddress(), workers, tickRate);
+
+    while (serverThread.isAlive()) {
+      Thread.sleep(1000);
+      printStats(server);
+    }
+  }
+
+  /**
+   * Print one line of server statistics.
+   * @param server server to report on.
+   */
+  static void printStats(GameServer server) {
+    System.out.printf("ticks %d | tick latency p50 %.2f ms, p99 %.2f ms, max %.2f ms | "
+            + "dropped frames %d%n", server.getTickCount(), server.getWindowP50Nanos() / 1e6,
+        server.getWindowP99Nanos() / 1e6, server.getWindowMaxNanos() / 1e6,
+        server.getDroppedFrames());
+  }
+}
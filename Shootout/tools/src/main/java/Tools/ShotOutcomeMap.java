@@ -0,0 +1,41 @@
+package Tools;
+
+import Engine.ShotHeatmap;
+import Engine.ShotSimulator;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless Monte Carlo run of shots on the right net, printed as a heatmap of goal percentages
+ * over the attacking half of the rink, followed by the totals and the throughput.
+ *
+ * <p>Usage: ShotOutcomeMap [columns] [rows] [shotsPerCell] [threads] [seed]
+ */
+public class ShotOutcomeMap {
+  private static final double AIM_SPREAD = 0.35;
+
+  public static void main(String[] args) {
+    int columns = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+    int rows = args.length > 1 ? Integer.parseInt(args[1]) : 17;
+    int shotsPerCell = args.length > 2 ? Integer.parseInt(args[2]) : 3000;
+    int threads = args.length > 3 ? Integer.parseInt(args[3])
+        : Runtime.getRuntime().availableProcessors();
+    long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+
+    ShotSimulator simulator = new ShotSimulator(columns, rows, shotsPerCell, AIM_SPREAD, seed);
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    //A short run first, so the timed run measures compiled code.
+    new ShotSimulator(columns, rows, Math.max(1, shotsPerCell / 10), AIM_SPREAD, seed).run(pool);
+
+    long start = System.nanoTime();
+    ShotHeatmap heatmap = simulator.run(pool);
+    double seconds = (System.nanoTime() - start) / 1e9;
+    pool.shutdown();
+
+    heatmap.print(System.out);
+    long shots = heatmap.getTotalShots();
+    System.out.printf("%d shots: %.1f%% goals, %.1f%% saves%n", shots,
+        100.0 * heatmap.getTotalGoals() / shots, 100.0 * heatmap.getTotalSaves() / shots);
+    System.out.printf("%.2f s on %d threads, %.0f shots/minute%n", seconds, threads,
+        shots / seconds * 60);
+  }
+}
@@ -0,0 +1,184 @@
+package Tools;
+
+import Engine.StateStreamDecoder;
+import Engine.StateStreamEncoder;
+import Model.GameConfig;
+import Model.GameSession;
+import Model.MobileObject;
+import Model.MovementManagers.MovementManagerPlayer;
+import Model.MovementManagers.MovementManagerPuck;
+import Model.Skater;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Random;
+
+/**
+ * Headless benchmark of the delta-compressed state stream over a loopback socket. A session is
+ * played with scripted input, every tick is encoded and written to the socket behind a two byte
+ * length, and a reader thread decodes the frames on the other end. Reports the bytes sent per
+ * tick next to the size of the raw state, and the time spent encoding each tick. At the end the
+ * decoded state is compared with the session, and the run fails if any value is off by more than
+ * the quantization step.
+ *
+ * <p>Usage: StateStreamBenchmark [ticks] [keyframe interval]
+ */
+public class StateStreamBenchmark {
+
+  public static void main(String[] args) throws Exception {
+    int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+    int keyframeInterval = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+
+    double inMemoryNanos = encodeInMemory(ticks);
+
+    GameSession session = new GameSession(new Skater());
+    StateStreamEncoder encoder = new StateStreamEncoder(keyframeInterval);
+    ByteBuffer frame = ByteBuffer.allocateDirect(StateStreamEncoder.maxFrameSize(session) + 2);
+    StateStreamDecoder decoder = new StateStreamDecoder();
+
+    try (ServerSocketChannel server = ServerSocketChannel.open()) {
+      server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+      SocketChannel sender = SocketChannel.open(server.getLocalAddress());
+      sender.socket().setTcpNoDelay(true);
+      SocketChannel receiver = server.accept();
+      Thread reader = new Thread(() -> readFrames(receiver, decoder), "stream-reader");
+      reader.start();
+
+      Random random = new Random(2024L);
+      MovementManagerPlayer skater = session.getSessionSkater().getMovementManagerPlayer();
+      MovementManagerPuck puck = session.getSessionPuck().getMovementManagerPuck();
+      GameConfig.DIRECTION[] directions = GameConfig.DIRECTION.values();
+      long bytes = 0;
+      long encodeNanos = 0;
+      long start = System.nanoTime();
+      for (int i = 0; i < ticks; i++) {
+        if (random.nextInt(20) == 0) {
+          skater.setKeyPressed(directions[random.nextInt(directions.length)], random.nextBoolean());
+        }
+        if (random.nextInt(600) == 0) {
+          puck.handleShot(random.nextDouble() * Math.PI * 2, random.nextDouble() * 5);
+        }
+        session.tick();
+
+        frame.clear();
+        frame.position(2);
+        long encodeStart = System.nanoTime();
+        int length = encoder.encode(session, frame);
+        encodeNanos += System.nanoTime() - encodeStart;
+        frame.putShort(0, (short) length);
+        frame.flip();
+        writeFully(sender, frame);
+        bytes += length;
+      }
+      frame.clear();
+      frame.putShort((short) 0);
+      frame.flip();
+      writeFully(sender, frame);
+      reader.join();
+      double seconds = (System.nanoTime() - start) / 1e9;
+      sender.close();
+
+      int objects = session.getMobileObjects().length;
+      System.out.printf("%d ticks, %d objects, keyframe every %d ticks%n", ticks, objects,
+          keyframeInterval);
+      System.out.printf("bytes per tick: %.2f (raw doubles: %d)%n", (double) bytes / ticks,
+          objects * 4 * Double.BYTES);
+      System.out.printf("encode ns per tick: %.1f between socket writes, %.1f in memory%n",
+          (double) encodeNanos / ticks, inMemoryNanos);
+      System.out.printf("wall time: %.3f s (%.0f ticks/s through the socket)%n", seconds,
+          ticks / seconds);
+    }
+
+    if (decoder.getTick() != session.getTickCount() || !matches(session, decoder)) {
+      System.out.println("Decoded state does not match the session!");
+      System.exit(1);
+    }
+    System.out.println("Decoded state matches the session.");
+  }
+
+  /**
+   * Encode a throwaway session into memory, first to warm up the encoder so that the socket run is
+   * not timing the interpreter, then to time encoding without any socket calls in between.
+   * @return nanoseconds spent encoding each tick in the second half.
+   */
+  private static double encodeInMemory(int ticks) {
+    GameSession session = new GameSession(new Skater());
+    session.getSessionPuck().getMovementManagerPuck().handleShot(0.4, 5);
+    StateStreamEncoder encoder = new StateStreamEncoder(60);
+    ByteBuffer frame = ByteBuffer.allocate(StateStreamEncoder.maxFrameSize(session));
+    long encodeNanos = 0;
+    for (int i = 0; i < ticks * 2; i++) {
+      session.tick();
+      frame.clear();
+      long encodeStart = System.nanoTime();
+      encoder.encode(session, frame);
+      if (i >= ticks) {
+        encodeNanos += System.nanoTime() - encodeStart;
+      }
+    }
+    return (double) encodeNanos / ticks;
+  }
+
+  /**
+   * Read length-prefixed frames until the zero length end marker, decoding each one.
+   */
+  private static void readFrames(SocketChannel channel, StateStreamDecoder decoder) {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+    try (SocketChannel in = channel) {
+      while (true) {
+        while (buffer.position() < 2 || buffer.position() < 2 + (buffer.getShort(0) & 0xFFFF)) {
+          if (buffer.position() >= 2 && buffer.getShort(0) == 0) {
+            return;
+          }
+          if (in.read(buffer) < 0) {
+            return;
+          }
+        }
+        int end = buffer.position();
+        int consumed = 0;
+        while (end - consumed >= 2) {
+          int length = buffer.getShort(consumed) & 0xFFFF;
+          if (length == 0) {
+            return;
+          }
+          if (end - consumed - 2 < length) {
+            break;
+          }
+          buffer.limit(consumed + 2 + length);
+          buffer.position(consumed + 2);
+          decoder.decode(buffer);
+          consumed += 2 + length;
+          buffer.limit(buffer.capacity());
+        }
+        buffer.limit(end);
+        buffer.position(consumed);
+        buffer.compact();
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void writeFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static boolean matches(GameSession session, StateStreamDecoder decoder) {
+    double positionStep = 0.5 / 256.0 + 1e-9;
+    MobileObject[] objects = session.getMobileObjects();
+    for (int i = 0; i < objects.length; i++) {
+      if (Math.abs(objects[i].getPosition().getXCoord() - decoder.getX(i)) > positionStep
+          || Math.abs(objects[i].getPosition().getYCoord() - decoder.getY(i)) > positionStep
+          || Math.abs(objects[i].getXVelocity() - decoder.getXVelocity(i)) > positionStep
+          || Math.abs(objects[i].getYVelocity() - decoder.getYVelocity(i)) > positionStep) {
+        return false;
+      }
+    }
+    return true;
+  }
+}